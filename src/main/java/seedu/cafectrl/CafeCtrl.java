@@ -1,16 +1,32 @@
 package seedu.cafectrl;
 
+import seedu.cafectrl.command.AddOrderCommand;
 import seedu.cafectrl.command.Command;
+import seedu.cafectrl.command.IncorrectCommand;
 import seedu.cafectrl.data.CurrentDate;
 import seedu.cafectrl.data.Menu;
 import seedu.cafectrl.data.Pantry;
 import seedu.cafectrl.data.Sales;
+import seedu.cafectrl.parser.ImportRecordParser;
 import seedu.cafectrl.parser.Parser;
 import seedu.cafectrl.parser.ParserUtil;
+import seedu.cafectrl.parser.exception.ParserException;
+import seedu.cafectrl.storage.AutosaveScheduler;
+import seedu.cafectrl.storage.LoadedFile;
+import seedu.cafectrl.storage.OrderJournal;
 import seedu.cafectrl.storage.Storage;
+import seedu.cafectrl.ui.ErrorMessages;
+import seedu.cafectrl.ui.Messages;
 import seedu.cafectrl.ui.Ui;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 import java.util.logging.FileHandler;
@@ -24,12 +40,17 @@ import java.util.logging.SimpleFormatter;
 public class CafeCtrl {
 
     private static final Logger logger = Logger.getLogger(CafeCtrl.class.getName());
+    private static final int LOADING_THREAD_COUNT = 3;
+    private static final String IMPORT_OPTION = "--import";
+    private static final int IMPORT_BATCH_SIZE = 1000;
+    private static final int MAX_LISTED_REJECTS = 10;
     private final Ui ui;
     private final Storage storage;
     private final Pantry pantry;
     private final Menu menu;
     private final Sales sales;
     private final CurrentDate currentDate;
+    private final AutosaveScheduler autosaveScheduler;
 
     private Command command;
 
@@ -40,13 +61,29 @@ public class CafeCtrl {
         initLogger();
         this.ui = new Ui();
         this.storage = new Storage(ui);
-        this.pantry = this.storage.loadPantryStock();
-        this.menu = this.storage.loadMenu();
-        this.sales = this.storage.loadOrderList(menu);
+
+        //save files are read and decoded concurrently, but shown to the user one after another
+        ExecutorService loadingExecutor = Executors.newFixedThreadPool(LOADING_THREAD_COUNT);
+        try {
+            CompletableFuture<LoadedFile<Pantry>> pantryFile =
+                    CompletableFuture.supplyAsync(storage::decodePantryStockFile, loadingExecutor);
+            CompletableFuture<LoadedFile<Menu>> menuFile =
+                    CompletableFuture.supplyAsync(storage::decodeMenuFile, loadingExecutor);
+            CompletableFuture<Menu> loadedMenu = menuFile.thenApply(LoadedFile::getData);
+            CompletableFuture<LoadedFile<Sales>> ordersFile =
+                    CompletableFuture.supplyAsync(() -> storage.decodeOrderListFile(loadedMenu), loadingExecutor);
+
+            this.pantry = storage.showLoadedPantryStock(pantryFile.join());
+            this.menu = storage.showLoadedMenu(menuFile.join());
+            this.sales = storage.showLoadedOrderList(ordersFile.join());
+        } finally {
+            loadingExecutor.shutdown();
+        }
         this.currentDate = new CurrentDate(sales);
+        this.autosaveScheduler = new AutosaveScheduler(storage, menu, pantry, sales);
 
         logger.info( "CafeCtrl initialised successfully");
-        assert sales.getOrderLists().size() == currentDate.getCurrentDay() + 1;
+        assert sales.getDaysAccounted() == currentDate.getCurrentDay();
     }
     
     /**
@@ -58,13 +95,13 @@ public class CafeCtrl {
     private void run() {
         ui.showWelcome();
         ui.printLine();
+        ParserUtil parserUtil = new Parser(storage.getOrderJournal());
 
         do {
             try {
                 String fullUserInput = ui.receiveUserInput();
-                ParserUtil parserUtil = new Parser();
                 command = parserUtil.parseCommand(menu, fullUserInput, ui, pantry, sales, currentDate);
-                command.execute();
+                autosaveScheduler.execute(command);
                 logger.info(command.getClass().getName() + " executed.");
             } catch (Exception e) {
                 logger.log(Level.WARNING, "Error executing command: " + e.getMessage(), e);
@@ -74,10 +111,128 @@ public class CafeCtrl {
             }
         } while (!command.isExit());
 
+        autosaveScheduler.stop();
         storage.saveAll(menu, sales, pantry);
         logger.info("CafeCtrl terminated.");
     }
 
+    /**
+     * Imports the orders and purchases of ingredients in a file, without any interaction with the user.
+     *
+     * <p> Every record is applied through the same command the user would have entered for it, but the output
+     * of the commands is discarded, and orders are written to the journal in batches instead of one by one.
+     * Only a summary of the import and the records that were rejected are shown.</p>
+     *
+     * @param importFilePath path of the CSV or JSON lines file to be imported
+     */
+    private void runImport(String importFilePath) {
+        ui.showToUser(Messages.IMPORT_STARTED + importFilePath);
+        OrderJournal orderJournal = storage.getOrderJournal();
+        ParserUtil parserUtil = new Parser(orderJournal);
+        ImportRecordParser recordParser = ImportRecordParser.forFile(importFilePath);
+        ArrayList<String> listedRejects = new ArrayList<>();
+        int recordCount = 0;
+        int rejectedCount = 0;
+        int incompleteOrderCount = 0;
+
+        //only warnings such as rejected records are logged until the imported records are saved
+        Level logLevel = logger.getLevel();
+        logger.setLevel(Level.WARNING);
+
+        //the output of every command is discarded, while rejected records are still shown through ui
+        Ui quietUi = new Ui(true);
+        pantry.setUi(quietUi);
+        long startTime = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(importFilePath))) {
+            orderJournal.startBatch();
+            try {
+                String line;
+                int lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (recordParser.isSkipped(line)) {
+                        continue;
+                    }
+
+                    recordCount++;
+                    String rejectReason = importRecord(line, recordParser, parserUtil, quietUi);
+                    if (rejectReason != null) {
+                        rejectedCount++;
+                        logger.warning("Rejected import record on line " + lineNumber + ": " + rejectReason);
+                        if (listedRejects.size() < MAX_LISTED_REJECTS) {
+                            listedRejects.add(String.format(Messages.IMPORT_REJECTED_RECORD, lineNumber,
+                                    rejectReason));
+                        }
+                    } else if (command instanceof AddOrderCommand
+                            && !((AddOrderCommand) command).isOrderComplete()) {
+                        incompleteOrderCount++;
+                    }
+
+                    if (recordCount % IMPORT_BATCH_SIZE == 0) {
+                        endImportBatch(orderJournal);
+                        orderJournal.startBatch();
+                    }
+                }
+            } finally {
+                endImportBatch(orderJournal);
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Unable to read import file: " + e.getMessage(), e);
+            ui.showToUser(ErrorMessages.IMPORT_FILE_NOT_READ + e.getMessage());
+        }
+
+        pantry.setUi(ui);
+        ui.showImportSummary(recordCount - rejectedCount, recordCount, System.nanoTime() - startTime);
+        ui.showRejectedRecords(rejectedCount, listedRejects);
+        ui.showIncompleteImportedOrders(incompleteOrderCount);
+
+        autosaveScheduler.stop();
+        storage.saveAll(menu, sales, pantry);
+        logger.setLevel(logLevel);
+        logger.info("CafeCtrl import finished.");
+    }
+
+    /**
+     * Writes the imported orders held back in the current batch to the order journal.
+     * Orders that cannot be written are held back and written with the next batch.
+     *
+     * @param orderJournal journal that the imported orders are held back in
+     */
+    private void endImportBatch(OrderJournal orderJournal) {
+        try {
+            orderJournal.endBatch();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Unable to journal imported orders: " + e.getMessage(), e);
+            ui.showToUser(e.getMessage());
+        }
+    }
+
+    /**
+     * Applies a record of the import file through the command the user would have entered for it
+     *
+     * @param line line of the import file holding the record
+     * @param recordParser parser of the records of the import file
+     * @param parserUtil parser of the commands
+     * @param quietUi Ui that discards the output of the command
+     * @return reason the record is rejected, null if the record is applied
+     */
+    private String importRecord(String line, ImportRecordParser recordParser, ParserUtil parserUtil, Ui quietUi) {
+        try {
+            String userInput = recordParser.parseRecord(line);
+            command = parserUtil.parseCommand(menu, userInput, quietUi, pantry, sales, currentDate);
+            if (command instanceof IncorrectCommand) {
+                return ((IncorrectCommand) command).feedbackToUser;
+            }
+            autosaveScheduler.execute(command);
+            return null;
+        } catch (ParserException e) {
+            return e.getMessage();
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Error importing record: " + e.getMessage(), e);
+            return e.getMessage();
+        }
+    }
+
     private void initLogger() {
         logger.setUseParentHandlers(false);
         try {
@@ -92,6 +247,16 @@ public class CafeCtrl {
     }
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(IMPORT_OPTION)) {
+            if (args.length != 2) {
+                new Ui().showToUser(ErrorMessages.MISSING_IMPORT_FILE);
+                return;
+            }
+            CafeCtrl cafeCtrl = new CafeCtrl();
+            cafeCtrl.runImport(args[1]);
+            return;
+        }
+
         CafeCtrl cafeCtrl = new CafeCtrl();
         cafeCtrl.run();
     }
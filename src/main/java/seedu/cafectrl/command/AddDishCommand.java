@@ -3,8 +3,17 @@ package seedu.cafectrl.command;
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.Menu;
 import seedu.cafectrl.data.dish.Dish;
+import seedu.cafectrl.data.dish.Ingredient;
+import seedu.cafectrl.parser.ArgumentTokenizer;
+import seedu.cafectrl.parser.CommandContext;
+import seedu.cafectrl.parser.CommandRegistry;
+import seedu.cafectrl.parser.Parser;
+import seedu.cafectrl.parser.exception.ParserException;
+import seedu.cafectrl.ui.ErrorMessages;
 import seedu.cafectrl.ui.Ui;
 
+import java.util.ArrayList;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 //@@author DextheChik3n
 /**
@@ -18,6 +27,9 @@ public class AddDishCommand extends Command {
             + "Example:"
             + COMMAND_WORD + " name/chicken rice price/3.00 ingredient/rice qty/200g, ingredient/chicken qty/100g";
     private static Logger logger = Logger.getLogger(CafeCtrl.class.getName());
+    private static final int DISH_NAME_TOKEN_INDEX = 0;
+    private static final int PRICE_TOKEN_INDEX = 1;
+    private static final int FIRST_INGREDIENT_TOKEN_INDEX = 2;
     protected Menu menu;
     protected Ui ui;
 
@@ -27,10 +39,100 @@ public class AddDishCommand extends Command {
         this.menu = menu;
         this.ui = ui;
     }
+
+    /**
+     * Overrides the isMenuModified() method which returns false
+     *
+     * @return true
+     */
+    @Override
+    public boolean isMenuModified() {
+        return true;
+    }
+
     @Override
     public void execute() {
         logger.info("Executing AddDishCommand...");
         menu.addDish(dish);
         ui.printAddDishMessage(dish);
     }
+
+    /**
+     * Registers the factory of the command under its command word
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.register(COMMAND_WORD, AddDishCommand::prepareCommand);
+    }
+
+    /**
+     * Parses the user input text into ingredients to form a <code>Dish</code>
+     * that is added to the <code>Menu</code>
+     *
+     * @param arguments string that matches group arguments
+     * @param context objects of the current session, holding the menu the dish is added to
+     * @return new AddDishCommand
+     */
+    private static Command prepareCommand(String arguments, CommandContext context) {
+        Menu menu = context.getMenu();
+        Ui ui = context.getUi();
+        try {
+            ArgumentTokenizer tokens = detectErrorInPreAddParse(arguments);
+
+            // To retrieve specific arguments from arguments
+            //the dishName needs .trim() because whitespaces are accepted after the "name/" argument
+            String dishName = tokens.getValue(DISH_NAME_TOKEN_INDEX).trim().toLowerCase();
+            long dishPriceInCents = Parser.parsePriceToCents(tokens.getValue(PRICE_TOKEN_INDEX).trim());
+
+            Parser.detectErrorPostDishNameParse(dishName, menu, true);
+
+            ArrayList<Ingredient> ingredients = Parser.parseIngredients(tokens, FIRST_INGREDIENT_TOKEN_INDEX,
+                    true, menu);
+            Dish dish = new Dish(dishName, ingredients, dishPriceInCents);
+
+            return new AddDishCommand(dish, menu, ui);
+        } catch (NullPointerException e) {
+            logger.log(Level.WARNING, e.getMessage(), e);
+            return new IncorrectCommand(ErrorMessages.NULL_NAME_DETECTED_MESSAGE, ui);
+        } catch (NumberFormatException e) {
+            logger.log(Level.WARNING, e.getMessage(), e);
+            return new IncorrectCommand(ErrorMessages.INVALID_INGREDIENT_QTY, ui);
+        } catch (Exception e) {
+            logger.log(Level.WARNING, e.getMessage(), e);
+            return new IncorrectCommand(e.getMessage(), ui);
+        }
+    }
+
+    /**
+     * Tokenizes the arguments of the add command and checks that they are in the order
+     * name/ price/ ingredient/ qty/, followed by more ingredients separated by ','
+     *
+     * @param arguments string that matches group arguments
+     * @return tokens of the arguments
+     * @throws ParserException if an argument is repeated or the arguments are not in the correct order
+     */
+    private static ArgumentTokenizer detectErrorInPreAddParse(String arguments) throws ParserException {
+        ArgumentTokenizer tokens = new ArgumentTokenizer(arguments, Parser.INGREDIENT_DIVIDER,
+                Parser.ADD_DISH_NAME_ARGUMENT, Parser.ADD_DISH_PRICE_ARGUMENT, Parser.INGREDIENT_ARGUMENT,
+                Parser.QTY_ARGUMENT);
+        if (tokens.countPrefix(Parser.ADD_DISH_NAME_ARGUMENT) > 1) {
+            logger.log(Level.WARNING, "Repeated dish/ argument!");
+            throw new ParserException(ErrorMessages.REPEATED_NAME_ARGUMENT);
+        } else if (tokens.countPrefix(Parser.ADD_DISH_PRICE_ARGUMENT) > 1) {
+            logger.log(Level.WARNING, "Repeated price/ argument!");
+            throw new ParserException(ErrorMessages.REPEATED_PRICE_ARGUMENT);
+        }
+
+        // Checks whether the overall order of add arguments is correct
+        int mismatchedTokenIndex = tokens.findMismatch(DISH_NAME_TOKEN_INDEX,
+                Parser.ADD_DISH_NAME_ARGUMENT, Parser.ADD_DISH_PRICE_ARGUMENT, Parser.INGREDIENT_ARGUMENT);
+        if (mismatchedTokenIndex != ArgumentTokenizer.NO_MISMATCH) {
+            int errorPosition = tokens.getPosition(mismatchedTokenIndex);
+            logger.log(Level.WARNING, "Unexpected add argument at position " + errorPosition + "!");
+            throw new ParserException(ErrorMessages.INVALID_ADD_DISH_FORMAT + MESSAGE_USAGE, errorPosition);
+        }
+
+        return tokens;
+    }
 }
@@ -2,16 +2,28 @@ package seedu.cafectrl.command;
 
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.Menu;
+import seedu.cafectrl.data.Money;
 import seedu.cafectrl.data.Order;
 import seedu.cafectrl.data.OrderList;
 import seedu.cafectrl.data.Pantry;
 import seedu.cafectrl.data.Chef;
+import seedu.cafectrl.data.Sales;
 
 import seedu.cafectrl.data.dish.Dish;
+import seedu.cafectrl.parser.ArgumentTokenizer;
+import seedu.cafectrl.parser.CommandContext;
+import seedu.cafectrl.parser.CommandRegistry;
+import seedu.cafectrl.parser.Parser;
+import seedu.cafectrl.parser.exception.ParserException;
+import seedu.cafectrl.storage.OrderJournal;
+import seedu.cafectrl.ui.ErrorMessages;
 import seedu.cafectrl.ui.Ui;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.text.DecimalFormat;
 
 public class AddOrderCommand extends Command {
     public static final String COMMAND_WORD = "add_order";
@@ -22,37 +34,163 @@ public class AddOrderCommand extends Command {
             + "name/chicken rice qty/2";
     private static Logger logger = Logger.getLogger(CafeCtrl.class.getName());
     protected Pantry pantry;
-    protected OrderList orderList;
+    private final Sales sales;
     protected Menu menu;
-    private final Ui ui;
-    private final Order order;
-    private final DecimalFormat dollarValue = new DecimalFormat("0.00");
+    protected final Ui ui;
+    protected final ArrayList<Order> ticket;
+    private final int day;
+    private final OrderJournal orderJournal;
 
     public AddOrderCommand(Order order, Ui ui, Pantry pantry, OrderList orderList, Menu menu) {
-        this.order  = order;
+        this(order, ui, pantry, new Sales(orderList), menu, 0, null);
+    }
+
+    /**
+     * Constructor for an AddOrderCommand that also appends the order to the order journal
+     *
+     * @param sales sales that the order list of the day is taken from once the command is executed
+     * @param day index of the day the order is made on
+     * @param orderJournal journal that the order is appended to once it is processed, null to skip journaling
+     */
+    public AddOrderCommand(Order order, Ui ui, Pantry pantry, Sales sales, Menu menu,
+            int day, OrderJournal orderJournal) {
+        this(new ArrayList<>(List.of(order)), ui, pantry, sales, menu, day, orderJournal);
+    }
+
+    /**
+     * Constructor for a command that adds every order of a ticket, the orders are cooked together
+     *
+     * @param ticket orders to be added
+     * @param sales sales that the order list of the day is taken from once the command is executed
+     * @param day index of the day the orders are made on
+     * @param orderJournal journal that the orders are appended to once they are processed, null to skip journaling
+     */
+    protected AddOrderCommand(ArrayList<Order> ticket, Ui ui, Pantry pantry, Sales sales, Menu menu,
+            int day, OrderJournal orderJournal) {
+        this.ticket = ticket;
         this.ui = ui;
         this.pantry = pantry;
-        this.orderList = orderList;
+        this.sales = sales;
         this.menu = menu;
+        this.day = day;
+        this.orderJournal = orderJournal;
+    }
+
+    /**
+     * Overrides the isPantryModified() method which returns false
+     *
+     * @return true
+     */
+    @Override
+    public boolean isPantryModified() {
+        return true;
     }
+
+    /**
+     * Overrides the isSalesModified() method which returns false
+     *
+     * @return true
+     */
+    @Override
+    public boolean isSalesModified() {
+        return true;
+    }
+
+    /**
+     * Checks whether the orders have been completed, to be called once the command is executed
+     *
+     * @return true if the orders are complete, false if they could not be made with the ingredients in stock
+     */
+    public boolean isOrderComplete() {
+        //the orders of a ticket are either all complete or all incomplete
+        return ticket.get(0).getIsComplete();
+    }
+
     @Override
     public void execute() {
-        logger.info("Executing AddOrderCommand...");
-        orderList.addOrder(order);
-        Chef chef = new Chef(order, pantry, ui);
+        logger.info("Executing " + getClass().getSimpleName() + "...");
+        //the order list is only taken from sales here, as sales is saved in the background between commands
+        OrderList orderList = sales.getOrderList(day);
+        long totalCostInCents = 0;
+        for (Order order : ticket) {
+            orderList.addOrder(order);
+            totalCostInCents += order.getTotalOrderCostInCents();
+        }
+        Chef chef = new Chef(ticket, pantry, ui);
         chef.cookDish();
-        if (order.getIsComplete()) {
-            orderList.addCost(order);
-            String totalCost = dollarValue.format(order.getTotalOrderCost());
+        if (orderJournal != null) {
+            try {
+                orderJournal.appendOrders(day, ticket);
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Unable to journal orders: " + e.getMessage(), e);
+                ui.showToUser(e.getMessage());
+            }
+        }
+
+        //the orders of a ticket are either all complete or all incomplete
+        Order firstOrder = ticket.get(0);
+        if (firstOrder.getIsComplete()) {
+            String totalCost = Money.format(totalCostInCents);
             ui.showOrderStatus(totalCost);
-            pantry.calculateDishAvailability(menu, order);
+            pantry.calculateDishAvailability(menu, firstOrder);
         } else {
-            //pass in dish only and not entire menu
-            Dish orderedDish = order.getOrderedDish();
-            pantry.calculateMaxDishes(orderedDish, menu, order);
+            showNeededRestock();
             ui.showIncompleteOrder();
         }
+    }
+
+    /**
+     * Shows the ingredients to be restocked for the order to be completed
+     */
+    protected void showNeededRestock() {
+        //pass in dish only and not entire menu
+        Order order = ticket.get(0);
+        Dish orderedDish = order.getOrderedDish();
+        pantry.calculateMaxDishes(orderedDish, menu, order);
+    }
 
+    /**
+     * Registers the factory of the command under its command word
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.register(COMMAND_WORD, AddOrderCommand::prepareCommand);
     }
 
+    //@@author Cazh1
+    /**
+     * Parses arguments in the context of the AddOrder command.
+     *
+     * @param arguments string that matches group arguments
+     * @param context objects of the current session, holding the journal the order is appended to
+     * @return AddOrderCommand if command is valid, IncorrectCommand otherwise
+     */
+    private static Command prepareCommand(String arguments, CommandContext context) {
+        Ui ui = context.getUi();
+        ArgumentTokenizer tokens = new ArgumentTokenizer(arguments, Parser.ADD_DISH_NAME_ARGUMENT,
+                Parser.QTY_ARGUMENT);
+
+        // Checks whether the overall order of add order arguments is correct
+        int mismatchedTokenIndex = tokens.findMismatch(0, tokens.getTokenCount(),
+                Parser.ADD_DISH_NAME_ARGUMENT, Parser.QTY_ARGUMENT);
+        if (mismatchedTokenIndex != ArgumentTokenizer.NO_MISMATCH) {
+            logger.warning("Unexpected add order argument at position " + tokens.getPosition(mismatchedTokenIndex));
+            return new IncorrectCommand(ErrorMessages.INVALID_ADD_ORDER_FORMAT_MESSAGE + MESSAGE_USAGE, ui);
+        }
+
+        try {
+            Order order = Parser.parseOrder(tokens, 0, context.getMenu());
+
+            return new AddOrderCommand(order, ui, context.getPantry(), context.getSales(), context.getMenu(),
+                    context.getCurrentDate().getCurrentDay(), context.getOrderJournal());
+        } catch (ParserException e) {
+            return new IncorrectCommand(e.getMessage(), ui);
+        } catch (NumberFormatException e) {
+            return new IncorrectCommand(ErrorMessages.INVALID_INT_ORDER_QTY, ui);
+        } catch (Exception e) {
+            return new IncorrectCommand(ErrorMessages.INVALID_ADD_ORDER_FORMAT_MESSAGE
+                    + MESSAGE_USAGE + e.getMessage(), ui);
+        }
+    }
 }
@@ -0,0 +1,101 @@
+package seedu.cafectrl.command;
+
+import seedu.cafectrl.CafeCtrl;
+import seedu.cafectrl.data.Menu;
+import seedu.cafectrl.data.Order;
+import seedu.cafectrl.data.Pantry;
+import seedu.cafectrl.data.Sales;
+import seedu.cafectrl.parser.ArgumentTokenizer;
+import seedu.cafectrl.parser.CommandContext;
+import seedu.cafectrl.parser.CommandRegistry;
+import seedu.cafectrl.parser.Parser;
+import seedu.cafectrl.parser.exception.ParserException;
+import seedu.cafectrl.storage.OrderJournal;
+import seedu.cafectrl.ui.ErrorMessages;
+import seedu.cafectrl.ui.Ui;
+
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+/**
+ * Adds every order of a ticket at once. The whole ticket is checked against the pantry and deducted
+ * from it once, and a single summary of the dish availability or the ingredients to restock is shown.
+ */
+public class AddOrdersCommand extends AddOrderCommand {
+    public static final String COMMAND_WORD = "add_orders";
+    public static final String MESSAGE_USAGE = "To add several orders at once: \n"
+            + COMMAND_WORD
+            + " name/DISH_NAME qty/QUANTITY, name/DISH_NAME qty/QUANTITY, ...\n"
+            + "Example: " + COMMAND_WORD
+            + " name/chicken rice qty/2, name/chicken curry qty/1";
+    private static final char ORDER_DIVIDER = ',';
+    private static final Logger logger = Logger.getLogger(CafeCtrl.class.getName());
+
+    /**
+     * Constructor for an AddOrdersCommand that also appends the orders to the order journal
+     *
+     * @param ticket orders to be added, in the order they were entered
+     * @param sales sales that the order list of the day is taken from once the command is executed
+     * @param day index of the day the orders are made on
+     * @param orderJournal journal that the orders are appended to once they are processed, null to skip journaling
+     */
+    public AddOrdersCommand(ArrayList<Order> ticket, Ui ui, Pantry pantry, Sales sales, Menu menu,
+            int day, OrderJournal orderJournal) {
+        super(ticket, ui, pantry, sales, menu, day, orderJournal);
+    }
+
+    @Override
+    protected void showNeededRestock() {
+        pantry.showTicketRestock(ticket);
+    }
+
+    /**
+     * Registers the factory of the command under its command word
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.register(COMMAND_WORD, AddOrdersCommand::prepareCommand);
+    }
+
+    //@@author Cazh1
+    /**
+     * Parses arguments in the context of the AddOrders command, where each order of the ticket
+     * is given as in the AddOrder command and the orders are separated by ','
+     *
+     * @param arguments string that matches group arguments
+     * @param context objects of the current session, holding the journal the orders are appended to
+     * @return AddOrdersCommand if every order of the ticket is valid, IncorrectCommand otherwise
+     */
+    private static Command prepareCommand(String arguments, CommandContext context) {
+        Ui ui = context.getUi();
+        ArgumentTokenizer tokens = new ArgumentTokenizer(arguments, ORDER_DIVIDER,
+                Parser.ADD_DISH_NAME_ARGUMENT, Parser.QTY_ARGUMENT);
+        ArrayList<Order> ticket = new ArrayList<>();
+
+        //each order is followed by a separator, except for the last order
+        for (int orderStart = 0; orderStart < tokens.getTokenCount() || ticket.isEmpty();
+                orderStart = tokens.findGroupEnd(orderStart) + 1) {
+            int orderEnd = tokens.findGroupEnd(orderStart);
+            int mismatchedTokenIndex = tokens.findMismatch(orderStart, orderEnd, Parser.ADD_DISH_NAME_ARGUMENT,
+                    Parser.QTY_ARGUMENT);
+            if (mismatchedTokenIndex != ArgumentTokenizer.NO_MISMATCH) {
+                logger.warning("Unexpected add orders argument at position "
+                        + tokens.getPosition(mismatchedTokenIndex));
+                return new IncorrectCommand(ErrorMessages.INVALID_ADD_ORDERS_FORMAT_MESSAGE + MESSAGE_USAGE, ui);
+            }
+
+            String orderNumber = ErrorMessages.INVALID_ORDER_IN_TICKET + (ticket.size() + 1) + ": ";
+            try {
+                ticket.add(Parser.parseOrder(tokens, orderStart, context.getMenu()));
+            } catch (ParserException e) {
+                return new IncorrectCommand(orderNumber + e.getMessage(), ui);
+            } catch (NumberFormatException e) {
+                return new IncorrectCommand(orderNumber + ErrorMessages.INVALID_INT_ORDER_QTY, ui);
+            }
+        }
+
+        return new AddOrdersCommand(ticket, ui, context.getPantry(), context.getSales(), context.getMenu(),
+                context.getCurrentDate().getCurrentDay(), context.getOrderJournal());
+    }
+}
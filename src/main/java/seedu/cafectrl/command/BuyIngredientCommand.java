@@ -3,6 +3,10 @@ package seedu.cafectrl.command;
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.Pantry;
 import seedu.cafectrl.data.dish.Ingredient;
+import seedu.cafectrl.parser.ArgumentTokenizer;
+import seedu.cafectrl.parser.CommandContext;
+import seedu.cafectrl.parser.CommandRegistry;
+import seedu.cafectrl.ui.ErrorMessages;
 import seedu.cafectrl.ui.Ui;
 import seedu.cafectrl.parser.Parser;
 
@@ -46,6 +50,16 @@ public class BuyIngredientCommand extends Command {
         this.pantry = pantry;
     }
 
+    /**
+     * Overrides the isPantryModified() method which returns false
+     *
+     * @return true
+     */
+    @Override
+    public boolean isPantryModified() {
+        return true;
+    }
+
     /**
      * Executes the command to buy ingredients, adds them to the pantry, and displays the results to the user.
      */
@@ -95,5 +109,40 @@ public class BuyIngredientCommand extends Command {
                 + "\nTotal Qty: " + ingredient.getQty()
                 + ingredient.getUnit() + "\n\n";
     }
-}
 
+    /**
+     * Registers the factory of the command under its command word
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.register(COMMAND_WORD, BuyIngredientCommand::prepareCommand);
+    }
+
+    /**
+     * Prepares a command to buy ingredients based on the provided arguments.
+     *
+     * @param arguments The user input arguments for buying ingredients.
+     * @param context   Objects of the current session, holding the pantry and the menu.
+     * @return A command to buy ingredients or an incorrect command if arguments are invalid.
+     */
+    private static Command prepareCommand(String arguments, CommandContext context) {
+        Ui ui = context.getUi();
+        ArgumentTokenizer tokens = new ArgumentTokenizer(arguments.trim(), Parser.INGREDIENT_DIVIDER,
+                Parser.INGREDIENT_ARGUMENT, Parser.QTY_ARGUMENT);
+
+        if (tokens.getTokenCount() == 0) {
+            logger.warning("Missing ingredient arguments!");
+            return new IncorrectCommand(ErrorMessages.INVALID_INGREDIENT_ARGUMENTS, ui);
+        }
+
+        try {
+            ArrayList<Ingredient> ingredients = Parser.parseIngredients(tokens, 0, false, context.getMenu());
+            return new BuyIngredientCommand(ingredients, ui, context.getPantry());
+        } catch (NumberFormatException e) {
+            return new IncorrectCommand(ErrorMessages.INVALID_INGREDIENT_ARGUMENTS, ui);
+        } catch (Exception e) {
+            return new IncorrectCommand(e.getMessage(), ui);
+        }
+    }
+}
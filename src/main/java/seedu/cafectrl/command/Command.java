@@ -19,6 +19,33 @@ public class Command {
         return false;
     }
 
+    /**
+     * check whether this command modifies the menu, so that the menu is saved by the next autosave
+     *
+     * default returns false, this method will be overridden in commands that modify the menu
+     */
+    public boolean isMenuModified() {
+        return false;
+    }
+
+    /**
+     * check whether this command modifies the pantry stock, so that it is saved by the next autosave
+     *
+     * default returns false, this method will be overridden in commands that modify the pantry stock
+     */
+    public boolean isPantryModified() {
+        return false;
+    }
+
+    /**
+     * check whether this command modifies the sales, so that they are saved by the next autosave
+     *
+     * default returns false, this method will be overridden in commands that modify the sales
+     */
+    public boolean isSalesModified() {
+        return false;
+    }
+
     /**
      * Executes the command and returns the result.
      */
@@ -3,11 +3,16 @@ package seedu.cafectrl.command;
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.Menu;
 import seedu.cafectrl.data.dish.Dish;
+import seedu.cafectrl.parser.CommandContext;
+import seedu.cafectrl.parser.CommandRegistry;
+import seedu.cafectrl.parser.Parser;
 import seedu.cafectrl.ui.ErrorMessages;
 import seedu.cafectrl.ui.Ui;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 //@@author ShaniceTang
 /**
@@ -21,6 +26,8 @@ public class DeleteDishCommand extends Command {
             + "Example: " + COMMAND_WORD + " 1";
 
     private static Logger logger = Logger.getLogger(CafeCtrl.class.getName());
+    private static final String ARGUMENT_STRING = "(.+)";
+    private static final Pattern ARGUMENT_PATTERN = Pattern.compile(ARGUMENT_STRING);
     protected Menu menu;
     protected Ui ui;
 
@@ -30,6 +37,16 @@ public class DeleteDishCommand extends Command {
         this.ui = ui;
     }
 
+    /**
+     * Overrides the isMenuModified() method which returns false
+     *
+     * @return true
+     */
+    @Override
+    public boolean isMenuModified() {
+        return true;
+    }
+
     @Override
     public void execute() {
         logger.info("Executing DeleteDishCommand...");
@@ -44,4 +61,44 @@ public class DeleteDishCommand extends Command {
             throw new IndexOutOfBoundsException();
         }
     }
+
+    /**
+     * Registers the factory of the command under its command word, which has to be entered in full
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.registerFullWord(COMMAND_WORD, DeleteDishCommand::prepareCommand);
+    }
+
+    /**
+     * Parses arguments in the context of the Delete command.
+     *
+     * @param arguments string that matches group arguments
+     * @param context objects of the current session, holding the menu the dish is deleted from
+     * @return DeleteDishCommand if command is valid, IncorrectCommand otherwise
+     */
+    private static Command prepareCommand(String arguments, CommandContext context) {
+        Menu menu = context.getMenu();
+        Ui ui = context.getUi();
+        Matcher matcher = Parser.getMatcher(ARGUMENT_PATTERN, arguments.trim());
+
+        // Checks whether the overall pattern of delete price arguments is correct
+        if (!matcher.matches()) {
+            logger.warning("Unmatched regex!");
+            return new IncorrectCommand(ErrorMessages.MISSING_ARGUMENT_FOR_DELETE, ui);
+        }
+
+        int listIndexArgGroup = 1;
+
+        try {
+            int dishIndex = Integer.parseInt(matcher.group(listIndexArgGroup));
+            if (!menu.isValidDishIndex(dishIndex)) {
+                return new IncorrectCommand(ErrorMessages.INVALID_DISH_INDEX, ui);
+            }
+            return new DeleteDishCommand(dishIndex, menu, ui);
+        } catch (NumberFormatException e) {
+            return new IncorrectCommand(ErrorMessages.DISH_INDEX_NOT_INT, ui);
+        }
+    }
 }
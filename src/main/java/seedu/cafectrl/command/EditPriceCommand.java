@@ -3,10 +3,17 @@ package seedu.cafectrl.command;
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.Menu;
 import seedu.cafectrl.data.dish.Dish;
+import seedu.cafectrl.parser.CommandContext;
+import seedu.cafectrl.parser.CommandRegistry;
+import seedu.cafectrl.parser.Parser;
+import seedu.cafectrl.parser.exception.ParserException;
 import seedu.cafectrl.ui.ErrorMessages;
 import seedu.cafectrl.ui.Ui;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 //@@author ziyi105
 /**
@@ -19,18 +26,30 @@ public class EditPriceCommand extends Command {
             + "Example: edit_price dish/1 price/4.50";
 
     private static final Logger logger = Logger.getLogger(CafeCtrl.class.getName());
+    private static final String ARGUMENT_STRING = "dish/(.*)\\sprice/(.*)";
+    private static final Pattern ARGUMENT_PATTERN = Pattern.compile(ARGUMENT_STRING);
     protected Menu menu;
     protected Ui ui;
     private final int menuID;
-    private final float newDishPrice;
+    private final long newDishPriceInCents;
 
-    public EditPriceCommand(int menuID, float newDishPrice, Menu menu, Ui ui) {
+    public EditPriceCommand(int menuID, long newDishPriceInCents, Menu menu, Ui ui) {
         this.menuID = menuID;
-        this.newDishPrice = newDishPrice;
+        this.newDishPriceInCents = newDishPriceInCents;
         this.menu = menu;
         this.ui = ui;
     }
 
+    /**
+     * Overrides the isMenuModified() method which returns false
+     *
+     * @return true
+     */
+    @Override
+    public boolean isMenuModified() {
+        return true;
+    }
+
     //@@author ziyi105
     /**
      * Set new price of the dish and show edit price message
@@ -40,11 +59,74 @@ public class EditPriceCommand extends Command {
         Dish dish = menu.getDishFromId(menuID - Ui.OFFSET_LIST_INDEX);
 
         // Checks for original price
-        if (dish.comparePrice(newDishPrice) == 0) {
+        if (dish.comparePrice(newDishPriceInCents) == 0) {
             ui.showToUser(ErrorMessages.EDIT_SAME_PRICE);
         } else {
-            dish.setPrice(newDishPrice);
+            dish.setPriceInCents(newDishPriceInCents);
             ui.showEditPriceMessage(dish.toString());
         }
     }
+
+    /**
+     * Registers the factory of the command under its command word
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.register(COMMAND_WORD, EditPriceCommand::prepareCommand);
+    }
+
+    /**
+     * Parse argument in the context of edit price command
+     *
+     * @param arguments string that matches group arguments
+     * @param context objects of the current session, holding the menu of the dish
+     * @return new EditDishCommand
+     */
+    private static Command prepareCommand(String arguments, CommandContext context) {
+        Menu menu = context.getMenu();
+        Ui ui = context.getUi();
+        Matcher matcher = Parser.getMatcher(ARGUMENT_PATTERN, arguments);
+
+        // Checks whether the overall pattern of edit price arguments is correct
+        if (!matcher.find()) {
+            logger.log(Level.WARNING, "Unmatched regex!");
+            return new IncorrectCommand(ErrorMessages.MISSING_ARGUMENT_FOR_EDIT_PRICE, ui);
+        }
+
+        int dishIndexGroup = 1;
+        int newPriceGroup = 2;
+        int dishIndex;
+        long newDishPriceInCents;
+
+        try {
+            String dishIndexText = matcher.group(dishIndexGroup).trim();
+
+            // Check whether the index is empty
+            if (dishIndexText.isEmpty()) {
+                logger.warning("Empty dish index!");
+                return new IncorrectCommand(ErrorMessages.MISSING_DISH_IN_EDIT_PRICE, ui);
+            }
+
+            dishIndex = Integer.parseInt(dishIndexText);
+
+            // Check whether the dish index is valid
+            if (!menu.isValidDishIndex(dishIndex)) {
+                logger.warning("Invalid dish index!");
+                return new IncorrectCommand(ErrorMessages.INVALID_DISH_INDEX, ui);
+            }
+        } catch (NumberFormatException e) {
+            logger.log(Level.WARNING, "Invalid dish index type!", e);
+            return new IncorrectCommand(ErrorMessages.WRONG_DISH_INDEX_TYPE_FOR_EDIT_PRICE, ui);
+        }
+
+        try {
+            newDishPriceInCents = Parser.parsePriceToCents(matcher.group(newPriceGroup).trim());
+        } catch (ParserException e) {
+            logger.log(Level.WARNING, "Invalid price!", e);
+            return new IncorrectCommand(e.getMessage(), ui);
+        }
+
+        return new EditPriceCommand(dishIndex, newDishPriceInCents, menu, ui);
+    }
 }
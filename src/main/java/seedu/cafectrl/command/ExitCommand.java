@@ -1,6 +1,7 @@
 package seedu.cafectrl.command;
 
 import seedu.cafectrl.data.Pantry;
+import seedu.cafectrl.parser.CommandRegistry;
 import seedu.cafectrl.ui.Ui;
 
 public class ExitCommand extends Command {
@@ -31,4 +32,14 @@ public class ExitCommand extends Command {
         ui.printLine();
         ui.showGoodbye();
     }
+
+    /**
+     * Registers the factory of the command under its command word, which has to be entered in full
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.registerFullWord(COMMAND_WORD, (arguments, context) -> new ExitCommand(context.getUi(),
+                context.getPantry()));
+    }
 }
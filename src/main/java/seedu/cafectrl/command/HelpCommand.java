@@ -1,6 +1,7 @@
 package seedu.cafectrl.command;
 
 import seedu.cafectrl.CafeCtrl;
+import seedu.cafectrl.parser.CommandRegistry;
 import seedu.cafectrl.ui.Ui;
 
 import java.util.logging.Logger;
@@ -31,4 +32,13 @@ public class HelpCommand extends Command {
         ui.printLine();
         ui.showHelp();
     }
+
+    /**
+     * Registers the factory of the command under its command word
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.register(COMMAND_WORD, (arguments, context) -> new HelpCommand(context.getUi()));
+    }
 }
@@ -3,11 +3,16 @@ package seedu.cafectrl.command;
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.Menu;
 import seedu.cafectrl.data.dish.Dish;
+import seedu.cafectrl.parser.CommandContext;
+import seedu.cafectrl.parser.CommandRegistry;
+import seedu.cafectrl.parser.Parser;
 import seedu.cafectrl.ui.ErrorMessages;
 import seedu.cafectrl.ui.Ui;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Lists all ingredients used in the selected dish to the user.
@@ -20,6 +25,8 @@ public class ListIngredientCommand extends Command {
             + "Example: " + COMMAND_WORD + " dish/1";
 
     private static Logger logger = Logger.getLogger(CafeCtrl.class.getName());
+    private static final String ARGUMENT_STRING = "dish/(.+)";
+    private static final Pattern ARGUMENT_PATTERN = Pattern.compile(ARGUMENT_STRING);
     protected Ui ui;
     protected Menu menu;
 
@@ -41,4 +48,47 @@ public class ListIngredientCommand extends Command {
         }
     }
 
+    /**
+     * Registers the factory of the command under its command word
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.register(COMMAND_WORD, ListIngredientCommand::prepareCommand);
+    }
+
+    //@@author NaychiMin
+    /**
+     * Parses arguments in the context of the ListIngredient command.
+     *
+     * @param arguments string that matches group arguments
+     * @param context objects of the current session, holding the menu of the dish
+     * @return the prepared command
+     */
+    private static Command prepareCommand(String arguments, CommandContext context) {
+        Menu menu = context.getMenu();
+        Ui ui = context.getUi();
+        Matcher matcher = Parser.getMatcher(ARGUMENT_PATTERN, arguments.trim());
+
+        if (!matcher.matches()) {
+            logger.warning("Unmatched regex!");
+            return new IncorrectCommand(ErrorMessages.MISSING_ARGUMENT_FOR_LIST_INGREDIENTS + MESSAGE_USAGE, ui);
+        }
+
+        try {
+            int dishIndex = Integer.parseInt(matcher.group(1).trim());
+
+            if (dishIndex < 0) {
+                throw new Exception();
+            }
+
+            if (!menu.isValidDishIndex(dishIndex)) {
+                return new IncorrectCommand(ErrorMessages.UNLISTED_DISH, ui);
+            }
+
+            return new ListIngredientCommand(dishIndex, menu, ui);
+        } catch (Exception e) {
+            return new IncorrectCommand(ErrorMessages.INVALID_DISH_INDEX_TO_LIST, ui);
+        }
+    }
 }
@@ -3,9 +3,9 @@ package seedu.cafectrl.command;
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.Menu;
 import seedu.cafectrl.data.dish.Dish;
+import seedu.cafectrl.parser.CommandRegistry;
 import seedu.cafectrl.ui.Ui;
 
-import java.text.DecimalFormat;
 import java.util.logging.Logger;
 
 //@@author Cazh1
@@ -16,8 +16,6 @@ public class ListMenuCommand extends Command {
     public static final String COMMAND_WORD = "list_menu";
     public static final String MESSAGE_USAGE = "To view menu:\n"
             + COMMAND_WORD;
-    private static final DecimalFormat dollarValue = new DecimalFormat("0.00");
-
     private static Logger logger = Logger.getLogger(CafeCtrl.class.getName());
     private final Menu menu;
     private final Ui ui;
@@ -70,9 +68,19 @@ public class ListMenuCommand extends Command {
             String indexNum = String.valueOf(i + 1);
             Dish selectedDish = menu.getDishFromId(i);
             String dishName = selectedDish.getName();
-            String dishPrice = dollarValue.format(selectedDish.getPrice());
+            String dishPrice = selectedDish.getPriceString();
             ui.showMenuDish(indexNum, dishName, dishPrice);
         }
         ui.showMenuBottom();
     }
+
+    /**
+     * Registers the factory of the command under its command word
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.register(COMMAND_WORD, (arguments, context) -> new ListMenuCommand(context.getMenu(),
+                context.getUi()));
+    }
 }
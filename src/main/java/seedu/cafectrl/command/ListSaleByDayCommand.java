@@ -2,10 +2,15 @@ package seedu.cafectrl.command;
 
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.Sales;
+import seedu.cafectrl.parser.CommandContext;
+import seedu.cafectrl.parser.CommandRegistry;
+import seedu.cafectrl.parser.Parser;
 import seedu.cafectrl.ui.ErrorMessages;
 import seedu.cafectrl.ui.Ui;
 
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 //@@author NaychiMin
 public class ListSaleByDayCommand extends Command {
@@ -15,6 +20,8 @@ public class ListSaleByDayCommand extends Command {
             + "Example: " + COMMAND_WORD + " day/1";
 
     private static Logger logger = Logger.getLogger(CafeCtrl.class.getName());
+    private static final String ARGUMENT_STRING = "day/(.+)";
+    private static final Pattern ARGUMENT_PATTERN = Pattern.compile(ARGUMENT_STRING);
     private final int day;
     private final Ui ui;
     private final Sales sales;
@@ -38,4 +45,40 @@ public class ListSaleByDayCommand extends Command {
     public int getDay() {
         return day;
     }
+
+    /**
+     * Registers the factory of the command under its command word
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.register(COMMAND_WORD, ListSaleByDayCommand::prepareCommand);
+    }
+
+    /**
+     * Prepares a command to display sales items for a specific day.
+     *
+     * @param arguments The arguments containing the day for which sales are to be displayed.
+     * @param context   Objects of the current session, holding the sales to be displayed.
+     * @return A ShowSalesByDayCommand instance for viewing sales items on a specific day.
+     */
+    private static Command prepareCommand(String arguments, CommandContext context) {
+        Ui ui = context.getUi();
+        Matcher matcher = Parser.getMatcher(ARGUMENT_PATTERN, arguments.trim());
+
+        if (!matcher.matches()) {
+            logger.warning("Unmatching regex!");
+            return new IncorrectCommand(ErrorMessages.INVALID_SHOW_SALE_DAY_FORMAT_MESSAGE + MESSAGE_USAGE, ui);
+        }
+
+        try {
+            int day = Integer.parseInt(matcher.group(1).trim());
+            if (day < 0) {
+                throw new Exception();
+            }
+            return new ListSaleByDayCommand(day, ui, context.getSales());
+        } catch (Exception e) {
+            return new IncorrectCommand(ErrorMessages.INVALID_DAY_FORMAT, ui);
+        }
+    }
 }
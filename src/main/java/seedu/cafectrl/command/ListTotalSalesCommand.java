@@ -2,6 +2,9 @@ package seedu.cafectrl.command;
 
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.Sales;
+import seedu.cafectrl.parser.CommandContext;
+import seedu.cafectrl.parser.CommandRegistry;
+import seedu.cafectrl.ui.ErrorMessages;
 import seedu.cafectrl.ui.Ui;
 
 import java.util.logging.Logger;
@@ -23,4 +26,29 @@ public class ListTotalSalesCommand extends Command {
         logger.info("Executing ShowSalesCommand...");
         sales.printSales(ui);
     }
+
+    /**
+     * Registers the factory of the command under its command word
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.register(COMMAND_WORD, ListTotalSalesCommand::prepareCommand);
+    }
+
+    //@@author NaychiMin
+    /**
+     * Prepares a command to display all sales items.
+     *
+     * @param arguments arguments entered after the command word, which have to be empty
+     * @param context   Objects of the current session, holding the sales to be displayed.
+     * @return A ShowSalesCommand instance for viewing all sales items.
+     */
+    private static Command prepareCommand(String arguments, CommandContext context) {
+        if (arguments.isEmpty()) {
+            return new ListTotalSalesCommand(context.getSales(), context.getUi());
+        } else {
+            return new IncorrectCommand(ErrorMessages.WRONG_LIST_TOTAL_SALES_FORMAT, context.getUi());
+        }
+    }
 }
@@ -3,7 +3,7 @@ package seedu.cafectrl.command;
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.CurrentDate;
 import seedu.cafectrl.data.Sales;
-import seedu.cafectrl.data.OrderList;
+import seedu.cafectrl.parser.CommandRegistry;
 import seedu.cafectrl.ui.Ui;
 
 import java.util.logging.Logger;
@@ -25,13 +25,23 @@ public class NextDayCommand extends Command {
         this.currentDate = currentDate;
     }
 
+    /**
+     * Overrides the isSalesModified() method which returns false
+     *
+     * @return true
+     */
+    @Override
+    public boolean isSalesModified() {
+        return true;
+    }
+
     /**
      * Changes the current day to the next day.
-     * Checks if an orderList exist in Sales by comparing
-     * the intended Day vs the number of days accounted for in Sales
+     * Checks if the intended Day is accounted for in Sales
+     * by comparing it with the number of days accounted for in Sales
      *
-     * If orderList does not exist, new OrderList is added to Sales
-     * The days accounted for in Sales is incremented
+     * If it is not, the days accounted for in Sales is incremented,
+     * an OrderList is only created for the day once an order is added to it
      */
     @Override
     public void execute() {
@@ -40,11 +50,19 @@ public class NextDayCommand extends Command {
         currentDate.nextDay();
         int nextDay = currentDate.getCurrentDay();
         if (nextDay > sales.getDaysAccounted()) {
-            OrderList newOrderList = new OrderList();
-            sales.addOrderList(newOrderList);
             sales.nextDay();
         }
         ui.showNextDay();
         ui.showToUser("Today is Day " + (currentDate.getCurrentDay() + 1));
     }
+
+    /**
+     * Registers the factory of the command under its command word, which has to be entered in full
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.registerFullWord(COMMAND_WORD, (arguments, context) -> new NextDayCommand(context.getUi(),
+                context.getSales(), context.getCurrentDate()));
+    }
 }
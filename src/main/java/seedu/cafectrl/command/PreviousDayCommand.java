@@ -2,6 +2,9 @@ package seedu.cafectrl.command;
 
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.CurrentDate;
+import seedu.cafectrl.parser.CommandContext;
+import seedu.cafectrl.parser.CommandRegistry;
+import seedu.cafectrl.ui.Messages;
 import seedu.cafectrl.ui.Ui;
 
 import java.util.logging.Logger;
@@ -28,4 +31,28 @@ public class PreviousDayCommand extends Command{
         ui.showPreviousDay();
         ui.showToUser("Today is Day " + (currentDate.getCurrentDay() + 1));
     }
+
+    /**
+     * Registers the factory of the command under its command word, which has to be entered in full
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.registerFullWord(COMMAND_WORD, PreviousDayCommand::prepareCommand);
+    }
+
+    /**
+     * Prepares PreviousDayCommand
+     *
+     * @param arguments arguments entered after the command word, which are ignored
+     * @param context objects of the current session, holding the current date
+     * @return PreviousDayCommand if after day 1, IncorrectCommand if before
+     */
+    private static Command prepareCommand(String arguments, CommandContext context) {
+        int currentDay = context.getCurrentDate().getCurrentDay();
+        if (currentDay == 0) {
+            return new IncorrectCommand(Messages.PREVIOUS_DAY_TIME_TRAVEL, context.getUi());
+        }
+        return new PreviousDayCommand(context.getUi(), context.getCurrentDate());
+    }
 }
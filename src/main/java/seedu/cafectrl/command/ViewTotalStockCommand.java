@@ -3,6 +3,7 @@ package seedu.cafectrl.command;
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.Pantry;
 import seedu.cafectrl.data.dish.Ingredient;
+import seedu.cafectrl.parser.CommandRegistry;
 import seedu.cafectrl.ui.Ui;
 import seedu.cafectrl.ui.Messages;
 
@@ -40,4 +41,14 @@ public class ViewTotalStockCommand extends Command {
         }
         ui.showMenuBottom();
     }
+
+    /**
+     * Registers the factory of the command under its command word
+     *
+     * @param registry registry of every command
+     */
+    public static void register(CommandRegistry registry) {
+        registry.register(COMMAND_WORD, (arguments, context) -> new ViewTotalStockCommand(context.getPantry(),
+                context.getUi()));
+    }
 }
@@ -3,29 +3,54 @@ package seedu.cafectrl.data;
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.ui.Ui;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class Chef {
     private static final Logger logger = Logger.getLogger(CafeCtrl.class.getName());
-    private final Order order;
+    private final ArrayList<Order> ticket;
     private final Pantry pantry;
     private final Ui ui;
 
     public Chef(Order order, Pantry pantry, Ui ui) {
-        this.order = order;
+        this(new ArrayList<>(List.of(order)), pantry, ui);
+    }
+
+    /**
+     * Constructor for a Chef that cooks every order of a ticket together
+     *
+     * @param ticket orders to be cooked together
+     */
+    public Chef(ArrayList<Order> ticket, Pantry pantry, Ui ui) {
+        this.ticket = ticket;
         this.pantry = pantry;
         this.ui = ui;
     }
 
+    /**
+     * Cooks the orders of the ticket that are not complete yet. The pantry is checked and deducted once
+     * for all of them, so either every order is completed or none of them is.
+     */
     public void cookDish() {
         logger.info("Checking if order can be made...");
         try {
-            if (!order.getIsComplete()) {
+            ArrayList<Order> pendingOrders = new ArrayList<>();
+            for (Order order : ticket) {
+                if (!order.getIsComplete()) {
+                    pendingOrders.add(order);
+                }
+            }
+
+            if (!pendingOrders.isEmpty()) {
                 ui.showChefMessage();
 
-                boolean isComplete = pantry.isDishCooked(order.getIngredientList());
-                order.setComplete(isComplete);
+                //the recipe of each dish is shared instead of preparing the ingredients of the order
+                boolean isComplete = pantry.isTicketCooked(pendingOrders);
+                for (Order order : pendingOrders) {
+                    order.setComplete(isComplete);
+                }
 
                 logger.info("Dish cooked: " + isComplete);
             }
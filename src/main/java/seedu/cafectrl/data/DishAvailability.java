@@ -0,0 +1,71 @@
+package seedu.cafectrl.data;
+
+import seedu.cafectrl.data.dish.Dish;
+import seedu.cafectrl.data.dish.Ingredient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Caches the maximum number of portions of each dish on the menu that the pantry stock can make.
+ * A reverse index from every ingredient to the dishes that use it means a change in the stock of an ingredient
+ * only clears the cached portions of those dishes, so an order only has the dishes sharing its ingredients
+ * recalculated instead of the whole menu.
+ */
+public class DishAvailability {
+    private final HashMap<String, ArrayList<Dish>> dishesByIngredient = new HashMap<>();
+    private final HashMap<Dish, Integer> maxPortions = new HashMap<>();
+    private Menu indexedMenu;
+    private int indexedMenuModificationCount;
+
+    /**
+     * Indexes the dishes of the menu by their ingredients, unless the menu has not changed since it was indexed.
+     * Cached portions are cleared whenever the menu is indexed again.
+     *
+     * @param menu menu of the dishes whose availability is calculated
+     */
+    public void indexMenu(Menu menu) {
+        if (menu == indexedMenu && menu.getModificationCount() == indexedMenuModificationCount) {
+            return;
+        }
+        dishesByIngredient.clear();
+        maxPortions.clear();
+        for (Dish dish : menu.getMenuItemsList()) {
+            for (Ingredient ingredient : dish.getIngredients()) {
+                dishesByIngredient.computeIfAbsent(ingredient.getNormalizedName(),
+                        ingredientName -> new ArrayList<>()).add(dish);
+            }
+        }
+        indexedMenu = menu;
+        indexedMenuModificationCount = menu.getModificationCount();
+    }
+
+    /**
+     * Gets the cached maximum number of portions of a dish
+     *
+     * @param dish dish on the indexed menu
+     * @return the cached number of portions, null if it has to be calculated
+     */
+    public Integer getMaxPortions(Dish dish) {
+        return maxPortions.get(dish);
+    }
+
+    public void setMaxPortions(Dish dish, int portions) {
+        maxPortions.put(dish, portions);
+    }
+
+    /**
+     * Clears the cached portions of every dish that uses an ingredient, to be called when its stock changes
+     *
+     * @param ingredientName normalized name of the ingredient
+     */
+    public void clearIngredient(String ingredientName) {
+        ArrayList<Dish> dishes = dishesByIngredient.get(ingredientName);
+        if (dishes == null) {
+            return;
+        }
+        for (Dish dish : dishes) {
+            maxPortions.remove(dish);
+        }
+    }
+}
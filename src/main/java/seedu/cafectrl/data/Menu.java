@@ -2,14 +2,19 @@ package seedu.cafectrl.data;
 
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.dish.Dish;
+import seedu.cafectrl.data.dish.Ingredient;
 import seedu.cafectrl.ui.Ui;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.logging.Logger;
 
 public class Menu {
     private static final Logger logger = Logger.getLogger(CafeCtrl.class.getName());
     private ArrayList<Dish> menuItems;
+    //index of the dishes in menuItems by their normalized name, for lookups without scanning the menu
+    private final HashMap<String, Dish> dishIndex = new HashMap<>();
+    private int modificationCount = 0;
 
     public Menu() {
         this.menuItems = new ArrayList<>();
@@ -17,12 +22,25 @@ public class Menu {
 
     public Menu(ArrayList<Dish> menuItems) {
         this.menuItems = menuItems;
+        for (Dish dish : menuItems) {
+            dishIndex.putIfAbsent(Ingredient.normalizeName(dish.getName()), dish);
+        }
     }
 
     public ArrayList<Dish> getMenuItemsList() {
         return menuItems;
     }
 
+    /**
+     * Gets the number of times dishes have been added to or removed from the menu,
+     * for data derived from the dishes to know when it is out of date
+     *
+     * @return number of modifications to the menu
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
     public int getSize() {
         return menuItems.size();
     }
@@ -35,18 +53,10 @@ public class Menu {
      * Checks if the ordered dish exist in the menu and returns the menu index if exist
      *
      * @param dishName Name of the ordered dish
-     * @return index of the dish in menu if exists, null if not found
+     * @return the dish in menu if exists, null if not found
      */
     public Dish getDishFromName(String dishName) {
-        String formattedDishName = dishName.toLowerCase().trim();
-        for (int i = 0; i < getSize(); i++) {
-            String menuDishName = getDishFromId(i).getName();
-            String formattedMenuDishName = menuDishName.trim();
-            if (formattedMenuDishName.equalsIgnoreCase(formattedDishName)) {
-                return getDishFromId(i);
-            }
-        }
-        return null;
+        return dishIndex.get(Ingredient.normalizeName(dishName));
     }
 
     //@@author NaychiMin
@@ -83,9 +93,23 @@ public class Menu {
 
     //@@author DextheChik3n
     public void removeDish(int menuID) {
-        menuItems.remove(menuID);
+        Dish removedDish = menuItems.remove(menuID);
+        modificationCount++;
+        String dishKey = Ingredient.normalizeName(removedDish.getName());
+        if (!dishIndex.remove(dishKey, removedDish)) {
+            return;
+        }
+        //a menu decoded from a tampered file may hold another dish of the same name
+        for (Dish dish : menuItems) {
+            if (Ingredient.normalizeName(dish.getName()).equals(dishKey)) {
+                dishIndex.put(dishKey, dish);
+                return;
+            }
+        }
     }
     public void addDish(Dish dish) {
         menuItems.add(dish);
+        modificationCount++;
+        dishIndex.putIfAbsent(Ingredient.normalizeName(dish.getName()), dish);
     }
 }
@@ -0,0 +1,72 @@
+package seedu.cafectrl.data;
+
+/**
+ * Conversions of amounts of money, which are held as a whole number of cents in a long.
+ * Summing cents is exact however many orders are summed, unlike summing float dollars,
+ * and an amount is formatted without going through DecimalFormat.
+ */
+public final class Money {
+    public static final int CENTS_PER_DOLLAR = 100;
+    private static final int MAX_DECIMAL_PLACES = 2;
+
+    private Money() {
+    }
+
+    /**
+     * Parses an amount in dollars with up to 2 decimal places into cents, such as 3.1 into 310
+     *
+     * @param dollarsText amount in dollars, surrounding whitespace is ignored
+     * @return the amount in cents
+     * @throws NumberFormatException if the text is not an amount with up to 2 decimal places
+     */
+    public static long parseCents(String dollarsText) throws NumberFormatException {
+        String trimmedText = dollarsText.trim();
+        boolean isNegative = trimmedText.startsWith("-");
+        int index = isNegative ? 1 : 0;
+        int decimalPointIndex = trimmedText.indexOf('.');
+        int dollarsEndIndex = decimalPointIndex == -1 ? trimmedText.length() : decimalPointIndex;
+        if (dollarsEndIndex == index) {
+            throw new NumberFormatException("Missing dollars: " + dollarsText);
+        }
+
+        long cents = 0;
+        for (; index < dollarsEndIndex; index++) {
+            cents = Math.addExact(Math.multiplyExact(cents, 10), parseDigit(trimmedText, index));
+        }
+        cents = Math.multiplyExact(cents, CENTS_PER_DOLLAR);
+
+        if (decimalPointIndex != -1) {
+            int decimalPlaces = trimmedText.length() - decimalPointIndex - 1;
+            if (decimalPlaces > MAX_DECIMAL_PLACES) {
+                throw new NumberFormatException("More than 2 decimal places: " + dollarsText);
+            }
+            int centsPart = 0;
+            for (index = decimalPointIndex + 1; index < trimmedText.length(); index++) {
+                centsPart = centsPart * 10 + parseDigit(trimmedText, index);
+            }
+            //a single decimal place is in tens of cents
+            cents += decimalPlaces == 1 ? centsPart * 10 : centsPart;
+        }
+        return isNegative ? -cents : cents;
+    }
+
+    private static int parseDigit(String text, int index) throws NumberFormatException {
+        char digit = text.charAt(index);
+        if (digit < '0' || digit > '9') {
+            throw new NumberFormatException("Invalid digit '" + digit + "' in: " + text);
+        }
+        return digit - '0';
+    }
+
+    /**
+     * Formats an amount in cents as dollars with 2 decimal places, such as 310 as 3.10
+     *
+     * @param cents amount in cents
+     * @return the amount in dollars
+     */
+    public static String format(long cents) {
+        long absoluteCents = Math.abs(cents);
+        long centsPart = absoluteCents % CENTS_PER_DOLLAR;
+        return (cents < 0 ? "-" : "") + absoluteCents / CENTS_PER_DOLLAR + (centsPart < 10 ? ".0" : ".") + centsPart;
+    }
+}
@@ -3,48 +3,45 @@ package seedu.cafectrl.data;
 import seedu.cafectrl.data.dish.Dish;
 import seedu.cafectrl.data.dish.Ingredient;
 
-import java.text.DecimalFormat;
 import java.util.ArrayList;
 
 public class Order {
-    private static final DecimalFormat dollarValue = new DecimalFormat("0.00");
     private final Dish orderedDish;
-    private int dishQty;
-    private final ArrayList<Ingredient> ingredientList;
-    private float totalOrderCost;
+    private final int dishQty;
+    //ingredients scaled by the quantity, only prepared when they are needed
+    private ArrayList<Ingredient> ingredientList;
+    private final long totalOrderCostInCents;
     private boolean isComplete = false;
+    private OrderList orderList;
 
     public Order(Dish orderedDish, int dishQty) {
         this.orderedDish = orderedDish;
         this.dishQty = dishQty;
-        this.ingredientList = setIngredientList();
-        this.totalOrderCost = calculateTotalOrderCost();
+        this.totalOrderCostInCents = calculateTotalOrderCost();
     }
 
-    public Order(Dish orderedDish, int dishQty, float orderCost, boolean isComplete) {
+    public Order(Dish orderedDish, int dishQty, long orderCostInCents, boolean isComplete) {
         this.orderedDish = orderedDish;
         this.dishQty = dishQty;
-        this.ingredientList = setIngredientList();
-        this.totalOrderCost = orderCost;
+        this.totalOrderCostInCents = orderCostInCents;
         this.isComplete = isComplete;
     }
 
     @Override
     public String toString() {
         return "Order: " + getDishName() + " Quantity: "+ dishQty
-                + "\nIngredientList: " + ingredientList
-                + "\nTotal Order Cost: $" + dollarValue.format(totalOrderCost);
+                + "\nIngredientList: " + getIngredientList()
+                + "\nTotal Order Cost: $" + Money.format(totalOrderCostInCents);
     }
 
     /**
      * Calculates the total price of the order
      * Multiplies cost per dish by number of dishes
      *
-     * @return Total calculated cost
+     * @return Total calculated cost in cents
      */
-    public float calculateTotalOrderCost() {
-        float dishCost = orderedDish.getPrice();
-        return dishCost * dishQty;
+    public long calculateTotalOrderCost() {
+        return orderedDish.getPriceInCents() * dishQty;
     }
 
     /**
@@ -65,16 +62,30 @@ public class Order {
         return dishIngredient;
     }
 
+    /**
+     * Gets the ingredients used in the order, preparing them on the first call.
+     * Cooking the order uses the recipe of the dish directly, so most orders never prepare their ingredients.
+     *
+     * @return Arraylist of Ingredients scaled by the quantity ordered
+     */
     public ArrayList<Ingredient> getIngredientList() {
+        if (ingredientList == null) {
+            ingredientList = setIngredientList();
+        }
         return ingredientList;
     }
 
-    public float getTotalOrderCost() {
-        return totalOrderCost;
+    public long getTotalOrderCostInCents() {
+        return totalOrderCostInCents;
     }
 
     public void setComplete(boolean isComplete) {
+        boolean isChanged = this.isComplete != isComplete;
         this.isComplete = isComplete;
+        //the order list keeps the totals of its completed orders
+        if (isChanged && orderList != null) {
+            orderList.updateCompleteStatus(this);
+        }
     }
 
     public boolean getIsComplete() {
@@ -89,16 +100,12 @@ public class Order {
         return dishQty;
     }
 
-    public void setQuantity(int quantity) {
-        this.dishQty = quantity;
-    }
-
-    public void setTotalOrderCost(float cost) {
-        this.totalOrderCost = cost;
-    }
-
     public Dish getOrderedDish() {
         return orderedDish;
     }
 
+    void setOrderList(OrderList orderList) {
+        this.orderList = orderList;
+    }
+
 }
@@ -0,0 +1,15 @@
+package seedu.cafectrl.data;
+
+/**
+ * Loads the order list of a day that was left in storage when Sales was loaded,
+ * so that past days are only loaded once they are needed.
+ */
+public interface OrderListLoader {
+    /**
+     * Loads the order list of the specified day
+     *
+     * @param day index of the day
+     * @return order list of the day
+     */
+    OrderList loadOrderList(int day);
+}
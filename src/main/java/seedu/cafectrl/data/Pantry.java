@@ -8,34 +8,68 @@ import seedu.cafectrl.ui.Messages;
 import seedu.cafectrl.ui.Ui;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 public class Pantry {
     public static final int DEFAULT_ORDER_QTY = 1;
     private static final Logger logger = Logger.getLogger(CafeCtrl.class.getName());
     
-    private final Ui ui;
-    private ArrayList<Ingredient> pantryStock;
+    private Ui ui;
+    //quantities in stock are held apart from the immutable ingredients, in the order the ingredients were stocked
+    private final ArrayList<StockLevel> pantryStock = new ArrayList<>();
+    //index of the ingredients in pantryStock by their normalized name, for lookups without scanning the stock
+    private final HashMap<String, StockLevel> stockIndex = new HashMap<>();
+    private final DishAvailability dishAvailability = new DishAvailability();
 
     //@@author NaychiMin
     public Pantry(Ui ui, ArrayList<Ingredient> pantryStock) {
         this.ui = ui;
-        this.pantryStock = pantryStock;
+        for (Ingredient ingredient : pantryStock) {
+            StockLevel stockLevel = new StockLevel(ingredient);
+            this.pantryStock.add(stockLevel);
+            stockIndex.putIfAbsent(ingredient.getNormalizedName(), stockLevel);
+        }
     }
 
     //@@author ShaniceTang
     public Pantry(Ui ui) {
         this.ui = ui;
-        this.pantryStock = new ArrayList<>();
     }
 
     /**
-     * Retrieves the current pantry stock from storage, which may include reading from a file (pantry.txt).
+     * Sets the Ui that messages about the stock are shown through, such as a quiet Ui while importing records.
+     *
+     * @param ui Ui that shows the messages of the pantry
+     */
+    public void setUi(Ui ui) {
+        this.ui = ui;
+    }
+
+    /**
+     * Checks if an ingredient is in the pantry stock (case-insensitive comparison).
+     *
+     * @param name The name of the ingredient to search for.
+     * @return true if the ingredient is in the pantry stock, false otherwise.
+     */
+    public boolean isInStock(String name) {
+        return stockIndex.containsKey(Ingredient.normalizeName(name));
+    }
+
+    /**
+     * Retrieves the current pantry stock as ingredients holding the quantities in stock at the time of the call.
      *
      * @return An ArrayList of Ingredient objects representing the current pantry stock.
      */
     public ArrayList<Ingredient> getPantryStock() {
-        return pantryStock;
+        ArrayList<Ingredient> stockIngredients = new ArrayList<>(pantryStock.size());
+        for (StockLevel stockLevel : pantryStock) {
+            stockIngredients.add(stockLevel.toIngredient());
+        }
+        return stockIngredients;
     }
 
     /**
@@ -48,18 +82,23 @@ public class Pantry {
      */
     public Ingredient addIngredientToStock (String name, int qty, String unit) {
         logger.info("Adding ingredients to stock...");
-        pantryStock = getPantryStock(); //get latest pantry stock from pantry.txt
-        int ingredientIndex = getIndexOfIngredient(name);
+        String normalizedName = Ingredient.normalizeName(name);
+        StockLevel stockLevel = stockIndex.get(normalizedName);
 
         //if ingredient exists in pantry, add quantity of that ingredient
-        if (ingredientIndex != -1) {
+        if (stockLevel != null) {
             logger.info(name + " exists in pantry, current quantity: "+ qty);
-            return addIngredientQuantity(qty, ingredientIndex, unit);
+            Ingredient updatedIngredient = addIngredientQuantity(qty, stockLevel, unit);
+            dishAvailability.clearIngredient(normalizedName);
+            return updatedIngredient;
         }
 
         //else, add new ingredient to pantry
         Ingredient ingredient = new Ingredient(name, qty, unit);
-        pantryStock.add(ingredient);
+        stockLevel = new StockLevel(ingredient);
+        pantryStock.add(stockLevel);
+        stockIndex.put(normalizedName, stockLevel);
+        dishAvailability.clearIngredient(normalizedName);
         return ingredient;
     }
 
@@ -67,98 +106,138 @@ public class Pantry {
      * Updates an ingredient's quantity in the pantry stock or adds a new ingredient if it doesn't exist.
      *
      * @param qty            The quantity of the ingredient (e.g., "100g").
-     * @param ingredientIndex The index of the ingredient in the pantry stock (-1 if not found).
-     * @return The Ingredient object that was added or updated in the pantry stock.
+     * @param stockLevel      The stock of the ingredient in the pantry.
+     * @return The Ingredient object holding the updated quantity in the pantry stock.
      */
-    private Ingredient addIngredientQuantity(int qty, int ingredientIndex, String unit) {
-        Ingredient ingredient = pantryStock.get(ingredientIndex);
-
-        if (!unit.equalsIgnoreCase(ingredient.getUnit())) {
+    private Ingredient addIngredientQuantity(int qty, StockLevel stockLevel, String unit) {
+        if (!unit.equalsIgnoreCase(stockLevel.unit)) {
             logger.warning("Unit does not match previous unit");
-            throw new RuntimeException(ingredient.getName()
+            throw new RuntimeException(stockLevel.name
                 + ErrorMessages.UNIT_NOT_MATCHING
-                + ingredient.getUnit()
+                + stockLevel.unit
                 + ErrorMessages.IGNORE_REMAINING_INGREDIENTS);
         }
-        qty += ingredient.getQty(); //adds new qty to current qty
-        ingredient.setQty(qty);
+        qty += stockLevel.qty; //adds new qty to current qty
+        stockLevel.qty = qty;
         logger.info("New quantity: " + qty);
 
-        return ingredient;
+        return stockLevel.toIngredient();
+    }
+
+    //@@author NaychiMin
+    /**
+     * Decreases the stock of ingredients based on the given dish order.
+     * Every ingredient is checked against the stock before any stock is decreased, so the stock is either
+     * decreased for every ingredient or left untouched.
+     *
+     * @param dishIngredients Array of ingredients used to make the dish order.
+     */
+    public boolean isDishCooked(ArrayList<Ingredient> dishIngredients) {
+        return isDishCooked(dishIngredients, 1);
     }
 
     /**
-     * Gets the index of an ingredient in the pantry stock based on its name (case-insensitive comparison).
+     * Decreases the stock of ingredients for a number of portions of a dish, all or nothing like
+     * {@link #isDishCooked(ArrayList)}, without preparing a scaled copy of the recipe.
      *
-     * @param name The name of the ingredient to search for.
-     * @return The index of the ingredient in the pantry stock or -1 if not found.
+     * @param recipeIngredients ingredients used to make a single portion of the dish
+     * @param portions number of portions ordered
+     * @return true if the stock has been decreased, false if an ingredient is not in stock or is not enough
      */
-    private int getIndexOfIngredient(String name) {
-        for (int i = 0; i < pantryStock.size(); i++) {
-            String ingredientName = pantryStock.get(i).getName().trim();
+    public boolean isDishCooked(ArrayList<Ingredient> recipeIngredients, int portions) {
+        logger.info("Checking if dish can be cooked");
 
-            if (name.equalsIgnoreCase(ingredientName)) {
-                return i;
-            }
+        IdentityHashMap<StockLevel, Integer> usedQuantities = new IdentityHashMap<>();
+        if (!isReserved(recipeIngredients, portions, usedQuantities)) {
+            return false;
         }
-        return -1;
+        useReservedQuantities(usedQuantities);
+        return true;
     }
 
-    //@@author NaychiMin
     /**
-     * Decreases the stock of ingredients based on the given dish order.
+     * Decreases the stock of ingredients for every order of a ticket at once, all or nothing like
+     * {@link #isDishCooked(ArrayList)}. An ingredient used by more than one order is checked against
+     * the total quantity used by the whole ticket.
      *
-     * @param dishIngredients Array of ingredients used to make the dish order.
+     * @param ticket orders to be cooked together
+     * @return true if the stock has been decreased for every order, false if the stock is left untouched
      */
-    public boolean isDishCooked(ArrayList<Ingredient> dishIngredients) {
-        logger.info("Checking if dish can be cooked");
-
-        //for each ingredient that is used in the dish, update the stock of ingredient left.
-        for (Ingredient dishIngredient : dishIngredients) {
-            Ingredient usedIngredientFromStock = getIngredient(dishIngredient);
+    public boolean isTicketCooked(ArrayList<Order> ticket) {
+        logger.info("Checking if ticket of " + ticket.size() + " orders can be cooked");
 
-            if (usedIngredientFromStock == null) {
+        IdentityHashMap<StockLevel, Integer> usedQuantities = new IdentityHashMap<>();
+        for (Order order : ticket) {
+            if (!isReserved(order.getOrderedDish().getIngredients(), order.getQuantity(), usedQuantities)) {
                 return false;
             }
+        }
+        useReservedQuantities(usedQuantities);
+        return true;
+    }
+
+    /**
+     * Reserves the quantity used of each ingredient in stock on top of the quantities already reserved,
+     * an ingredient may appear more than once in a dish
+     *
+     * @param recipeIngredients ingredients used to make a single portion of the dish
+     * @param portions number of portions ordered
+     * @param usedQuantities quantities reserved so far, by the stock of each ingredient
+     * @return true if every ingredient is in stock and enough, false otherwise
+     */
+    private boolean isReserved(ArrayList<Ingredient> recipeIngredients, int portions,
+            IdentityHashMap<StockLevel, Integer> usedQuantities) {
+        for (Ingredient dishIngredient : recipeIngredients) {
+            StockLevel usedStockLevel = getStockLevel(dishIngredient);
 
-            int stockQuantity = usedIngredientFromStock.getQty();
-            int usedQuantity = dishIngredient.getQty();
-            int finalQuantity = stockQuantity - usedQuantity;
+            if (usedStockLevel == null) {
+                return false;
+            }
 
-            if (finalQuantity < 0) {
+            int usedQuantity = usedQuantities.getOrDefault(usedStockLevel, 0)
+                    + dishIngredient.getQty() * portions;
+            if (usedStockLevel.qty - usedQuantity < 0) {
                 return false;
             }
-            usedIngredientFromStock.setQty(finalQuantity);
+            usedQuantities.put(usedStockLevel, usedQuantity);
         }
         return true;
     }
 
+    private void useReservedQuantities(IdentityHashMap<StockLevel, Integer> usedQuantities) {
+        //every ingredient is in stock, so update the stock of ingredient left.
+        for (Map.Entry<StockLevel, Integer> usedQuantity : usedQuantities.entrySet()) {
+            StockLevel usedStockLevel = usedQuantity.getKey();
+            usedStockLevel.qty -= usedQuantity.getValue();
+            dishAvailability.clearIngredient(usedStockLevel.normalizedName);
+        }
+    }
+
     /**
-     * Retrieves the ingredient used in the ordered dish from pantryStock.
+     * Retrieves the stock of the ingredient used in the ordered dish from pantryStock.
      *
      * @param dishIngredient The ingredient used in the ordered dish.
-     * @return The corresponding ingredient in pantryStock.
+     * @return The stock of the corresponding ingredient in pantryStock, null if it is not in stock.
      */
-    private Ingredient getIngredient(Ingredient dishIngredient) {
-        return pantryStock.stream()
-                .filter(ingredient -> ingredient.getName().trim().equalsIgnoreCase(dishIngredient.getName().trim()))
-                .findFirst()
-                .orElse(null);
+    private StockLevel getStockLevel(Ingredient dishIngredient) {
+        return stockIndex.get(dishIngredient.getNormalizedName());
     }
 
     //@@author NaychiMin
     /**
      * Checks the availability of dishes based on ingredient stock.
+     * The availability of a dish is cached until the stock of one of its ingredients changes.
      */
 
     public void calculateDishAvailability(Menu menu, Order order) {
         logger.info("Calculating dish availability...");
         int menuSize = menu.getSize();
+        dishAvailability.indexMenu(menu);
 
         for (int i = 0; i < menuSize; i++) {
             Dish dish = menu.getDishFromId(i);
             ui.showToUser("Dish: " + dish.getName());
-            int numberOfDishes = calculateMaxDishes(dish, menu, order);
+            int numberOfDishes = getMaxDishes(dish, menu, order);
             ui.showDishAvailability(numberOfDishes);
 
             if (i != menuSize - 1) {
@@ -166,6 +245,23 @@ public class Pantry {
             }
         }
     }
+    /**
+     * Gets the number of dishes that can be prepared with the available ingredients, from the cache if possible.
+     * For a complete order, ingredients to be restocked are only shown for a dish that cannot be prepared at all,
+     * so such a dish is calculated again to show them.
+     *
+     * @param dish The dish on the menu.
+     */
+    private int getMaxDishes(Dish dish, Menu menu, Order order) {
+        Integer cachedMaxDishes = dishAvailability.getMaxPortions(dish);
+        if (cachedMaxDishes != null && cachedMaxDishes > 0 && order.getIsComplete()) {
+            return cachedMaxDishes;
+        }
+        int maxDishes = calculateMaxDishes(dish, menu, order);
+        dishAvailability.setMaxPortions(dish, maxDishes);
+        return maxDishes;
+    }
+
     //@@author
     /**
      * Calculates the number of dishes that can be prepared with the available ingredients.
@@ -195,6 +291,38 @@ public class Pantry {
         return maxNumofDish;
     }
 
+    /**
+     * Shows every ingredient that is not enough for a ticket of orders, with the total quantity needed
+     * by the whole ticket, under a single restock header.
+     *
+     * @param ticket orders that could not be cooked together
+     */
+    public void showTicketRestock(ArrayList<Order> ticket) {
+        logger.info("Calculating restock for ticket...");
+        //ingredients are listed in the order they first appear in the ticket
+        LinkedHashMap<String, Ingredient> neededIngredients = new LinkedHashMap<>();
+        for (Order order : ticket) {
+            for (Ingredient dishIngredient : order.getOrderedDish().getIngredients()) {
+                Ingredient neededIngredient = new Ingredient(dishIngredient.getName(),
+                        dishIngredient.getQty() * order.getQuantity(), dishIngredient.getUnit());
+                neededIngredients.merge(dishIngredient.getNormalizedName(), neededIngredient,
+                        (needed, more) -> new Ingredient(needed.getName(), needed.getQty() + more.getQty(),
+                                needed.getUnit()));
+            }
+        }
+
+        boolean isRestockHeaderDisplayed = false;
+        for (Ingredient neededIngredient : neededIngredients.values()) {
+            StockLevel stockLevel = getStockLevel(neededIngredient);
+            int currentQuantity = (stockLevel == null) ? 0 : stockLevel.qty;
+            if (currentQuantity < neededIngredient.getQty()) {
+                isRestockHeaderDisplayed = showRestockHeaderIfNeeded(isRestockHeaderDisplayed);
+                ui.showNeededRestock(neededIngredient.getName(), currentQuantity, neededIngredient.getUnit(),
+                        neededIngredient.getQty());
+            }
+        }
+    }
+
     private boolean showRestockHeaderIfNeeded(boolean isRestockHeaderDisplayed) {
         if (!isRestockHeaderDisplayed) {
             ui.showToUser(Messages.RESTOCK_CORNER, Messages.RESTOCK_TITLE, Messages.RESTOCK_CORNER);
@@ -224,13 +352,13 @@ public class Pantry {
      */
     private int calculateMaxDishForEachIngredient(Ingredient dishIngredient) {
         logger.info("Calculating max dish for each ingredient...");
-        Ingredient usedIngredientFromStock = getIngredient(dishIngredient);
+        StockLevel usedStockLevel = getStockLevel(dishIngredient);
 
-        if (usedIngredientFromStock == null) {
+        if (usedStockLevel == null) {
             return 0;
         }
 
-        int currentQuantity = usedIngredientFromStock.getQty();
+        int currentQuantity = usedStockLevel.qty;
         int usedQuantity = dishIngredient.getQty();
         return currentQuantity / usedQuantity;
     }
@@ -242,9 +370,9 @@ public class Pantry {
      */
     private void handleRestock(Ingredient dishIngredient, int dishQty) {
         String dishIngredientName = dishIngredient.getName();
-        Ingredient stockIngredient = getIngredient(dishIngredient);
+        StockLevel stockLevel = getStockLevel(dishIngredient);
 
-        int currentQuantity = (stockIngredient == null) ? 0 : stockIngredient.getQty();
+        int currentQuantity = (stockLevel == null) ? 0 : stockLevel.qty;
         String unit = dishIngredient.getUnit();
         int neededQuantity = dishIngredient.getQty() * dishQty;
         ui.showNeededRestock(dishIngredientName, currentQuantity, unit, neededQuantity);
@@ -260,12 +388,31 @@ public class Pantry {
         ArrayList<Ingredient> dishIngredients = new ArrayList<>();
 
         //retrieving the ingredients for orderedDish
-        for (Dish dish : menu.getMenuItemsList()) {
-            if (dish.getName().equals(orderedDish)) {
-                dishIngredients.addAll(dish.getIngredients());
-                break;
-            }
+        Dish dish = menu.getDishFromName(orderedDish);
+        if (dish != null) {
+            dishIngredients.addAll(dish.getIngredients());
         }
         return dishIngredients;
     }
+
+    /**
+     * Quantity of an ingredient in stock, which changes as ingredients are bought and dishes are cooked
+     */
+    private static class StockLevel {
+        private final String name;
+        private final String normalizedName;
+        private final String unit;
+        private int qty;
+
+        private StockLevel(Ingredient ingredient) {
+            this.name = ingredient.getName();
+            this.normalizedName = ingredient.getNormalizedName();
+            this.unit = ingredient.getUnit();
+            this.qty = ingredient.getQty();
+        }
+
+        private Ingredient toIngredient() {
+            return new Ingredient(name, qty, unit);
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.cafectrl.data;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -10,50 +12,128 @@ import seedu.cafectrl.ui.Ui;
 
 /**
  * The Sales class represents sales data over a period of time, maintaining a collection of order lists.
+ * Order lists are kept by day, and only days that orders have been added to have one, so a day without orders
+ * does not take up any storage. The days accounted for are tracked apart from the order lists.
  */
 public class Sales {
     public static final int DAY_DISPLAY_OFFSET = 1;
     private static Logger logger = Logger.getLogger(CafeCtrl.class.getName());
-    private static ArrayList<OrderList> orderLists;
+    private final HashMap<Integer, OrderList> orderLists = new HashMap<>();
+    //days whose order lists are left in storage until they are needed
+    private final BitSet unloadedDays = new BitSet();
     private int daysAccounted;
+    private OrderListLoader orderListLoader;
 
     public Sales() {
-        this.orderLists = new ArrayList<>();
-        orderLists.add(new OrderList());
         this.daysAccounted = 0;
     }
 
     public Sales(ArrayList<OrderList> orderLists) {
-        this.orderLists = orderLists;
-        this.daysAccounted = orderLists.size() - DAY_DISPLAY_OFFSET;
+        this.daysAccounted = Math.max(orderLists.size() - DAY_DISPLAY_OFFSET, 0);
+        for (int day = 0; day < orderLists.size(); day++) {
+            this.orderLists.put(day, orderLists.get(day));
+        }
     }
 
-    public Sales(OrderList orderList) {
-        this.orderLists = new ArrayList<>();
-        orderLists.add(orderList);
-        this.daysAccounted = orderLists.size() - DAY_DISPLAY_OFFSET;
+    /**
+     * Constructs Sales whose days are all left in storage, each day is only loaded when it is needed
+     *
+     * @param dayCount number of days in storage
+     * @param orderListLoader loader of the days in storage
+     */
+    public Sales(int dayCount, OrderListLoader orderListLoader) {
+        this.orderListLoader = orderListLoader;
+        this.daysAccounted = Math.max(dayCount - DAY_DISPLAY_OFFSET, 0);
+        unloadedDays.set(0, dayCount);
     }
 
-    public void addOrderList(OrderList orderList) {
-        orderLists.add(orderList);
+    public Sales(OrderList orderList) {
+        this.daysAccounted = 0;
+        orderLists.put(0, orderList);
     }
 
+    /**
+     * Accounts for the day after the last day accounted for, without allocating anything for the day
+     */
     public void nextDay() {
         this.daysAccounted += DAY_DISPLAY_OFFSET;
     }
 
+    /**
+     * Extends the days accounted for up to the given day, if it is not accounted for yet
+     *
+     * @param day index of the day
+     */
+    public void accountForDay(int day) {
+        daysAccounted = Math.max(daysAccounted, day);
+    }
+
     public int getDaysAccounted() {
         return daysAccounted;
     }
 
-    public ArrayList<OrderList> getOrderLists() {
-        return orderLists;
+    /**
+     * Gets the number of days accounted for, from the first day to the last day accounted for
+     *
+     * @return number of days
+     */
+    public int getDayCount() {
+        return daysAccounted + DAY_DISPLAY_OFFSET;
     }
 
+    /**
+     * Gets the order list of a day to add orders to, creating it if the day has no order list yet.
+     * The day is accounted for if it is not accounted for yet.
+     *
+     * @param index index of the day
+     * @return order list of the day
+     */
     public OrderList getOrderList(int index) {
+        OrderList orderList = findOrderList(index);
+        if (orderList == null) {
+            accountForDay(index);
+            orderList = new OrderList();
+            orderLists.put(index, orderList);
+        }
+        return orderList;
+    }
+
+    /**
+     * Finds the order list of a day, loading it first if it has not been loaded
+     *
+     * @param index index of the day
+     * @return order list of the day, null if the day has no order list
+     */
+    public OrderList findOrderList(int index) {
+        if (unloadedDays.get(index)) {
+            logger.info("Loading order list of day " + index + "...");
+            orderLists.put(index, orderListLoader.loadOrderList(index));
+            unloadedDays.clear(index);
+        }
         return orderLists.get(index);
     }
 
+    /**
+     * Checks if the order list of a day is in memory, rather than left in storage until it is needed
+     *
+     * @param index index of the day
+     * @return true if the day is loaded or was never in storage, false otherwise
+     */
+    public boolean isOrderListLoaded(int index) {
+        return !unloadedDays.get(index);
+    }
+
+    /**
+     * Gets the number of orders of a day
+     *
+     * @param index index of the day
+     * @return number of orders, 0 if the day has no order list
+     */
+    public int getOrderCount(int index) {
+        OrderList orderList = findOrderList(index);
+        return orderList == null ? 0 : orderList.getSize();
+    }
+
     //@@author NaychiMin
     /**
      * Prints all sales data, organized by day, including dish names, quantities, and total cost prices.
@@ -67,11 +147,11 @@ public class Sales {
             return;
         }
 
-        for (int day = 0; day < orderLists.size(); day++) {
+        for (int day = 0; day < getDayCount(); day++) {
             logger.info("Printing sales for day " + day + "...");
-            OrderList orderList = orderLists.get(day);
+            OrderList orderList = findOrderList(day);
 
-            if (orderList.isEmpty() || !orderList.hasCompletedOrders()) {
+            if (orderList == null || orderList.isEmpty() || !orderList.hasCompletedOrders()) {
                 ui.showToUser("No sales for day " + (day + DAY_DISPLAY_OFFSET) + ".");
                 continue;
             }
@@ -91,8 +171,11 @@ public class Sales {
         logger.info("Printing sales by day...");
         int orderListIndex = day - DAY_DISPLAY_OFFSET;
         try {
-            OrderList orderList = orderLists.get(orderListIndex);
-            if (orderList.isEmpty() || !orderList.hasCompletedOrders()) {
+            if (orderListIndex < 0 || orderListIndex > daysAccounted) {
+                throw new IndexOutOfBoundsException("Day " + day + " is not accounted for");
+            }
+            OrderList orderList = findOrderList(orderListIndex);
+            if (orderList == null || orderList.isEmpty() || !orderList.hasCompletedOrders()) {
                 ui.showToUser("No sales for this day.");
                 return;
             }
@@ -106,11 +189,17 @@ public class Sales {
     }
 
     public boolean isOrderListsEmpty() {
-        for (OrderList orderList : orderLists) {
+        //only the days that have order lists are checked, instead of every day accounted for
+        for (OrderList orderList : orderLists.values()) {
             if (!orderList.isEmpty()) {
                 return false;
             }
         }
+        for (int day = unloadedDays.nextSetBit(0); day >= 0; day = unloadedDays.nextSetBit(day + 1)) {
+            if (getOrderCount(day) > 0) {
+                return false;
+            }
+        }
         return true;
     }
 }
@@ -0,0 +1,100 @@
+package seedu.cafectrl.data;
+
+import seedu.cafectrl.ui.Ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Running totals of the completed orders of a day by dish, kept up to date as orders are completed,
+ * so that the sales reports read them instead of going through the orders of the day again.
+ * Every dish name is mapped to a dense id when the dish is first completed, and the quantity and cost of each dish
+ * are accumulated in primitive arrays indexed by that id. Costs are accumulated in cents.
+ */
+public class SalesAggregation {
+    private static final int INITIAL_CAPACITY = 8;
+    private final HashMap<String, Integer> dishIds = new HashMap<>();
+    private final ArrayList<String> dishNames = new ArrayList<>();
+    private int[] quantities = new int[INITIAL_CAPACITY];
+    private long[] costsInCents = new long[INITIAL_CAPACITY];
+    private long totalCostInCents = 0;
+    private int completedOrderCount = 0;
+
+    /**
+     * Adds a completed order to the totals
+     *
+     * @param order order that has been completed
+     */
+    public void addOrder(Order order) {
+        int dishId = getDishId(order.getDishName());
+        quantities[dishId] += order.getQuantity();
+        costsInCents[dishId] += order.getTotalOrderCostInCents();
+        totalCostInCents += order.getTotalOrderCostInCents();
+        completedOrderCount++;
+    }
+
+    /**
+     * Removes an order that is no longer completed from the totals
+     *
+     * @param order order that was added to the totals
+     */
+    public void removeOrder(Order order) {
+        int dishId = getDishId(order.getDishName());
+        quantities[dishId] -= order.getQuantity();
+        costsInCents[dishId] -= order.getTotalOrderCostInCents();
+        totalCostInCents -= order.getTotalOrderCostInCents();
+        completedOrderCount--;
+    }
+
+    /**
+     * Gets the dense id of a dish, dishes whose names only differ in case or surrounding spaces share an id
+     *
+     * @param dishName name of the dish
+     * @return id of the dish
+     */
+    private int getDishId(String dishName) {
+        String dishKey = dishName.trim().toLowerCase();
+        Integer dishId = dishIds.get(dishKey);
+        if (dishId != null) {
+            return dishId;
+        }
+
+        dishId = dishNames.size();
+        dishIds.put(dishKey, dishId);
+        dishNames.add(dishName);
+        if (dishId == quantities.length) {
+            int newCapacity = quantities.length * 2;
+            quantities = Arrays.copyOf(quantities, newCapacity);
+            costsInCents = Arrays.copyOf(costsInCents, newCapacity);
+        }
+        return dishId;
+    }
+
+    public int getCompletedOrderCount() {
+        return completedOrderCount;
+    }
+
+    public long getTotalCostInCents() {
+        return totalCostInCents;
+    }
+
+    /**
+     * Shows the totals as rows of dish name, quantity and total cost in the order the dishes were first completed,
+     * followed by the total for the day
+     *
+     * @param ui The Ui object for user interface interactions.
+     */
+    public void showAggregatedOrders(Ui ui) {
+        for (int dishId = 0; dishId < dishNames.size(); dishId++) {
+            if (quantities[dishId] == 0) {
+                continue;
+            }
+            ui.showSalesAll(dishNames.get(dishId), quantities[dishId], Money.format(costsInCents[dishId]));
+        }
+
+        ui.showSalesBottom();
+        ui.showSalesCost("Total for day: ", "$" + Money.format(totalCostInCents));
+        ui.showSalesBottom();
+    }
+}
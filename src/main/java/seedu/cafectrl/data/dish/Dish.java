@@ -1,24 +1,23 @@
 package seedu.cafectrl.data.dish;
 
+import seedu.cafectrl.data.Money;
+
 import java.util.ArrayList;
-import java.text.DecimalFormat;
 
 public class Dish {
-    private final DecimalFormat dollarValue = new DecimalFormat("0.00");
-
     private final String name;
     private final ArrayList<Ingredient> ingredients;
-    private float price;
+    private long priceInCents;
 
-    public Dish(String name, ArrayList<Ingredient> ingredients, float price) {
+    public Dish(String name, ArrayList<Ingredient> ingredients, long priceInCents) {
         this.name = name;
         this.ingredients = ingredients;
-        this.price = Math.abs(price);
+        this.priceInCents = Math.abs(priceInCents);
     }
-    public Dish(String name, float price) {
+    public Dish(String name, long priceInCents) {
         this.name = name;
         this.ingredients = new ArrayList<>();
-        this.price = Math.abs(price);
+        this.priceInCents = Math.abs(priceInCents);
     }
 
     public String getName() {
@@ -29,33 +28,30 @@ public class Dish {
         return ingredients;
     }
 
-    public float getPrice() {
-        return price;
+    public long getPriceInCents() {
+        return priceInCents;
     }
 
     public String getPriceString() {
-        return this.dollarValue.format(this.price);
+        return Money.format(this.priceInCents);
     }
 
-    public void setPrice(float newPrice) {
-        this.price = Math.abs(newPrice);
+    public void setPriceInCents(long newPriceInCents) {
+        this.priceInCents = Math.abs(newPriceInCents);
     }
 
     //@@author ziyi105
     @Override
     public String toString() {
-        return this.name + " $" + this.dollarValue.format(this.price);
+        return this.name + " $" + getPriceString();
     }
 
     /**
      * Compare the original price and new price
-     * @param otherPrice price value to be compared with
-     * @return 0 if both price values are the same, -1 if the this.price is lower, +1 otherwise
+     * @param otherPriceInCents price value in cents to be compared with
+     * @return 0 if both price values are the same, negative if the this.price is lower, positive otherwise
      */
-    public int comparePrice(float otherPrice) {
-        String formattedPrice = this.dollarValue.format(price);
-        String formattedNewPrice = this.dollarValue.format(otherPrice);
-
-        return formattedPrice.compareTo(formattedNewPrice);
+    public int comparePrice(long otherPriceInCents) {
+        return Long.compare(priceInCents, otherPriceInCents);
     }
 }
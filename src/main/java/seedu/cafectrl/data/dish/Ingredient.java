@@ -1,26 +1,71 @@
 package seedu.cafectrl.data.dish;
 
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * An immutable ingredient line of a recipe, such as 100g of rice.
+ * The quantities in stock are held by the pantry, so an ingredient never changes once it is created,
+ * and equal ingredients can be shared through {@link #of(String, int, String)} and used as keys of hash indexes.
+ */
 public class Ingredient {
+    //interned ingredients are only weakly held, so ingredients of deleted dishes and discarded menus are not kept
+    private static final WeakHashMap<Ingredient, WeakReference<Ingredient>> internedIngredients =
+            new WeakHashMap<>();
     private final String name;
+    private final String normalizedName;
     private final String unit;
-    private int qty;
+    private final int qty;
 
     public Ingredient(String name) {
-        this.name = name;
-        this.unit = null;
-        this.qty = 0;
+        this(name, 0, null);
     }
 
     public Ingredient(String name, int qty, String unit) {
         this.name = name;
+        this.normalizedName = normalizeName(name);
         this.unit = unit;
         this.qty = qty;
     }
 
+    /**
+     * Gets the single shared ingredient equal to the given name, quantity and unit
+     *
+     * @param name name of the ingredient
+     * @param qty quantity of the ingredient
+     * @param unit unit of the quantity
+     * @return the interned ingredient
+     */
+    public static synchronized Ingredient of(String name, int qty, String unit) {
+        Ingredient ingredient = new Ingredient(name, qty, unit);
+        WeakReference<Ingredient> internedReference = internedIngredients.get(ingredient);
+        Ingredient internedIngredient = internedReference == null ? null : internedReference.get();
+        if (internedIngredient != null) {
+            return internedIngredient;
+        }
+        internedIngredients.put(ingredient, new WeakReference<>(ingredient));
+        return ingredient;
+    }
+
+    /**
+     * Normalizes the name of an ingredient or a dish for it to be looked up regardless of case and surrounding spaces
+     *
+     * @param name name of the ingredient or dish
+     * @return the trimmed name in lower case
+     */
+    public static String normalizeName(String name) {
+        return name.trim().toLowerCase();
+    }
+
     public String getName() {
         return name;
     }
 
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
     public int getQty() {
         return qty;
     }
@@ -29,27 +74,32 @@ public class Ingredient {
         return unit;
     }
 
-    public void setQty(int qty) {
-        this.qty = qty;
-    }
-
     @Override
     public String toString() {
         return name + " - " + qty + unit;
     }
 
     /**
-     * Compare the name of this ingredient to the other ingredient
+     * Compare this ingredient to the other ingredient
      *
      * @param obj the other ingredient to be compared with
-     * @return true if they have the same name, false otherwise
+     * @return true if they have the same name, quantity and unit, false otherwise
      */
     @Override
     public boolean equals(Object obj) {
-        if (obj instanceof Ingredient) {
-            String otherName = ((Ingredient) obj).name;
-            return this.name.equals(otherName);
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Ingredient)) {
+            return false;
         }
-        return false;
+        Ingredient otherIngredient = (Ingredient) obj;
+        return qty == otherIngredient.qty && name.equals(otherIngredient.name)
+                && Objects.equals(unit, otherIngredient.unit);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, qty, unit);
     }
 }
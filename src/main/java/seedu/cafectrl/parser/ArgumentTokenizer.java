@@ -0,0 +1,245 @@
+package seedu.cafectrl.parser;
+
+import java.util.Arrays;
+
+/**
+ * Splits the arguments of a command, such as "name/chicken rice qty/2", into tokens in a single pass.
+ * A token is either a prefixed argument, a separator between groups of arguments, or text that is not preceded
+ * by any prefix. Only the positions of each token are kept, and its value is only cut out of the arguments
+ * when it is read, so tokenizing takes time linear in the length of the arguments.
+ */
+public class ArgumentTokenizer {
+    public static final int NO_MISMATCH = -1;
+    /** Prefix index of text that is not preceded by any prefix */
+    private static final int TEXT = -1;
+    /** Prefix index of a separator between groups of arguments */
+    private static final int SEPARATOR = -2;
+    private static final int NO_SEPARATOR = -1;
+    private static final int INITIAL_CAPACITY = 8;
+    private final String arguments;
+    private final String[] prefixes;
+    private final int separator;
+    private int[] prefixIndexes = new int[INITIAL_CAPACITY];
+    private int[] positions = new int[INITIAL_CAPACITY];
+    private int[] valueStarts = new int[INITIAL_CAPACITY];
+    private int[] valueEnds = new int[INITIAL_CAPACITY];
+    private int tokenCount = 0;
+
+    /**
+     * Tokenizes arguments that are not separated into groups
+     *
+     * @param arguments arguments of the command
+     * @param prefixes prefixes of the arguments, such as "name/"
+     */
+    public ArgumentTokenizer(String arguments, String... prefixes) {
+        this(arguments, NO_SEPARATOR, prefixes);
+    }
+
+    /**
+     * Tokenizes arguments that are separated into groups, such as the ingredients of a dish separated by ','
+     *
+     * @param arguments arguments of the command
+     * @param separator character that separates the groups of arguments
+     * @param prefixes prefixes of the arguments, such as "ingredient/"
+     */
+    public ArgumentTokenizer(String arguments, char separator, String... prefixes) {
+        this(arguments, (int) separator, prefixes);
+    }
+
+    private ArgumentTokenizer(String arguments, int separator, String... prefixes) {
+        this.arguments = arguments;
+        this.prefixes = prefixes;
+        this.separator = separator;
+        tokenize();
+    }
+
+    private void tokenize() {
+        int tokenPrefixIndex = TEXT;
+        int tokenPosition = 0;
+        int valueStart = 0;
+        int index = 0;
+
+        while (index < arguments.length()) {
+            if (arguments.charAt(index) == separator) {
+                addToken(tokenPrefixIndex, tokenPosition, valueStart, index);
+                addToken(SEPARATOR, index, index, index);
+                tokenPrefixIndex = TEXT;
+                tokenPosition = index + 1;
+                valueStart = index + 1;
+                index++;
+                continue;
+            }
+
+            int prefixIndex = findPrefixAt(index);
+            if (prefixIndex == TEXT) {
+                index++;
+                continue;
+            }
+            addToken(tokenPrefixIndex, tokenPosition, valueStart, index);
+            tokenPrefixIndex = prefixIndex;
+            tokenPosition = index;
+            valueStart = index + prefixes[prefixIndex].length();
+            index = valueStart;
+        }
+        addToken(tokenPrefixIndex, tokenPosition, valueStart, arguments.length());
+
+        //a separator after the last group is ignored
+        while (tokenCount > 0 && prefixIndexes[tokenCount - 1] == SEPARATOR) {
+            tokenCount--;
+        }
+    }
+
+    private int findPrefixAt(int index) {
+        for (int prefixIndex = 0; prefixIndex < prefixes.length; prefixIndex++) {
+            if (arguments.startsWith(prefixes[prefixIndex], index)) {
+                return prefixIndex;
+            }
+        }
+        return TEXT;
+    }
+
+    private void addToken(int prefixIndex, int position, int valueStart, int valueEnd) {
+        int tokenPosition = position;
+        if (prefixIndex == TEXT) {
+            //text that is only whitespace, such as the space after a separator, is not a token
+            tokenPosition = skipWhitespace(valueStart, valueEnd);
+            if (tokenPosition == valueEnd) {
+                return;
+            }
+        }
+
+        if (tokenCount == prefixIndexes.length) {
+            int newCapacity = tokenCount * 2;
+            prefixIndexes = Arrays.copyOf(prefixIndexes, newCapacity);
+            positions = Arrays.copyOf(positions, newCapacity);
+            valueStarts = Arrays.copyOf(valueStarts, newCapacity);
+            valueEnds = Arrays.copyOf(valueEnds, newCapacity);
+        }
+        prefixIndexes[tokenCount] = prefixIndex;
+        positions[tokenCount] = tokenPosition;
+        valueStarts[tokenCount] = valueStart;
+        valueEnds[tokenCount] = valueEnd;
+        tokenCount++;
+    }
+
+    private int skipWhitespace(int start, int end) {
+        int index = start;
+        while (index < end && Character.isWhitespace(arguments.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    public int getTokenCount() {
+        return tokenCount;
+    }
+
+    /**
+     * Checks if a token is the argument of the given prefix
+     *
+     * @param tokenIndex index of the token, which may be past the last token
+     * @param prefix prefix of the argument
+     * @return true if the token exists and is the argument of the prefix, false otherwise
+     */
+    public boolean isPrefixAt(int tokenIndex, String prefix) {
+        return tokenIndex < tokenCount && prefixIndexes[tokenIndex] >= 0
+                && prefixes[prefixIndexes[tokenIndex]].equals(prefix);
+    }
+
+    /**
+     * Finds the first token that is not the argument of the expected prefix, starting from the given token
+     *
+     * @param fromTokenIndex index of the token expected to be the argument of the first prefix
+     * @param expectedPrefixes prefixes of the arguments in the order they are expected
+     * @return index of the first mismatched token, which may be past the last token if it is missing,
+     *         or NO_MISMATCH if every expected argument is found
+     */
+    public int findMismatch(int fromTokenIndex, String... expectedPrefixes) {
+        for (int offset = 0; offset < expectedPrefixes.length; offset++) {
+            if (!isPrefixAt(fromTokenIndex + offset, expectedPrefixes[offset])) {
+                return fromTokenIndex + offset;
+            }
+        }
+        return NO_MISMATCH;
+    }
+
+    /**
+     * Finds the first token in a range that is not the argument of the expected prefix,
+     * where the range is expected to hold exactly the expected arguments
+     *
+     * @param fromTokenIndex index of the token expected to be the argument of the first prefix
+     * @param toTokenIndex index after the last token of the range
+     * @param expectedPrefixes prefixes of the arguments in the order they are expected
+     * @return index of the first mismatched or extra token, or NO_MISMATCH if the range holds the expected arguments
+     */
+    public int findMismatch(int fromTokenIndex, int toTokenIndex, String... expectedPrefixes) {
+        int mismatchedTokenIndex = findMismatch(fromTokenIndex, expectedPrefixes);
+        int expectedEnd = fromTokenIndex + expectedPrefixes.length;
+        if (mismatchedTokenIndex == NO_MISMATCH && toTokenIndex != expectedEnd) {
+            return expectedEnd;
+        }
+        return mismatchedTokenIndex;
+    }
+
+    /**
+     * Counts the arguments of the given prefix
+     *
+     * @param prefix prefix of the arguments
+     * @return number of arguments of the prefix
+     */
+    public int countPrefix(String prefix) {
+        return countPrefix(prefix, 0, tokenCount);
+    }
+
+    /**
+     * Counts the arguments of the given prefix among a range of tokens
+     *
+     * @param prefix prefix of the arguments
+     * @param fromTokenIndex index of the first token of the range
+     * @param toTokenIndex index after the last token of the range
+     * @return number of arguments of the prefix in the range
+     */
+    public int countPrefix(String prefix, int fromTokenIndex, int toTokenIndex) {
+        int prefixCount = 0;
+        for (int tokenIndex = fromTokenIndex; tokenIndex < toTokenIndex; tokenIndex++) {
+            if (isPrefixAt(tokenIndex, prefix)) {
+                prefixCount++;
+            }
+        }
+        return prefixCount;
+    }
+
+    /**
+     * Finds the end of the group of arguments that a token is in
+     *
+     * @param tokenIndex index of the token
+     * @return index of the separator after the group, or the number of tokens if it is the last group
+     */
+    public int findGroupEnd(int tokenIndex) {
+        int groupEnd = tokenIndex;
+        while (groupEnd < tokenCount && prefixIndexes[groupEnd] != SEPARATOR) {
+            groupEnd++;
+        }
+        return groupEnd;
+    }
+
+    /**
+     * Gets the position of a token in the arguments, which is where its prefix starts
+     *
+     * @param tokenIndex index of the token, which may be past the last token
+     * @return position of the token, or the length of the arguments if there is no such token
+     */
+    public int getPosition(int tokenIndex) {
+        return tokenIndex < tokenCount ? positions[tokenIndex] : arguments.length();
+    }
+
+    /**
+     * Gets the value of a token, which is the text after its prefix up to the next token
+     *
+     * @param tokenIndex index of the token
+     * @return value of the token, untrimmed
+     */
+    public String getValue(int tokenIndex) {
+        return arguments.substring(valueStarts[tokenIndex], valueEnds[tokenIndex]);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.cafectrl.parser;
+
+import seedu.cafectrl.data.CurrentDate;
+import seedu.cafectrl.data.Menu;
+import seedu.cafectrl.data.Pantry;
+import seedu.cafectrl.data.Sales;
+import seedu.cafectrl.storage.OrderJournal;
+import seedu.cafectrl.ui.Ui;
+
+/**
+ * Holds the objects of the current session that commands are prepared with,
+ * so that they are handed to every command factory together
+ */
+public class CommandContext {
+    private final Menu menu;
+    private final Ui ui;
+    private final Pantry pantry;
+    private final Sales sales;
+    private final CurrentDate currentDate;
+    private final OrderJournal orderJournal;
+
+    public CommandContext(Menu menu, Ui ui, Pantry pantry, Sales sales, CurrentDate currentDate,
+            OrderJournal orderJournal) {
+        this.menu = menu;
+        this.ui = ui;
+        this.pantry = pantry;
+        this.sales = sales;
+        this.currentDate = currentDate;
+        this.orderJournal = orderJournal;
+    }
+
+    public Menu getMenu() {
+        return menu;
+    }
+
+    public Ui getUi() {
+        return ui;
+    }
+
+    public Pantry getPantry() {
+        return pantry;
+    }
+
+    public Sales getSales() {
+        return sales;
+    }
+
+    public CurrentDate getCurrentDate() {
+        return currentDate;
+    }
+
+    /**
+     * Gets the journal that orders are appended to
+     *
+     * @return the order journal, null if orders are not journaled
+     */
+    public OrderJournal getOrderJournal() {
+        return orderJournal;
+    }
+}
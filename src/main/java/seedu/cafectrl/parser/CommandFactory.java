@@ -0,0 +1,18 @@
+package seedu.cafectrl.parser;
+
+import seedu.cafectrl.command.Command;
+
+/**
+ * Prepares a command from the arguments the user entered after its command word
+ */
+@FunctionalInterface
+public interface CommandFactory {
+    /**
+     * Prepares the command
+     *
+     * @param arguments arguments entered after the command word
+     * @param context objects of the current session that the command works on
+     * @return the prepared command, or an IncorrectCommand if the arguments are invalid
+     */
+    Command prepareCommand(String arguments, CommandContext context);
+}
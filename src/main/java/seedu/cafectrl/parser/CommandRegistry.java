@@ -0,0 +1,181 @@
+package seedu.cafectrl.parser;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maps every command word to the factory of its command, through a trie of the command words.
+ * A command word is found in time linear in its length, and so is any prefix of a command word, so a command
+ * can be entered by the shortest prefix that no other command word starts with.
+ * Commands that delete data, exit or change the day are only run when their command word is entered in full,
+ * so that a typo of one or two letters cannot run them.
+ * Words that are not found are matched against the trie again for command words that the user may have meant.
+ */
+public class CommandRegistry {
+    private static final int MAX_SUGGESTION_DISTANCE = 2;
+    private final TrieNode root = new TrieNode();
+
+    /**
+     * Node of the trie, holding the command word that ends at it if there is one
+     */
+    private static class TrieNode {
+        //children are kept in order, so that suggestions are listed alphabetically
+        private final TreeMap<Character, TrieNode> children = new TreeMap<>();
+        private String commandWord;
+        private CommandFactory commandFactory;
+        private boolean isAbbreviationAllowed;
+        //number of command words that end at or below this node
+        private int commandWordCount = 0;
+    }
+
+    /**
+     * Suggestions of command words, only keeping the command words closest to the word that was not found
+     */
+    private static class Suggestions {
+        private final ArrayList<String> commandWords = new ArrayList<>();
+        private int distance = MAX_SUGGESTION_DISTANCE;
+
+        private void offer(String commandWord, int commandWordDistance) {
+            if (commandWordDistance > distance) {
+                return;
+            }
+            if (commandWordDistance < distance) {
+                commandWords.clear();
+                distance = commandWordDistance;
+            }
+            commandWords.add(commandWord);
+        }
+    }
+
+    /**
+     * Registers the factory of a command under its command word
+     *
+     * @param commandWord word that the user enters for the command
+     * @param commandFactory factory that prepares the command
+     * @throws IllegalArgumentException if the command word has already been registered
+     */
+    public void register(String commandWord, CommandFactory commandFactory) {
+        register(commandWord, commandFactory, true);
+    }
+
+    /**
+     * Registers the factory of a command that is only run when its command word is entered in full.
+     * An abbreviation of the command word is suggested to the user instead of running the command.
+     *
+     * @param commandWord word that the user enters for the command
+     * @param commandFactory factory that prepares the command
+     * @throws IllegalArgumentException if the command word has already been registered
+     */
+    public void registerFullWord(String commandWord, CommandFactory commandFactory) {
+        register(commandWord, commandFactory, false);
+    }
+
+    private void register(String commandWord, CommandFactory commandFactory, boolean isAbbreviationAllowed) {
+        TrieNode existingNode = findNode(commandWord);
+        if (existingNode != null && existingNode.commandWord != null) {
+            throw new IllegalArgumentException("Command word " + commandWord + " is already registered");
+        }
+
+        TrieNode node = root;
+        node.commandWordCount++;
+        for (int i = 0; i < commandWord.length(); i++) {
+            node = node.children.computeIfAbsent(commandWord.charAt(i), letter -> new TrieNode());
+            node.commandWordCount++;
+        }
+        node.commandWord = commandWord;
+        node.commandFactory = commandFactory;
+        node.isAbbreviationAllowed = isAbbreviationAllowed;
+    }
+
+    /**
+     * Finds the factory of the command of a command word, or of the only command word that starts with it
+     * unless that command word has to be entered in full
+     *
+     * @param word command word or its abbreviation entered by the user
+     * @return the factory of the command, null if no command word or more than one command word matches
+     */
+    public CommandFactory find(String word) {
+        TrieNode node = findNode(word);
+        if (node == null) {
+            return null;
+        }
+
+        //an abbreviation leads down a single path to the only command word that starts with it
+        while (node.commandWord == null && node.commandWordCount == 1) {
+            node = node.children.firstEntry().getValue();
+        }
+        boolean isFound = node.commandWord != null
+                && (node.isAbbreviationAllowed || node.commandWord.equals(word));
+        return isFound ? node.commandFactory : null;
+    }
+
+    private TrieNode findNode(String word) {
+        TrieNode node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.children.get(word.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Suggests the command words that the user may have meant by a word that is not a command word.
+     * These are every command word that the word is an abbreviation of, or else the command words
+     * that are the fewest edits away from the word, if they are close enough.
+     *
+     * @param word word entered by the user that did not match any command
+     * @return the suggested command words in alphabetical order, empty if there are none
+     */
+    public ArrayList<String> suggest(String word) {
+        TrieNode prefixNode = findNode(word);
+        if (prefixNode != null) {
+            ArrayList<String> commandWords = new ArrayList<>();
+            collectCommandWords(prefixNode, commandWords);
+            return commandWords;
+        }
+
+        //each row holds the edit distances from every prefix of the word to the prefix of the trie walked so far
+        int[] firstRow = new int[word.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        Suggestions suggestions = new Suggestions();
+        for (Map.Entry<Character, TrieNode> child : root.children.entrySet()) {
+            searchSimilar(child.getValue(), child.getKey(), word, firstRow, suggestions);
+        }
+        return suggestions.commandWords;
+    }
+
+    private void collectCommandWords(TrieNode node, ArrayList<String> commandWords) {
+        if (node.commandWord != null) {
+            commandWords.add(node.commandWord);
+        }
+        for (TrieNode child : node.children.values()) {
+            collectCommandWords(child, commandWords);
+        }
+    }
+
+    private void searchSimilar(TrieNode node, char letter, String word, int[] previousRow,
+            Suggestions suggestions) {
+        int[] currentRow = new int[previousRow.length];
+        currentRow[0] = previousRow[0] + 1;
+        int minDistance = currentRow[0];
+        for (int i = 1; i < currentRow.length; i++) {
+            int substitutionCost = word.charAt(i - 1) == letter ? 0 : 1;
+            currentRow[i] = Math.min(Math.min(currentRow[i - 1] + 1, previousRow[i] + 1),
+                    previousRow[i - 1] + substitutionCost);
+            minDistance = Math.min(minDistance, currentRow[i]);
+        }
+
+        if (node.commandWord != null) {
+            suggestions.offer(node.commandWord, currentRow[currentRow.length - 1]);
+        }
+        //no command word below this node can be closer to the word than the closest prefix in this row
+        if (minDistance > suggestions.distance) {
+            return;
+        }
+        for (Map.Entry<Character, TrieNode> child : node.children.entrySet()) {
+            searchSimilar(child.getValue(), child.getKey(), word, currentRow, suggestions);
+        }
+    }
+}
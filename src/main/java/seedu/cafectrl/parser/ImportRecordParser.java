@@ -0,0 +1,302 @@
+package seedu.cafectrl.parser;
+
+import seedu.cafectrl.command.AddOrderCommand;
+import seedu.cafectrl.command.BuyIngredientCommand;
+import seedu.cafectrl.parser.exception.ParserException;
+import seedu.cafectrl.ui.ErrorMessages;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Parses the records of an import file into the commands that the user would have entered for them,
+ * so that imported records are applied through the same commands as the ones entered by the user.
+ * A record is either an order or a purchase of an ingredient, given as a line of CSV such as
+ * "order,chicken rice,2" and "buy_ingredient,rice,500g", or as a line of JSON such as
+ * {"type": "order", "name": "chicken rice", "qty": 2}.
+ * A CSV column may be quoted to hold commas, with a quote inside it written as two quotes.
+ */
+public class ImportRecordParser {
+    public static final String ORDER_RECORD_TYPE = "order";
+    public static final String BUY_INGREDIENT_RECORD_TYPE = "buy_ingredient";
+    private static final String CSV_DIVIDER = ",";
+    private static final char CSV_DIVIDER_CHARACTER = ',';
+    private static final char CSV_QUOTE = '"';
+    private static final String CSV_HEADER_FIRST_COLUMN = "type";
+    private static final int CSV_COLUMN_COUNT = 3;
+    private static final int TYPE_COLUMN = 0;
+    private static final int NAME_COLUMN = 1;
+    private static final int QTY_COLUMN = 2;
+    private static final String TYPE_KEY = "type";
+    private static final String NAME_KEY = "name";
+    private static final String QTY_KEY = "qty";
+    private static final String[] JSON_LINES_EXTENSIONS = {".jsonl", ".ndjson", ".json"};
+    private static final int UNICODE_ESCAPE_LENGTH = 4;
+    private static final int HEX_RADIX = 16;
+
+    private final boolean isJsonLines;
+
+    /**
+     * @param isJsonLines true if every record is a line of JSON, false if every record is a line of CSV
+     */
+    public ImportRecordParser(boolean isJsonLines) {
+        this.isJsonLines = isJsonLines;
+    }
+
+    /**
+     * Creates the parser for the records of an import file, by the extension of the file.
+     * Files ending in .jsonl, .ndjson or .json hold JSON lines, any other file holds CSV.
+     *
+     * @param filePath path of the import file
+     * @return parser for the records of the file
+     */
+    public static ImportRecordParser forFile(String filePath) {
+        String lowerCaseFilePath = filePath.toLowerCase();
+        for (String extension : JSON_LINES_EXTENSIONS) {
+            if (lowerCaseFilePath.endsWith(extension)) {
+                return new ImportRecordParser(true);
+            }
+        }
+        return new ImportRecordParser(false);
+    }
+
+    /**
+     * Checks if a line of the import file does not hold a record, such as a blank line or the CSV header
+     *
+     * @param line line of the import file
+     * @return true if the line is to be skipped, false otherwise
+     */
+    public boolean isSkipped(String line) {
+        String trimmedLine = line.trim();
+        if (trimmedLine.isEmpty()) {
+            return true;
+        }
+        return !isJsonLines && trimmedLine.regionMatches(true, 0, CSV_HEADER_FIRST_COLUMN + CSV_DIVIDER,
+                0, CSV_HEADER_FIRST_COLUMN.length() + CSV_DIVIDER.length());
+    }
+
+    /**
+     * Parses a record into the command that the user would have entered for it
+     *
+     * @param line line of the import file holding the record
+     * @return user input of the command, such as "add_order name/chicken rice qty/2"
+     * @throws ParserException if the record is malformed or of an unknown type
+     */
+    public String parseRecord(String line) throws ParserException {
+        String type;
+        String name;
+        String qty;
+        if (isJsonLines) {
+            HashMap<String, String> fields = parseJsonObject(line.trim());
+            type = fields.get(TYPE_KEY);
+            name = fields.get(NAME_KEY);
+            qty = fields.get(QTY_KEY);
+        } else {
+            ArrayList<String> columns = parseCsvColumns(line);
+            if (columns.size() != CSV_COLUMN_COUNT) {
+                throw new ParserException(ErrorMessages.INVALID_IMPORT_RECORD);
+            }
+            type = columns.get(TYPE_COLUMN);
+            name = columns.get(NAME_COLUMN);
+            qty = columns.get(QTY_COLUMN);
+        }
+
+        if (type == null || name == null || qty == null) {
+            throw new ParserException(ErrorMessages.INVALID_IMPORT_RECORD);
+        }
+
+        switch (type.trim().toLowerCase()) {
+        case ORDER_RECORD_TYPE:
+            return AddOrderCommand.COMMAND_WORD + " name/" + name + " qty/" + qty;
+        case BUY_INGREDIENT_RECORD_TYPE:
+            return BuyIngredientCommand.COMMAND_WORD + " ingredient/" + name + " qty/" + qty;
+        default:
+            throw new ParserException(ErrorMessages.UNKNOWN_IMPORT_RECORD_TYPE + type);
+        }
+    }
+
+    /**
+     * Splits a line of CSV into its columns. Unquoted columns are trimmed, while a quoted column is kept
+     * as it is written between its quotes, including any commas in it.
+     *
+     * @param line line of CSV
+     * @return every column of the line
+     * @throws ParserException if a quoted column is not closed or is followed by more text
+     */
+    private static ArrayList<String> parseCsvColumns(String line) throws ParserException {
+        ArrayList<String> columns = new ArrayList<>();
+        int index = 0;
+        boolean hasNextColumn = true;
+        while (hasNextColumn) {
+            StringBuilder column = new StringBuilder();
+            index = skipWhitespace(line, index);
+            if (index < line.length() && line.charAt(index) == CSV_QUOTE) {
+                index = skipWhitespace(line, readQuotedCsvColumn(line, index, column));
+            } else {
+                int start = index;
+                while (index < line.length() && line.charAt(index) != CSV_DIVIDER_CHARACTER) {
+                    index++;
+                }
+                column.append(line.substring(start, index).trim());
+            }
+            columns.add(column.toString());
+
+            hasNextColumn = index < line.length();
+            if (hasNextColumn) {
+                index = expect(line, index, CSV_DIVIDER_CHARACTER);
+            }
+        }
+        return columns;
+    }
+
+    private static int readQuotedCsvColumn(String line, int index, StringBuilder column) throws ParserException {
+        index = expect(line, index, CSV_QUOTE);
+        while (index < line.length()) {
+            char character = line.charAt(index);
+            index++;
+            if (character != CSV_QUOTE) {
+                column.append(character);
+            } else if (index < line.length() && line.charAt(index) == CSV_QUOTE) {
+                //two quotes in a quoted column stand for one quote
+                column.append(CSV_QUOTE);
+                index++;
+            } else {
+                return index;
+            }
+        }
+        throw new ParserException(ErrorMessages.INVALID_IMPORT_RECORD, index);
+    }
+
+    /**
+     * Parses a JSON object whose values are all strings, numbers, booleans or null, into its fields.
+     * Numbers, booleans and null are kept as the text they are written in.
+     *
+     * @param json the JSON object
+     * @return value of every field by its key
+     * @throws ParserException if the line is not such a JSON object
+     */
+    private static HashMap<String, String> parseJsonObject(String json) throws ParserException {
+        HashMap<String, String> fields = new HashMap<>();
+        int index = skipWhitespace(json, 0);
+        index = expect(json, index, '{');
+
+        index = skipWhitespace(json, index);
+        if (index < json.length() && json.charAt(index) == '}') {
+            return fields;
+        }
+
+        boolean hasNextField = true;
+        while (hasNextField) {
+            StringBuilder key = new StringBuilder();
+            index = readJsonString(json, skipWhitespace(json, index), key);
+            index = expect(json, skipWhitespace(json, index), ':');
+
+            index = skipWhitespace(json, index);
+            StringBuilder value = new StringBuilder();
+            if (index < json.length() && json.charAt(index) == '"') {
+                index = readJsonString(json, index, value);
+            } else {
+                index = readJsonLiteral(json, index, value);
+            }
+            fields.put(key.toString(), value.toString());
+
+            index = skipWhitespace(json, index);
+            hasNextField = index < json.length() && json.charAt(index) == ',';
+            if (hasNextField) {
+                index++;
+            }
+        }
+        index = expect(json, index, '}');
+
+        if (skipWhitespace(json, index) != json.length()) {
+            throw new ParserException(ErrorMessages.INVALID_IMPORT_RECORD);
+        }
+        return fields;
+    }
+
+    private static int skipWhitespace(String text, int index) {
+        while (index < text.length() && Character.isWhitespace(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int expect(String text, int index, char expectedCharacter) throws ParserException {
+        if (index >= text.length() || text.charAt(index) != expectedCharacter) {
+            throw new ParserException(ErrorMessages.INVALID_IMPORT_RECORD, index);
+        }
+        return index + 1;
+    }
+
+    private static int readJsonString(String json, int index, StringBuilder value) throws ParserException {
+        index = expect(json, index, '"');
+        while (index < json.length()) {
+            char character = json.charAt(index);
+            if (character == '"') {
+                return index + 1;
+            }
+            if (character != '\\') {
+                value.append(character);
+                index++;
+                continue;
+            }
+
+            index++;
+            if (index >= json.length()) {
+                break;
+            }
+            char escapedCharacter = json.charAt(index);
+            switch (escapedCharacter) {
+            case 'n':
+                value.append('\n');
+                break;
+            case 't':
+                value.append('\t');
+                break;
+            case 'r':
+                value.append('\r');
+                break;
+            case 'b':
+                value.append('\b');
+                break;
+            case 'f':
+                value.append('\f');
+                break;
+            case 'u':
+                value.append(readUnicodeEscape(json, index + 1));
+                index += UNICODE_ESCAPE_LENGTH;
+                break;
+            default:
+                //escaped quotes, backslashes and slashes stand for themselves
+                value.append(escapedCharacter);
+                break;
+            }
+            index++;
+        }
+        throw new ParserException(ErrorMessages.INVALID_IMPORT_RECORD, index);
+    }
+
+    private static char readUnicodeEscape(String json, int index) throws ParserException {
+        if (index + UNICODE_ESCAPE_LENGTH > json.length()) {
+            throw new ParserException(ErrorMessages.INVALID_IMPORT_RECORD, index);
+        }
+        try {
+            return (char) Integer.parseInt(json.substring(index, index + UNICODE_ESCAPE_LENGTH), HEX_RADIX);
+        } catch (NumberFormatException e) {
+            throw new ParserException(ErrorMessages.INVALID_IMPORT_RECORD, index);
+        }
+    }
+
+    private static int readJsonLiteral(String json, int index, StringBuilder value) throws ParserException {
+        int start = index;
+        while (index < json.length() && json.charAt(index) != ',' && json.charAt(index) != '}'
+                && !Character.isWhitespace(json.charAt(index))) {
+            index++;
+        }
+        if (index == start) {
+            throw new ParserException(ErrorMessages.INVALID_IMPORT_RECORD, index);
+        }
+        value.append(json, start, index);
+        return index;
+    }
+}
@@ -4,6 +4,7 @@ package seedu.cafectrl.parser;
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.command.AddDishCommand;
 import seedu.cafectrl.command.AddOrderCommand;
+import seedu.cafectrl.command.AddOrdersCommand;
 import seedu.cafectrl.command.BuyIngredientCommand;
 import seedu.cafectrl.command.Command;
 import seedu.cafectrl.command.DeleteDishCommand;
@@ -22,17 +23,20 @@ import seedu.cafectrl.command.ViewTotalStockCommand;
 import seedu.cafectrl.data.CurrentDate;
 import seedu.cafectrl.data.Sales;
 import seedu.cafectrl.data.Order;
-import seedu.cafectrl.data.OrderList;
 import seedu.cafectrl.data.Pantry;
 import seedu.cafectrl.parser.exception.ParserException;
 import seedu.cafectrl.ui.ErrorMessages;
-import seedu.cafectrl.ui.Messages;
 import seedu.cafectrl.data.Menu;
+import seedu.cafectrl.data.Money;
 import seedu.cafectrl.data.dish.Dish;
 import seedu.cafectrl.data.dish.Ingredient;
+import seedu.cafectrl.storage.OrderJournal;
 import seedu.cafectrl.ui.Ui;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.logging.Level;
@@ -46,44 +50,58 @@ public class Parser implements ParserUtil {
     private static final String COMMAND_ARGUMENT_REGEX = "(?<commandWord>\\S+)\\s*(?<arguments>.*)";
 
     //@@author DextheChik3n
-    /** Add Dish Command Handler Patterns*/
-    private static final String ADD_ARGUMENT_FORMAT_REGEX = "name/(?<dishName>.*) "
-            + "price/(?<dishPrice>\\s*\\S*)\\s+(?<ingredients>ingredient/.*)";
-    private static final String DISH_NAME_MATCHER_GROUP_LABEL = "dishName";
-    private static final String PRICE_MATCHER_GROUP_LABEL = "dishPrice";
-    private static final String INGREDIENTS_MATCHER_GROUP_LABEL = "ingredients";
-    private static final String INGREDIENT_ARGUMENT_FORMAT_REGEX = "\\s*ingredient/(?<ingredientName>.*) "
-            + "qty/\\s*(?<ingredientQty>.*)\\s*";
-    private static final String INGREDIENT_NAME_REGEX_GROUP_LABEL = "ingredientName";
-    private static final String INGREDIENT_QTY_REGEX_GROUP_LABEL = "ingredientQty";
+    /** Arguments shared by the commands that add dishes, orders and ingredients */
+    public static final String ADD_DISH_NAME_ARGUMENT = "name/";
+    public static final String ADD_DISH_PRICE_ARGUMENT = "price/";
+    public static final String INGREDIENT_ARGUMENT = "ingredient/";
+    public static final String QTY_ARGUMENT = "qty/";
+    public static final char INGREDIENT_DIVIDER = ',';
     private static final String INGREDIENT_QTY_FORMAT_REGEX = "^\\s*(?<value>[+-]*[0-9]*)\\s*(?<unit>[a-zA-z]*)\\s*$";
     private static final String INGREDIENT_QTY_VALUE_REGEX_GROUP_LABEL = "value";
     private static final String INGREDIENT_QTY_UNIT_REGEX_GROUP_LABEL = "unit";
-    private static final String ADD_DISH_NAME_ARGUMENT = "name/";
-    private static final String ADD_DISH_PRICE_ARGUMENT = "price/";
-    private static final String INGREDIENT_ARGUMENT = "ingredient/";
-    private static final String QTY_ARGUMENT = "qty/";
-    private static final String INGREDIENT_DIVIDER_REGEX = ",";
-
-    /** Add Order Command Handler Patterns*/
-    private static final int DISH_NAME_MATCHER_GROUP_NUM = 1;
-    private static final int ORDER_QTY_MATCHER_GROUP_NUM = 2;
-    private static final String ADD_ORDER_ARGUMENT_STRING = "name/(.*) qty/(.*)";
-
-    /** The rest of Command Handler Patterns*/
-
-    private static final String LIST_INGREDIENTS_ARGUMENT_STRING = "dish/(.+)";
-    private static final String DELETE_ARGUMENT_STRING = "(.+)";
-    private static final String EDIT_PRICE_ARGUMENT_STRING = "dish/(.*)\\sprice/(.*)";
-    private static final String BUY_INGREDIENT_ARGUMENT_STRING = "(ingredient/[A-Za-z0-9\\s]+ qty/.+"
-            + "(?:, ingredient/[A-Za-z0-9\\s]+ qty/.+)*)";
-    private static final String SHOW_SALE_BY_DAY_ARGUMENT_STRING = "day/(.+)";
+
+    /** Add Order Command Handler Arguments*/
+    private static final int ORDER_DISH_NAME_TOKEN_INDEX = 0;
+    private static final int ORDER_QTY_TOKEN_INDEX = 1;
+
     private static final int MIN_QTY = 1;
     private static final int MAX_QTY = 1000000;
     private static final String GRAMS_UNIT = "g";
     private static final String ML_UNIT = "ml";
     private static final String PRICE_INPUT_REGEX = "^-?[0-9]\\d*(\\.\\d{0,2})?$";
+    private static final String SPECIAL_CHAR_REGEX = "[^a-z0-9 ]";
+
+    /** Patterns are compiled once instead of for every command */
+    private static final Pattern COMMAND_ARGUMENT_PATTERN = Pattern.compile(COMMAND_ARGUMENT_REGEX);
+    private static final Pattern INGREDIENT_QTY_FORMAT_PATTERN = Pattern.compile(INGREDIENT_QTY_FORMAT_REGEX);
+    private static final Pattern PRICE_INPUT_PATTERN = Pattern.compile(PRICE_INPUT_REGEX);
+    private static final Pattern SPECIAL_CHAR_PATTERN = Pattern.compile(SPECIAL_CHAR_REGEX, Pattern.CASE_INSENSITIVE);
+    //each thread reuses its own matcher of every pattern, as a matcher cannot be shared between threads
+    private static final ThreadLocal<HashMap<Pattern, Matcher>> reusableMatchers =
+            ThreadLocal.withInitial(HashMap::new);
     private static Logger logger = Logger.getLogger(CafeCtrl.class.getName());
+    //every command registers its own factory, once when the parser is first used
+    private static final List<Consumer<CommandRegistry>> COMMAND_REGISTRATIONS = List.of(
+            AddDishCommand::register, DeleteDishCommand::register, ListIngredientCommand::register,
+            ListMenuCommand::register, EditPriceCommand::register, ViewTotalStockCommand::register,
+            BuyIngredientCommand::register, HelpCommand::register, ExitCommand::register,
+            AddOrderCommand::register, AddOrdersCommand::register, NextDayCommand::register,
+            PreviousDayCommand::register, ListTotalSalesCommand::register, ListSaleByDayCommand::register);
+    private static final CommandRegistry commandRegistry = createCommandRegistry();
+    private final OrderJournal orderJournal;
+
+    public Parser() {
+        this.orderJournal = null;
+    }
+
+    /**
+     * Constructor for a Parser that prepares orders to be appended to the order journal
+     *
+     * @param orderJournal journal of the current session
+     */
+    public Parser(OrderJournal orderJournal) {
+        this.orderJournal = orderJournal;
+    }
 
     //@@author ziyi105
     /**
@@ -100,8 +118,7 @@ public class Parser implements ParserUtil {
             Pantry pantry, Sales sales, CurrentDate currentDate) {
         logger.info("Received user input: " + userInput);
 
-        Pattern userInputPattern = Pattern.compile(COMMAND_ARGUMENT_REGEX);
-        final Matcher matcher = userInputPattern.matcher(userInput.trim());
+        final Matcher matcher = getMatcher(COMMAND_ARGUMENT_PATTERN, userInput.trim());
 
         if (!matcher.matches()) {
             logger.warning("Unmatched regex!");
@@ -111,188 +128,66 @@ public class Parser implements ParserUtil {
         final String commandWord = matcher.group("commandWord");
         final String arguments = matcher.group("arguments");
 
-        switch (commandWord) {
-
-        case AddDishCommand.COMMAND_WORD:
-            return prepareAdd(arguments, menu, ui);
-
-        case DeleteDishCommand.COMMAND_WORD:
-            return prepareDelete(menu, arguments, ui);
-
-        case ListIngredientCommand.COMMAND_WORD:
-            return prepareListIngredient(menu, arguments, ui);
-
-        case ListMenuCommand.COMMAND_WORD:
-            return prepareListMenu(menu, ui);
-
-        case EditPriceCommand.COMMAND_WORD:
-            return prepareEditPriceCommand(menu, arguments, ui);
-
-        case ViewTotalStockCommand.COMMAND_WORD:
-            return prepareViewTotalStock(ui, pantry);
-
-        case BuyIngredientCommand.COMMAND_WORD:
-            return prepareBuyIngredient(arguments, ui, pantry, menu);
-
-        case HelpCommand.COMMAND_WORD:
-            return prepareHelpCommand(ui);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand(ui, pantry);
-
-        case AddOrderCommand.COMMAND_WORD:
-            return prepareOrder(menu, arguments, ui, pantry, sales, currentDate);
-
-        case NextDayCommand.COMMAND_WORD:
-            return prepareNextDay(ui, sales, currentDate);
-
-        case PreviousDayCommand.COMMAND_WORD:
-            return preparePreviousDay(ui, currentDate);
-
-        case ListTotalSalesCommand.COMMAND_WORD:
-            return prepareShowSales(sales, ui, arguments);
-
-        case ListSaleByDayCommand.COMMAND_WORD:
-            return prepareShowSalesByDay(arguments, ui, sales);
-
-        default:
+        CommandFactory commandFactory = commandRegistry.find(commandWord);
+        if (commandFactory == null) {
             logger.warning(ErrorMessages.UNKNOWN_COMMAND_MESSAGE);
-            return new IncorrectCommand(ErrorMessages.UNKNOWN_COMMAND_MESSAGE, ui);
+            return new IncorrectCommand(ErrorMessages.UNKNOWN_COMMAND_MESSAGE
+                    + suggestCommandWords(commandWord), ui);
         }
+
+        CommandContext context = new CommandContext(menu, ui, pantry, sales, currentDate, orderJournal);
+        return commandFactory.prepareCommand(arguments, context);
     }
 
-    //@@author Cazh1
     /**
-     * Prepares the ListMenuCommand
+     * Registers the factory of every command under its command word, each command registering itself
      *
-     * @param menu menu of the current session
-     * @param ui ui of the current session
-     * @return new ListMenuCommand
+     * @return registry of every command
      */
-    private static Command prepareListMenu(Menu menu, Ui ui) {
-        return new ListMenuCommand(menu, ui);
+    private static CommandRegistry createCommandRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        for (Consumer<CommandRegistry> commandRegistration : COMMAND_REGISTRATIONS) {
+            commandRegistration.accept(registry);
+        }
+        return registry;
     }
 
-    //@@author ziyi105
     /**
-     * Parse argument in the context of edit price command
+     * Suggests the command words that the user may have meant by a word that is not a command word
      *
-     * @param menu menu of the current session
-     * @param arguments string that matches group arguments
-     * @return new EditDishCommand
+     * @param commandWord word entered by the user
+     * @return message suggesting the command words, empty if there are none
      */
-    private static Command prepareEditPriceCommand(Menu menu, String arguments, Ui ui) {
-        Pattern editDishArgumentsPattern = Pattern.compile(EDIT_PRICE_ARGUMENT_STRING);
-        Matcher matcher = editDishArgumentsPattern.matcher(arguments);
-
-        // Checks whether the overall pattern of edit price arguments is correct
-        if (!matcher.find()) {
-            logger.log(Level.WARNING, "Unmatched regex!");
-            return new IncorrectCommand(ErrorMessages.MISSING_ARGUMENT_FOR_EDIT_PRICE, ui);
-        }
-
-        int dishIndexGroup = 1;
-        int newPriceGroup = 2;
-        int dishIndex;
-        float newDishPrice;
-
-        try {
-            String dishIndexText = matcher.group(dishIndexGroup).trim();
-
-            // Check whether the index is empty
-            if (dishIndexText.isEmpty()) {
-                logger.warning("Empty dish index!");
-                return new IncorrectCommand(ErrorMessages.MISSING_DISH_IN_EDIT_PRICE, ui);
-            }
-
-            dishIndex = Integer.parseInt(dishIndexText);
-
-            // Check whether the dish index is valid
-            if (!menu.isValidDishIndex(dishIndex)) {
-                logger.warning("Invalid dish index!");
-                return new IncorrectCommand(ErrorMessages.INVALID_DISH_INDEX, ui);
-            }
-        } catch (NumberFormatException e) {
-            logger.log(Level.WARNING, "Invalid dish index type!", e);
-            return new IncorrectCommand(ErrorMessages.WRONG_DISH_INDEX_TYPE_FOR_EDIT_PRICE, ui);
-        }
-
-        try {
-            newDishPrice = parsePriceToFloat(matcher.group(newPriceGroup).trim());
-        } catch (ParserException e) {
-            logger.log(Level.WARNING, "Invalid price!", e);
-            return new IncorrectCommand(e.getMessage(), ui);
+    private static String suggestCommandWords(String commandWord) {
+        ArrayList<String> suggestedCommandWords = commandRegistry.suggest(commandWord);
+        if (suggestedCommandWords.isEmpty()) {
+            return "";
         }
-
-        return new EditPriceCommand(dishIndex, newDishPrice, menu, ui);
+        return ErrorMessages.SUGGESTED_COMMAND_MESSAGE + String.join(", ", suggestedCommandWords) + "?";
     }
 
-    //@@author DextheChik3n
     /**
-     * Parses the user input text into ingredients to form a <code>Dish</code>
-     * that is added to the <code>Menu</code>
+     * Gets the matcher of a pattern reset to the given input, the matcher is reused by the current thread.
+     * The matcher is only valid until the same pattern is matched again by the thread.
      *
-     * @param arguments string that matches group arguments
-     * @param menu Menu of the current session
-     * @param ui Ui of the current session
-     * @return new AddDishCommand
+     * @param pattern the compiled pattern
+     * @param input text to be matched
+     * @return matcher of the pattern over the input
      */
-    private static Command prepareAdd(String arguments, Menu menu, Ui ui) {
-        try {
-            Matcher matcher = detectErrorInPreAddParse(arguments);
-            // Checks whether the overall pattern of add arguments is correct
-            if (!matcher.matches()) {
-                logger.log(Level.WARNING, "Unmatched regex!");
-                return new IncorrectCommand(ErrorMessages.INVALID_ADD_DISH_FORMAT
-                        + AddDishCommand.MESSAGE_USAGE, ui);
-            }
-
-            // To retrieve specific arguments from arguments
-            //the dishName needs .trim() because the regex accepts whitespaces in the "name/" argument
-            String dishName = matcher.group(DISH_NAME_MATCHER_GROUP_LABEL).trim().toLowerCase();
-            float dishPrice = parsePriceToFloat(matcher.group(PRICE_MATCHER_GROUP_LABEL));
-            String ingredientsListString = matcher.group(INGREDIENTS_MATCHER_GROUP_LABEL);
-
-            detectErrorPostDishNameParse(dishName, menu, true);
-
-            ArrayList<Ingredient> ingredients = parseIngredients(ingredientsListString, true, menu);
-            Dish dish = new Dish(dishName, ingredients, dishPrice);
-
-            return new AddDishCommand(dish, menu, ui);
-        } catch (NullPointerException e) {
-            logger.log(Level.WARNING, e.getMessage(), e);
-            return new IncorrectCommand(ErrorMessages.NULL_NAME_DETECTED_MESSAGE, ui);
-        } catch (NumberFormatException e) {
-            logger.log(Level.WARNING, e.getMessage(), e);
-            return new IncorrectCommand(ErrorMessages.INVALID_INGREDIENT_QTY, ui);
-        } catch (Exception e) {
-            logger.log(Level.WARNING, e.getMessage(), e);
-            return new IncorrectCommand(e.getMessage(), ui);
-        }
-    }
-
-    private static Matcher detectErrorInPreAddParse(String arguments) throws ParserException {
-        if (isRepeatedArgument(arguments, ADD_DISH_NAME_ARGUMENT)) {
-            logger.log(Level.WARNING, "Repeated dish/ argument!");
-            throw new ParserException(ErrorMessages.REPEATED_NAME_ARGUMENT);
-        } else if (isRepeatedArgument(arguments, ADD_DISH_PRICE_ARGUMENT)) {
-            logger.log(Level.WARNING, "Repeated price/ argument!");
-            throw new ParserException(ErrorMessages.REPEATED_PRICE_ARGUMENT);
-        }
-
-        // Checks whether the overall pattern of add arguments is correct
-        Pattern addArgumentPattern = Pattern.compile(ADD_ARGUMENT_FORMAT_REGEX);
-        Matcher matcher = addArgumentPattern.matcher(arguments);
-
-        if (!matcher.matches()) {
-            logger.log(Level.WARNING, "Unmatched regex!");
-            throw new ParserException(ErrorMessages.INVALID_ADD_DISH_FORMAT + AddDishCommand.MESSAGE_USAGE);
-        }
-
-        return matcher;
+    public static Matcher getMatcher(Pattern pattern, String input) {
+        return reusableMatchers.get().computeIfAbsent(pattern, key -> key.matcher("")).reset(input);
     }
 
-    private static void detectErrorPostDishNameParse(String dishName, Menu menu, boolean isCheckRepeatedDishName)
+    //@@author DextheChik3n
+    /**
+     * Checks the name of a dish to be added or ordered
+     *
+     * @param dishName trimmed name of the dish
+     * @param menu menu of the current session
+     * @param isCheckRepeatedDishName true if the dish must not already be on the menu
+     * @throws ParserException if the name is empty, too long, on the menu when checked, or has special characters
+     */
+    public static void detectErrorPostDishNameParse(String dishName, Menu menu, boolean isCheckRepeatedDishName)
             throws ParserException {
         if (dishName.isEmpty()) {
             logger.warning("Dish name empty!");
@@ -312,48 +207,44 @@ public class Parser implements ParserUtil {
     /**
      * Parses the user's input text ingredients.
      *
-     * @param ingredientsListString user's input string of ingredients,
-     *                              multiple ingredients seperated by ',' is allowed
-     * @param menu
+     * @param tokens tokens of the user's input, where multiple ingredients are separated by ','
+     * @param firstTokenIndex index of the token of the first ingredient
+     * @param isExcludeRepeatedIngredients true if an ingredient name must not be repeated
+     * @param menu menu of the current session, whose ingredients the units are checked against
      * @return list of ingredients that consists of the dish
      * @throws ParserException if the input string does not match the constraints
      * @throws NumberFormatException if the string value of the ingredient qty does not contain a parsable integer.
      */
-    private static ArrayList<Ingredient> parseIngredients(
-            String ingredientsListString, boolean isExcludeRepeatedIngredients, Menu menu)
+    public static ArrayList<Ingredient> parseIngredients(
+            ArgumentTokenizer tokens, int firstTokenIndex, boolean isExcludeRepeatedIngredients, Menu menu)
             throws ParserException, NumberFormatException {
         logger.info("Parsing ingredients...");
-        String[] inputIngredientList = {ingredientsListString};
         ArrayList<Ingredient> ingredients = new ArrayList<>();
 
-        //check if there is more than 1 ingredient
-        if (ingredientsListString.contains(INGREDIENT_DIVIDER_REGEX)) {
-            //split the whole string of ingredients into separate individual ingredients
-            inputIngredientList = ingredientsListString.split(INGREDIENT_DIVIDER_REGEX);
-        }
-
-        //Parsing each ingredient
-        for (String inputIngredient: inputIngredientList) {
-            parseIngredient(isExcludeRepeatedIngredients, menu, inputIngredient, ingredients);
+        //Parsing each ingredient, which are the groups of tokens between the ',' dividers
+        int ingredientStart = firstTokenIndex;
+        while (ingredientStart < tokens.getTokenCount()) {
+            int ingredientEnd = tokens.findGroupEnd(ingredientStart);
+            parseIngredient(isExcludeRepeatedIngredients, menu, tokens, ingredientStart, ingredientEnd, ingredients);
+            ingredientStart = ingredientEnd + 1;
         }
 
         return ingredients;
     }
 
     private static void parseIngredient(
-            boolean isExcludeRepeatedIngredients, Menu menu,
-            String inputIngredient, ArrayList<Ingredient> ingredients)
+            boolean isExcludeRepeatedIngredients, Menu menu, ArgumentTokenizer tokens,
+            int ingredientStart, int ingredientEnd, ArrayList<Ingredient> ingredients)
             throws ParserException {
-        Matcher ingredientMatcher = detectErrorPreIngredientParse(inputIngredient);
+        detectErrorPreIngredientParse(tokens, ingredientStart, ingredientEnd);
 
-        String ingredientName = ingredientMatcher.group(INGREDIENT_NAME_REGEX_GROUP_LABEL).trim().toLowerCase();
+        String ingredientName = tokens.getValue(ingredientStart).trim().toLowerCase();
 
         //ingredientQtyString contains the input text after the "qty/" argument
-        String ingredientQtyString = ingredientMatcher.group(INGREDIENT_QTY_REGEX_GROUP_LABEL).trim();
+        String ingredientQtyString = tokens.getValue(ingredientStart + 1).trim();
 
         //check the formatting of text after ingredient qty argument (qty/)
-        final Pattern ingredientQtyFormatPattern = Pattern.compile(INGREDIENT_QTY_FORMAT_REGEX);
-        Matcher ingredientQtyMatcher = ingredientQtyFormatPattern.matcher(ingredientQtyString);
+        Matcher ingredientQtyMatcher = getMatcher(INGREDIENT_QTY_FORMAT_PATTERN, ingredientQtyString);
 
         if (!ingredientQtyMatcher.matches()) {
             throw new ParserException(ErrorMessages.INVALID_INGREDIENT_QTY_FORMAT);
@@ -366,32 +257,30 @@ public class Parser implements ParserUtil {
         detectErrorPostIngredientParse(isExcludeRepeatedIngredients,
                 ingredientName, ingredientQty, ingredientUnit, ingredients);
 
-        Ingredient ingredient = new Ingredient(ingredientName, ingredientQty, ingredientUnit);
+        Ingredient ingredient = Ingredient.of(ingredientName, ingredientQty, ingredientUnit);
 
         checkForMismatchUnit(menu, ingredient);
 
         ingredients.add(ingredient);
     }
 
-    private static Matcher detectErrorPreIngredientParse(String inputIngredient)
-            throws ParserException {
-        if (isRepeatedArgument(inputIngredient, INGREDIENT_ARGUMENT)) {
+    private static void detectErrorPreIngredientParse(ArgumentTokenizer tokens, int ingredientStart,
+            int ingredientEnd) throws ParserException {
+        if (tokens.countPrefix(INGREDIENT_ARGUMENT, ingredientStart, ingredientEnd) > 1) {
             logger.log(Level.WARNING, "Repeated ingredient/ argument!");
             throw new ParserException(ErrorMessages.REPEATED_INGREDIENT_ARGUMENT);
-        } else if (isRepeatedArgument(inputIngredient, QTY_ARGUMENT)) {
+        } else if (tokens.countPrefix(QTY_ARGUMENT, ingredientStart, ingredientEnd) > 1) {
             logger.log(Level.WARNING, "Repeated qty/ argument!");
             throw new ParserException(ErrorMessages.REPEATED_QTY_ARGUMENT);
         }
 
-        final Pattern ingredientPattern = Pattern.compile(INGREDIENT_ARGUMENT_FORMAT_REGEX);
-        Matcher ingredientMatcher = ingredientPattern.matcher(inputIngredient);
-
-        if (!ingredientMatcher.matches()) {
-            logger.log(Level.WARNING, "Mismatched ingredient arguments!");
-            throw new ParserException(ErrorMessages.INVALID_INGREDIENT_ARGUMENTS);
+        int mismatchedTokenIndex = tokens.findMismatch(ingredientStart, ingredientEnd,
+                INGREDIENT_ARGUMENT, QTY_ARGUMENT);
+        if (mismatchedTokenIndex != ArgumentTokenizer.NO_MISMATCH) {
+            int errorPosition = tokens.getPosition(mismatchedTokenIndex);
+            logger.log(Level.WARNING, "Mismatched ingredient arguments at position " + errorPosition + "!");
+            throw new ParserException(ErrorMessages.INVALID_INGREDIENT_ARGUMENTS, errorPosition);
         }
-
-        return ingredientMatcher;
     }
 
     private static void detectErrorPostIngredientParse(
@@ -428,17 +317,16 @@ public class Parser implements ParserUtil {
     }
 
     /**
-     * Converts text of price to float while also checking if the price input is within reasonable range
+     * Converts text of price to cents while also checking if the price input is within reasonable range
      *
      * @param priceText text input for price argument
-     * @return price in float format
+     * @return price in cents
      * @throws ParserException if price is not within reasonable format and range
      */
-    public static float parsePriceToFloat(String priceText) throws ParserException {
+    public static long parsePriceToCents(String priceText) throws ParserException {
         String trimmedPriceText = priceText.trim();
 
-        final Pattern pricePattern = Pattern.compile(PRICE_INPUT_REGEX);
-        Matcher priceMatcher = pricePattern.matcher(trimmedPriceText);
+        Matcher priceMatcher = getMatcher(PRICE_INPUT_PATTERN, trimmedPriceText);
 
         // Check whether price text is empty
         if (priceText.isEmpty()) {
@@ -449,17 +337,17 @@ public class Parser implements ParserUtil {
             throw new ParserException(ErrorMessages.WRONG_PRICE_TYPE_FOR_EDIT_PRICE);
         }
 
-        float price;
+        long price;
         try {
-            price = Float.parseFloat(trimmedPriceText);
+            price = Money.parseCents(trimmedPriceText);
         } catch (NumberFormatException e) {
             logger.log(Level.WARNING, e.getMessage(), e);
             throw new ParserException(ErrorMessages.WRONG_PRICE_TYPE_FOR_EDIT_PRICE);
         }
 
         // Specify max and min value for price
-        float maxPriceValue = (float) 1000000.00;
-        float minPriceValue = (float) 0;
+        long maxPriceValue = 1000000L * Money.CENTS_PER_DOLLAR;
+        long minPriceValue = 0;
 
         // Check whether the price has up to 2 decimal place
         if (price > maxPriceValue) {
@@ -484,15 +372,7 @@ public class Parser implements ParserUtil {
             throw new NullPointerException();
         }
 
-        for (Dish dish: menu.getMenuItemsList()) {
-            String menuDishName = dish.getName();
-
-            if (menuDishName.equalsIgnoreCase(inputDishName)) {
-                return true;
-            }
-        }
-
-        return false;
+        return menu.getDishFromName(inputDishName) != null;
     }
 
     /**
@@ -540,137 +420,7 @@ public class Parser implements ParserUtil {
         return false;
     }
 
-    /**
-     * Checks if the argument is entered more than once.
-     *
-     * @param inputText text to be checked
-     * @param argument argument to be checked for multiple occurrences
-     * @return true if there is > 1 match of the argument, false otherwise
-     */
-    public static boolean isRepeatedArgument(String inputText, String argument) {
-        if (inputText == null || argument == null) {
-            throw new NullPointerException(ErrorMessages.NULL_STRING_IN_REPEAT_ARGUMENT);
-        }
-
-        Pattern argumentPattern = Pattern.compile(argument);
-        Matcher matcher = argumentPattern.matcher(inputText);
-        int maxNumberOfMatches = 1;
-
-        long argumentMatches = matcher.results().count();
-        if (argumentMatches > maxNumberOfMatches) {
-            return true;
-        }
-
-        return false;
-    }
-
-    //@@author NaychiMin
-    /**
-     * Parses arguments in the context of the ListIngredient command.
-     *
-     * @param menu menu of the current session
-     * @param arguments string that matches group arguments
-     * @return the prepared command
-    */
-    private static Command prepareListIngredient(Menu menu, String arguments, Ui ui) {
-        final Pattern prepareListPattern = Pattern.compile(LIST_INGREDIENTS_ARGUMENT_STRING);
-        Matcher matcher = prepareListPattern.matcher(arguments.trim());
-
-        if (!matcher.matches()) {
-            logger.warning("Unmatched regex!");
-            return new IncorrectCommand(ErrorMessages.MISSING_ARGUMENT_FOR_LIST_INGREDIENTS
-                    + ListIngredientCommand.MESSAGE_USAGE, ui);
-        }
-
-        try {
-            int dishIndex = Integer.parseInt(matcher.group(1).trim());
-
-            if (dishIndex < 0) {
-                throw new Exception();
-            }
-
-            if (!menu.isValidDishIndex(dishIndex)) {
-                return new IncorrectCommand(ErrorMessages.UNLISTED_DISH, ui);
-            }
-
-            return new ListIngredientCommand(dishIndex, menu, ui);
-        } catch (Exception e) {
-            return new IncorrectCommand(ErrorMessages.INVALID_DISH_INDEX_TO_LIST, ui);
-        }
-    }
-
     //@@author ShaniceTang
-    /**
-     * Parses arguments in the context of the Delete command.
-     *
-     * @param menu menu of the current session
-     * @param arguments string that matches group arguments
-     * @return DeleteDishCommand if command is valid, IncorrectCommand otherwise
-     */
-    private static Command prepareDelete(Menu menu, String arguments, Ui ui) {
-        Pattern deleteDishArgumentsPattern = Pattern.compile(DELETE_ARGUMENT_STRING);
-        Matcher matcher = deleteDishArgumentsPattern.matcher(arguments.trim());
-
-        // Checks whether the overall pattern of delete price arguments is correct
-        if (!matcher.matches()) {
-            logger.warning("Unmatched regex!");
-            return new IncorrectCommand(ErrorMessages.MISSING_ARGUMENT_FOR_DELETE, ui);
-        }
-
-        int listIndexArgGroup = 1;
-
-        try {
-            int dishIndex = Integer.parseInt(matcher.group(listIndexArgGroup));
-            if (!menu.isValidDishIndex(dishIndex)) {
-                return new IncorrectCommand(ErrorMessages.INVALID_DISH_INDEX, ui);
-            }
-            return new DeleteDishCommand(dishIndex, menu, ui);
-        } catch (NumberFormatException e) {
-            return new IncorrectCommand(ErrorMessages.DISH_INDEX_NOT_INT, ui);
-        }
-    }
-
-    /**
-     * Prepares a command to view the total stock in the pantry.
-     *
-     * @param ui     The user interface to interact with the user.
-     * @param pantry The pantry containing ingredient stock information.
-     * @return A command to view the total stock.
-     */
-    private static Command prepareViewTotalStock(Ui ui, Pantry pantry) {
-        return new ViewTotalStockCommand(pantry, ui);
-    }
-
-    /**
-     * Prepares a command to buy ingredients based on the provided arguments.
-     *
-     * @param arguments The user input arguments for buying ingredients.
-     * @param ui        The user interface to interact with the user.
-     * @param pantry    The pantry to update with bought ingredients.
-     * @param menu      The menu containing information about available dishes.
-     * @return A command to buy ingredients or an incorrect command if arguments are invalid.
-     */
-    private static Command prepareBuyIngredient(String arguments, Ui ui, Pantry pantry, Menu menu) {
-        Pattern buyIngredientArgumentsPattern = Pattern.compile(BUY_INGREDIENT_ARGUMENT_STRING);
-        Matcher matcher = buyIngredientArgumentsPattern.matcher(arguments.trim());
-
-        if (!matcher.matches()) {
-            logger.warning("Unmatched regex!");
-            return new IncorrectCommand(ErrorMessages.INVALID_INGREDIENT_ARGUMENTS, ui);
-        }
-
-        String ingredientsListString = matcher.group(0);
-
-        try {
-            ArrayList<Ingredient> ingredients = parseIngredients(ingredientsListString, false, menu);
-            return new BuyIngredientCommand(ingredients, ui, pantry);
-        } catch (NumberFormatException e) {
-            return new IncorrectCommand(ErrorMessages.INVALID_INGREDIENT_ARGUMENTS, ui);
-        } catch (Exception e) {
-            return new IncorrectCommand(e.getMessage(), ui);
-        }
-    }
-
     public static boolean isValidUnit(String ingredientUnit) {
         return ingredientUnit.equals(GRAMS_UNIT) || ingredientUnit.equals(ML_UNIT);
     }
@@ -734,89 +484,34 @@ public class Parser implements ParserUtil {
      * @return true if it contains special character, false otherwise
      */
     public static boolean containsSpecialChar(String text) {
-        Pattern pattern = Pattern.compile("[^a-z0-9 ]", Pattern.CASE_INSENSITIVE);
-        Matcher matcher = pattern.matcher(text);
+        Matcher matcher = getMatcher(SPECIAL_CHAR_PATTERN, text);
         return matcher.find();
     }
 
-    //@@author ziyi105
-    private static Command prepareHelpCommand(Ui ui) {
-        return new HelpCommand(ui);
-    }
-
     //@@author Cazh1
     /**
-     * Parses arguments in the context of the AddOrder command.
+     * Parses an order from its dish name and quantity arguments
      *
+     * @param tokens tokenized arguments of the command
+     * @param firstTokenIndex index of the dish name argument of the order
      * @param menu menu of the current session
-     * @param arguments string that matches group arguments
-     * @param ui
-     * @return AddOrderCommand if command is valid, IncorrectCommand otherwise
+     * @return order of the dish on the menu
+     * @throws ParserException if the dish name or quantity is invalid, or the dish is not on the menu
      */
-    private static Command prepareOrder(Menu menu, String arguments, Ui ui,
-            Pantry pantry, Sales sales, CurrentDate currentDate) {
-        final Pattern addOrderArgumentPatter = Pattern.compile(ADD_ORDER_ARGUMENT_STRING);
-        Matcher matcher = addOrderArgumentPatter.matcher(arguments);
-
-        // Checks whether the overall pattern of add order arguments is correct
-        if (!matcher.matches()) {
-            logger.warning("Unmatching regex!");
-            return new IncorrectCommand(ErrorMessages.INVALID_ADD_ORDER_FORMAT_MESSAGE
-                    + AddOrderCommand.MESSAGE_USAGE, ui);
-        }
-
-        OrderList orderList = setOrderList(currentDate, sales);
-
-        try {
-            // To retrieve specific arguments from arguments
-            String dishName = matcher.group(DISH_NAME_MATCHER_GROUP_NUM).trim();
-            int dishQty = parseQtyToInt(matcher.group(ORDER_QTY_MATCHER_GROUP_NUM).trim());
-
-            detectErrorPostDishNameParse(dishName, menu, false);
-
-            Dish orderedDish = menu.getDishFromName(dishName);
-            if (orderedDish == null) {
-                return new IncorrectCommand(ErrorMessages.DISH_NOT_FOUND, ui);
-            }
-
-            Order order = new Order(orderedDish, dishQty);
+    public static Order parseOrder(ArgumentTokenizer tokens, int firstTokenIndex, Menu menu)
+            throws ParserException {
+        // To retrieve specific arguments from arguments
+        String dishName = tokens.getValue(firstTokenIndex + ORDER_DISH_NAME_TOKEN_INDEX).trim();
+        int dishQty = parseQtyToInt(tokens.getValue(firstTokenIndex + ORDER_QTY_TOKEN_INDEX).trim());
 
-            return new AddOrderCommand(order, ui, pantry, orderList, menu);
-        } catch (ParserException e) {
-            return new IncorrectCommand(e.getMessage(), ui);
-        } catch (NumberFormatException e) {
-            return new IncorrectCommand(ErrorMessages.INVALID_INT_ORDER_QTY, ui);
-        } catch (Exception e) {
-            return new IncorrectCommand(ErrorMessages.INVALID_ADD_ORDER_FORMAT_MESSAGE
-                    + AddOrderCommand.MESSAGE_USAGE + e.getMessage(), ui);
-        }
-    }
+        detectErrorPostDishNameParse(dishName, menu, false);
 
-    /**
-     * Prepares PreviousDayCommand
-     *
-     * @param ui ui object of the current session
-     * @param currentDate currentDate object of the current session
-     * @return PreviousDayCommand if after day 1, IncorrectCommand if before
-     */
-    private static Command preparePreviousDay(Ui ui, CurrentDate currentDate) {
-        int currentDay = currentDate.getCurrentDay();
-        if (currentDay == 0) {
-            return new IncorrectCommand(Messages.PREVIOUS_DAY_TIME_TRAVEL, ui);
+        Dish orderedDish = menu.getDishFromName(dishName);
+        if (orderedDish == null) {
+            throw new ParserException(ErrorMessages.DISH_NOT_FOUND);
         }
-        return new PreviousDayCommand(ui, currentDate);
-    }
 
-    /**
-     * Prepares NextDayCommand
-     *
-     * @param ui ui object of the current session
-     * @param sales sales object of the current session
-     * @param currentDate currentDate object of the current session
-     * @return NextDayCommand
-     */
-    private static Command prepareNextDay(Ui ui, Sales sales, CurrentDate currentDate) {
-        return new NextDayCommand(ui, sales, currentDate);
+        return new Order(orderedDish, dishQty);
     }
 
     //@@author DextheChik3n
@@ -846,62 +541,4 @@ public class Parser implements ParserUtil {
         return dishQty;
     }
 
-    //@@author NaychiMin
-    /**
-     * Prepares a command to display all sales items.
-     *
-     * @param sale The Sales object containing sales data.
-     * @param ui   The Ui object for user interface interactions.
-     * @return A ShowSalesCommand instance for viewing all sales items.
-     */
-    private static Command prepareShowSales(Sales sale, Ui ui, String arguments) {
-        if (arguments.isEmpty()) {
-            return new ListTotalSalesCommand(sale, ui);
-        } else {
-            return new IncorrectCommand(ErrorMessages.WRONG_LIST_TOTAL_SALES_FORMAT, ui);
-        }
-
-    }
-
-    /**
-     * Prepares a command to display sales items for a specific day.
-     *
-     * @param arguments The arguments containing the day for which sales are to be displayed.
-     * @param ui        The Ui object for user interface interactions.
-     * @param sales     The Sales object containing sales data.
-     * @return A ShowSalesByDayCommand instance for viewing sales items on a specific day.
-     */
-    private static Command prepareShowSalesByDay(String arguments, Ui ui, Sales sales) {
-        final Pattern showSaleByDayPattern = Pattern.compile(SHOW_SALE_BY_DAY_ARGUMENT_STRING);
-        Matcher matcher = showSaleByDayPattern.matcher(arguments.trim());
-
-        if (!matcher.matches()) {
-            logger.warning("Unmatching regex!");
-            return new IncorrectCommand(ErrorMessages.INVALID_SHOW_SALE_DAY_FORMAT_MESSAGE
-                    + ListSaleByDayCommand.MESSAGE_USAGE, ui);
-        }
-
-        try {
-            int day = Integer.parseInt(matcher.group(1).trim());
-            if (day < 0) {
-                throw new Exception();
-            }
-            return new ListSaleByDayCommand(day, ui, sales);
-        } catch (Exception e) {
-            return new IncorrectCommand(ErrorMessages.INVALID_DAY_FORMAT, ui);
-        }
-    }
-
-    //@@author Cazh1
-    /**
-     * Sets the orderList according to the Day
-     *
-     * @param currentDate currentDate object of the current session
-     * @param sales sales object of the current session, contains the orderLists
-     * @return The respective orderList
-     */
-    private static OrderList setOrderList(CurrentDate currentDate, Sales sales) {
-        int currentDay = currentDate.getCurrentDay();
-        return sales.getOrderList(currentDay);
-    }
 }
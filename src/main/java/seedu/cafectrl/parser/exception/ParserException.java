@@ -3,10 +3,26 @@ package seedu.cafectrl.parser.exception;
  * Represents a parse error encountered by parser.
  */
 public class ParserException extends Exception {
+    public static final int UNKNOWN_POSITION = -1;
+    private final int errorPosition;
+
     /**
      * @param errorMessage contains relevant information on failed constraint(s)
      */
     public ParserException(String errorMessage) {
+        this(errorMessage, UNKNOWN_POSITION);
+    }
+
+    /**
+     * @param errorMessage contains relevant information on failed constraint(s)
+     * @param errorPosition position in the arguments where the error is found
+     */
+    public ParserException(String errorMessage, int errorPosition) {
         super(errorMessage);
+        this.errorPosition = errorPosition;
+    }
+
+    public int getErrorPosition() {
+        return errorPosition;
     }
 }
@@ -0,0 +1,177 @@
+package seedu.cafectrl.storage;
+
+import seedu.cafectrl.CafeCtrl;
+import seedu.cafectrl.command.Command;
+import seedu.cafectrl.data.Menu;
+import seedu.cafectrl.data.Pantry;
+import seedu.cafectrl.data.Sales;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Saves the data modified by commands in the background, so that a crash only loses the changes made
+ * since the last autosave instead of the whole session.
+ * Every command marks the data it modifies, and only the modified menu, pantry stock or sales are saved,
+ * on an interval and after a number of modifying commands.
+ * Commands are executed through the scheduler, so data is never encoded while a command is modifying it.
+ */
+public class AutosaveScheduler {
+    private static final Logger logger = Logger.getLogger(CafeCtrl.class.getName());
+    private static final int STOP_TIMEOUT_SECONDS = 10;
+    private final Storage storage;
+    private final Menu menu;
+    private final Pantry pantry;
+    private final Sales sales;
+    private final int commandCount;
+    private final ScheduledExecutorService executor;
+    private boolean isMenuModified = false;
+    private boolean isPantryModified = false;
+    private boolean isSalesModified = false;
+    private int modifyingCommandCount = 0;
+
+    /**
+     * Starts saving the data of the current session in the background, as configured in StorageConfig
+     *
+     * @param storage storage used to save the data
+     * @param menu menu from current session
+     * @param pantry pantry from current session
+     * @param sales sale object from current session
+     */
+    public AutosaveScheduler(Storage storage, Menu menu, Pantry pantry, Sales sales) {
+        this(storage, menu, pantry, sales,
+                StorageConfig.getAutosaveIntervalSeconds(), StorageConfig.getAutosaveCommandCount());
+    }
+
+    /**
+     * Starts saving the data of the current session in the background
+     *
+     * @param storage storage used to save the data
+     * @param menu menu from current session
+     * @param pantry pantry from current session
+     * @param sales sale object from current session
+     * @param intervalSeconds number of seconds between autosaves, 0 or less to not save on an interval
+     * @param commandCount number of modifying commands between autosaves, 0 or less to not save after commands
+     */
+    public AutosaveScheduler(Storage storage, Menu menu, Pantry pantry, Sales sales,
+            int intervalSeconds, int commandCount) {
+        this.storage = storage;
+        this.menu = menu;
+        this.pantry = pantry;
+        this.sales = sales;
+        this.commandCount = commandCount;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "autosave");
+            //a pending autosave should not keep the application running once the user has exited
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (intervalSeconds > 0) {
+            executor.scheduleWithFixedDelay(this::saveModifiedData, intervalSeconds, intervalSeconds,
+                    TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Executes a command while no autosave is in progress, and marks the data it modifies to be saved
+     *
+     * @param command command to be executed
+     */
+    public synchronized void execute(Command command) {
+        try {
+            command.execute();
+            compactOrderJournalIfDue();
+        } finally {
+            //a command that fails halfway may have modified some data already
+            markModified(command);
+        }
+    }
+
+    private void compactOrderJournalIfDue() {
+        try {
+            storage.compactOrderJournalIfDue(sales);
+        } catch (IOException e) {
+            //the journal is kept, so no order is lost and compacting is tried again after the next command
+            logger.log(Level.WARNING, "Compacting unsuccessful!\n" + e.getMessage(), e);
+        }
+    }
+
+    private void markModified(Command command) {
+        boolean isModifying = command.isMenuModified() || command.isPantryModified() || command.isSalesModified();
+        if (!isModifying) {
+            return;
+        }
+        isMenuModified |= command.isMenuModified();
+        isPantryModified |= command.isPantryModified();
+        isSalesModified |= command.isSalesModified();
+
+        modifyingCommandCount++;
+        if (commandCount > 0 && modifyingCommandCount >= commandCount) {
+            modifyingCommandCount = 0;
+            executor.execute(this::saveModifiedData);
+        }
+    }
+
+    /**
+     * Saves the data modified since the last autosave, data that fails to be saved is kept to be saved again.
+     * Failures are only logged, as the autosave runs in the background while the user is typing.
+     */
+    synchronized void saveModifiedData() {
+        if (isMenuModified) {
+            isMenuModified = !autosave("menu", () -> storage.saveMenu(menu));
+        }
+        if (isPantryModified) {
+            //orders held back by an import are journaled first, as the saved stock has their ingredients deducted
+            isPantryModified = !autosave("pantry stock", () -> {
+                storage.getOrderJournal().flushBatch();
+                storage.savePantryStock(pantry);
+            });
+        }
+        if (isSalesModified) {
+            isSalesModified = !autosave("orders", () -> storage.saveOrderJournal(sales));
+        }
+    }
+
+    /**
+     * Saves one kind of data, logging the failure instead of passing it on
+     *
+     * @param dataName name of the data to be saved, for the log
+     * @param saveTask task that saves the data
+     * @return true if the data is saved, false otherwise
+     */
+    private boolean autosave(String dataName, SaveTask saveTask) {
+        logger.info("Autosaving " + dataName + "...");
+        try {
+            saveTask.save();
+            return true;
+        } catch (Exception e) {
+            //an exception would cancel every following autosave on the interval
+            logger.log(Level.WARNING, "Autosaving " + dataName + " unsuccessful!\n" + e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Stops saving in the background, waiting for an autosave in progress to finish.
+     * To be called before the data is saved for the last time on exit.
+     */
+    public void stop() {
+        logger.info("Stopping autosave...");
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Autosave did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface SaveTask {
+        void save() throws IOException;
+    }
+}
@@ -4,8 +4,8 @@ package seedu.cafectrl.storage;
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.Pantry;
 import seedu.cafectrl.data.Order;
-import seedu.cafectrl.data.OrderList;
 import seedu.cafectrl.data.Menu;
+import seedu.cafectrl.data.Money;
 import seedu.cafectrl.data.Sales;
 import seedu.cafectrl.data.dish.Dish;
 import seedu.cafectrl.data.dish.Ingredient;
@@ -52,24 +52,46 @@ public class Decoder {
     private static final int QTY_INDEX_SALES = 2;
     private static final int DISH_PRICE_INDEX_SALES = 3;
     private static final int STATUS_INDEX_SALES = 4;
+    private static final int MAX_DICTIONARY_ORDER_ARRAY_SIZE = 4;
+    private static final int DISH_ID_INDEX_SALES = 1;
+    private static final int STATUS_INDEX_DICTIONARY_ORDER = 3;
+    private static final int DISH_ID_INDEX_DISH_RECORD = 1;
+    private static final int DISH_NAME_INDEX_DISH_RECORD = 2;
+    private static final int DISH_PRICE_INDEX_DISH_RECORD = 3;
+    private static final int SEGMENT_COUNT_INDEX_ARCHIVE_RECORD = 1;
+    private static final int ORDER_COUNTS_INDEX_ARCHIVE_RECORD = 2;
+    private static final int JOURNAL_ID_INDEX_JOURNAL_RECORD = 1;
+    private static final int RECORD_COUNT_INDEX_JOURNAL_RECORD = 2;
     private static final String TRUE_STRING = "true";
     private static final String FALSE_STRING = "false";
     private static final int MIN_DISH_PRICE = 0;
 
     //@@author ShaniceTang
     /**
-     * Decodes an ArrayList of string lines into a Menu object, reconstructing its content.
+     * Decodes string lines into a Menu object, reconstructing its content.
+     * Each line is decoded as soon as it is read.
      *
-     * @param textLines An ArrayList of strings representing the encoded Menu data.
+     * @param textLines String lines representing the encoded Menu data.
      * @return A Menu object containing the decoded Menu data.
      */
-    public static Menu decodeMenuData(ArrayList<String> textLines) {
+    public static Menu decodeMenuData(Iterable<String> textLines) {
+        return decodeMenuData(textLines, ui);
+    }
+
+    /**
+     * Decodes string lines into a Menu object, showing any invalid line through the given Ui.
+     *
+     * @param textLines String lines representing the encoded Menu data.
+     * @param messageUi Ui that shows the invalid lines to the user.
+     * @return A Menu object containing the decoded Menu data.
+     */
+    public static Menu decodeMenuData(Iterable<String> textLines, Ui messageUi) {
         logger.info("Decoding menu.txt to Menu...");
         ArrayList<Dish> menuDishList = new ArrayList<>();
 
         for(String dishString : textLines) {
             logger.info("Line to decode: " + dishString);
-            decodeDishString(dishString, menuDishList);
+            decodeDishString(dishString, menuDishList, messageUi);
         }
 
         return new Menu(menuDishList);
@@ -80,8 +102,9 @@ public class Decoder {
      *
      * @param dishString      The string containing dish information.
      * @param menuDishList    The list to which the decoded dish will be added.
+     * @param messageUi       The Ui that shows the user if the dish is invalid.
      */
-    private static void decodeDishString(String dishString, ArrayList<Dish> menuDishList) {
+    private static void decodeDishString(String dishString, ArrayList<Dish> menuDishList, Ui messageUi) {
         String dishName = "";
         try {
             String[] dishStringArray = dishString.split(DIVIDER);
@@ -89,21 +112,21 @@ public class Decoder {
 
             checkNameValidity(dishName);
 
-            float dishPrice = Parser.parsePriceToFloat(dishStringArray[DISH_PRICE_INDEX_DISH_ARRAY]);
+            long dishPriceInCents = Parser.parsePriceToCents(dishStringArray[DISH_PRICE_INDEX_DISH_ARRAY]);
             String[] ingredientStringArray = Arrays.copyOfRange(
                     dishStringArray, DISH_INGREDIENT_START_INDEX, dishStringArray.length);
             ArrayList<Ingredient> ingredientsList = decodeIngredientData(ingredientStringArray);
 
-            menuDishList.add(new Dish(dishName, ingredientsList, dishPrice));
+            menuDishList.add(new Dish(dishName, ingredientsList, dishPriceInCents));
         } catch (ParserException e) {
             logger.log(Level.WARNING, "Dish has invalid price: " + e.getMessage(), e);
-            ui.showToUser(ErrorMessages.INVALID_MENU_DATA + dishString);
+            messageUi.showToUser(ErrorMessages.INVALID_MENU_DATA + dishString);
         } catch (RuntimeException e) {
             logger.log(Level.WARNING, "Dish has no ingredients: " + e.getMessage(), e);
-            ui.showToUser(e.getMessage() + dishName);
+            messageUi.showToUser(e.getMessage() + dishName);
         } catch (Exception e) {
             logger.log(Level.WARNING, "Line corrupted: " + e.getMessage(), e);
-            ui.showToUser(ErrorMessages.INVALID_MENU_DATA + dishString);
+            messageUi.showToUser(ErrorMessages.INVALID_MENU_DATA + dishString);
         }
     }
 
@@ -139,7 +162,7 @@ public class Decoder {
             String unit = array[UNIT_INDEX_INGREDIENT_ARRAY].trim();
             checkUnitValidity(unit);
 
-            ingredientList.add(new Ingredient(name, qty, unit));
+            ingredientList.add(Ingredient.of(name, qty, unit));
         }
         return ingredientList;
     }
@@ -160,22 +183,29 @@ public class Decoder {
     /**
      * Decodes raw string from pantry stock data file and create ingredient object from the data
      *
-     * @param encodedPantryStock raw string from pantry stock data file
+     * @param encodedPantryStock raw string lines from pantry stock data file, decoded as they are read
+     * @return a new pantry object with data from the pantry stock data file
+     */
+    public static Pantry decodePantryStockData(Iterable<String> encodedPantryStock) {
+        return decodePantryStockData(encodedPantryStock, ui);
+    }
+
+    /**
+     * Decodes raw string from pantry stock data file, showing any invalid line through the given Ui
+     *
+     * @param encodedPantryStock raw string lines from pantry stock data file, decoded as they are read
+     * @param messageUi Ui that shows the invalid lines to the user
      * @return a new pantry object with data from the pantry stock data file
      */
-    public static Pantry decodePantryStockData(ArrayList<String> encodedPantryStock) {
+    public static Pantry decodePantryStockData(Iterable<String> encodedPantryStock, Ui messageUi) {
         logger.info("Decoding Pantry_stock.txt to PantryStock...");
-        ArrayList<Ingredient> pantryStock = new ArrayList<>();
-        Ingredient ingredient;
+        Pantry pantry = new Pantry(ui);
 
-        if (encodedPantryStock.isEmpty()) {
-            return new Pantry(ui);
-        }
         for (String encodedData : encodedPantryStock) {
             logger.info("Line to decode: " + encodedData);
             String[] decodedData = encodedData.split(DIVIDER);
             if (!isValidPantryStockFormat(decodedData)) {
-                ui.showToUser(ErrorMessages.ERROR_IN_PANTRY_STOCK_DATA + encodedData);
+                messageUi.showToUser(ErrorMessages.ERROR_IN_PANTRY_STOCK_DATA + encodedData);
                 continue;
             }
             String ingredientName = decodedData[NAME_INDEX_PANTRY].trim().toLowerCase();
@@ -188,36 +218,35 @@ public class Decoder {
                 qty = Integer.parseInt(qtyText);
             } catch (NumberFormatException e) {
                 logger.log(Level.WARNING, "Line corrupted: " + e.getMessage(), e);
-                ui.showToUser(ErrorMessages.ERROR_IN_PANTRY_STOCK_DATA + encodedData);
+                messageUi.showToUser(ErrorMessages.ERROR_IN_PANTRY_STOCK_DATA + encodedData);
                 continue;
             }
 
             // Check whether the parameters are correct
-            if (isValidIngredientName(ingredientName, pantryStock)
+            if (isValidIngredientName(ingredientName, pantry)
                     && !Parser.isInvalidQty(qty)
                     && isValidUnit(unit)) {
-                ingredient = new Ingredient(ingredientName, qty, unit);
-                pantryStock.add(ingredient);
+                pantry.addIngredientToStock(ingredientName, qty, unit);
             } else {
                 logger.info(ErrorMessages.ERROR_IN_PANTRY_STOCK_DATA + encodedData);
-                ui.showToUser(ErrorMessages.ERROR_IN_PANTRY_STOCK_DATA + encodedData);
+                messageUi.showToUser(ErrorMessages.ERROR_IN_PANTRY_STOCK_DATA + encodedData);
             }
         }
 
-        return new Pantry(ui, pantryStock);
+        return pantry;
     }
 
     /**
      * Checks whether the ingredient name is valid in terms of length, containment of
      * special character and whether it is a repeated ingredient
      * @param ingredientName name of the ingredient
-     * @param pantryStock pantry stock with data from previous lines in the text file
+     * @param pantry pantry with data from previous lines in the text file
      * @return true if the name is valid, false otherwise
      */
-    private static boolean isValidIngredientName(String ingredientName, ArrayList<Ingredient> pantryStock) {
+    private static boolean isValidIngredientName(String ingredientName, Pantry pantry) {
         return !Parser.containsSpecialChar(ingredientName)
                 && !Parser.isNameLengthInvalid(ingredientName)
-                && !Parser.isRepeatedIngredientName(ingredientName, pantryStock);
+                && !pantry.isInStock(ingredientName);
     }
 
     private static boolean isValidUnit(String unit) {
@@ -248,18 +277,40 @@ public class Decoder {
     /**
      * Decodes a list of order data and constructs a Sales object using an array of OrderList objects.
      *
-     * @param textLines List of order strings in the format "dishName|quantity|totalOrderCost".
+     * @param textLines Order strings in the format "dishName|quantity|totalOrderCost", decoded as they are read.
+     * @param menu Menu instance to retrieve Dish objects based on dishName.
+     * @return Sales object containing OrderList objects decoded from the provided strings.
+     */
+    public static Sales decodeSales(Iterable<String> textLines, Menu menu) {
+        return decodeSales(textLines, menu, ui);
+    }
+
+    /**
+     * Decodes a list of order data into a Sales object, showing any invalid line through the given Ui.
+     *
+     * @param textLines Order strings in the format "dishName|quantity|totalOrderCost", decoded as they are read.
      * @param menu Menu instance to retrieve Dish objects based on dishName.
+     * @param messageUi Ui that shows the invalid lines to the user.
      * @return Sales object containing OrderList objects decoded from the provided strings.
      */
-    public static Sales decodeSales(ArrayList<String> textLines, Menu menu) {
+    public static Sales decodeSales(Iterable<String> textLines, Menu menu, Ui messageUi) {
+        return decodeSales(textLines, menu, new Sales(), messageUi);
+    }
+
+    /**
+     * Decodes a list of order data on top of sales that are already in storage,
+     * such as the order journal on top of the binary sales snapshot.
+     *
+     * @param textLines Order strings in the format "dishName|quantity|totalOrderCost", decoded as they are read.
+     * @param menu Menu instance to retrieve Dish objects based on dishName.
+     * @param sales Sales object that the decoded orders are added to.
+     * @param messageUi Ui that shows the invalid lines to the user.
+     * @return the given Sales object, containing the orders decoded from the provided strings.
+     */
+    public static Sales decodeSales(Iterable<String> textLines, Menu menu, Sales sales, Ui messageUi) {
         logger.info("Decoding orders.txt to Sales...");
         boolean salesOrderTextTamperDetectionMessagePrinted = false;
-        ArrayList<OrderList> orderLists = new ArrayList<>();
-
-        if (textLines.isEmpty()) {
-            return new Sales();
-        }
+        DishDictionary dishDictionary = new DishDictionary();
 
         //for each 'order' in text file
         for (String line : textLines) {
@@ -267,96 +318,242 @@ public class Decoder {
             if (line.isEmpty()) {
                 continue;
             }
-            decodeSalesData(line, orderLists, menu);
-        }
-
-        if (orderLists.isEmpty()) {
-            return new Sales();
+            decodeSalesData(line, dishDictionary, sales, messageUi);
         }
-        return new Sales(orderLists);
+        return sales;
     }
 
     /**
-     * Decodes the sales data from a single order line and adds it to the list of OrderList objects.
+     * Decodes the sales data from a single line and adds it to the Sales object.
+     * The line is either an entry of the dish dictionary or an order, which refers to its dish by its id
+     * in the dictionary, or by its name and price in the order journal and in orders.txt of older versions.
      *
-     * @param orderLine   The order line in the format "day|dishName|quantity|totalOrderCost|isComplete".
-     * @param orderLists  The list of OrderList objects to which the decoded order will be added.
-     * @param menu        Menu instance to retrieve Dish objects based on dishName.
+     * @param orderLine   The line in the format "dish|dishId|dishName|dishPrice", "day|dishId|quantity|isComplete"
+     *                    or "day|dishName|quantity|dishPrice|isComplete".
+     * @param dishDictionary The dictionary of the dishes decoded so far.
+     * @param sales       The Sales object to which the decoded order will be added.
+     * @param messageUi   The Ui that shows the user if the order is invalid.
      */
-    private static void decodeSalesData(String orderLine, ArrayList<OrderList> orderLists, Menu menu) {
+    private static void decodeSalesData(String orderLine, DishDictionary dishDictionary, Sales sales,
+            Ui messageUi) {
         try {
             String[] orderData = orderLine.split(DIVIDER);
+            if (orderData[DAY_INDEX_SALES].trim().equals(Encoder.DISH_RECORD)) {
+                decodeDishRecord(orderLine, orderData, dishDictionary, messageUi);
+                return;
+            }
+            //the segments of the sales archive are decoded before the orders, and journal positions are
+            //used to skip the compacted records of the order journal before it is decoded
+            if (orderData[DAY_INDEX_SALES].trim().equals(Encoder.ARCHIVE_RECORD)
+                    || orderData[DAY_INDEX_SALES].trim().equals(Encoder.JOURNAL_RECORD)) {
+                return;
+            }
+
             int day = Integer.parseInt(orderData[DAY_INDEX_SALES].trim()) - Sales.DAY_DISPLAY_OFFSET;
             String dishName = orderData[DISH_NAME_INDEX_SALES].trim().toLowerCase();
 
             //@@author Cazh1
             //keeps track of the number of days cafe has been operating for
             if (dishName.equals(Encoder.NULL_ORDER_DAY)) {
-                fillOrderListSize(orderLists, day);
+                sales.accountForDay(day);
                 return;
             }
             //@@author
 
-            int quantity = Integer.parseInt(orderData[QTY_INDEX_SALES].trim());
-            float decodedDishPrice = Float.parseFloat(orderData[DISH_PRICE_INDEX_SALES].trim());
-            String completeStatus = orderData[STATUS_INDEX_SALES].trim();
-            float totalOrderCost = quantity * decodedDishPrice;
+            Order orderedDish = orderData.length == MAX_DICTIONARY_ORDER_ARRAY_SIZE
+                    ? decodeDictionaryOrder(orderLine, orderData, dishDictionary, messageUi)
+                    : decodeTextOrder(orderLine, orderData, dishName, dishDictionary, messageUi);
+            if (orderedDish == null) {
+                return;
+            }
+            sales.getOrderList(day).addOrder(orderedDish);
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Line corrupted: " + e.getMessage(), e);
+            messageUi.showToUser(ErrorMessages.INVALID_SALES_DATA + orderLine);
+        }
+    }
+
+    /**
+     * Decodes an order that refers to its dish by its id in the dish dictionary
+     *
+     * @param orderLine The order line in the format "day|dishId|quantity|isComplete"
+     * @param orderData The fields of the order line
+     * @param dishDictionary The dictionary of the dishes decoded so far
+     * @param messageUi The Ui that shows the user if the order is invalid
+     * @return the decoded order, null if the order is invalid
+     * @throws Exception if the dish of the order was rejected
+     */
+    private static Order decodeDictionaryOrder(String orderLine, String[] orderData, DishDictionary dishDictionary,
+            Ui messageUi) throws Exception {
+        int quantity = Integer.parseInt(orderData[QTY_INDEX_SALES].trim());
+        String completeStatus = orderData[STATUS_INDEX_DICTIONARY_ORDER].trim();
+        int dishId = Integer.parseInt(orderData[DISH_ID_INDEX_SALES].trim());
+        Dish orderedDish = dishDictionary.getDish(dishId);
+        if (orderedDish == null) {
+            throw new Exception("Dish id " + dishId + " belongs to a rejected dish");
+        }
 
+        boolean isDataAccurate = isCompleteStatusAccurate(orderLine, completeStatus, messageUi)
+                && isValidQty(orderLine, quantity, messageUi);
+        if (!isDataAccurate) {
+            return null;
+        }
+        boolean isComplete = Boolean.parseBoolean(completeStatus.toLowerCase());
+        return new Order(orderedDish, quantity, quantity * orderedDish.getPriceInCents(), isComplete);
+    }
+
+    /**
+     * Decodes an order that holds the name and price of its dish, as in the order journal
+     *
+     * @param orderLine The order line in the format "day|dishName|quantity|dishPrice|isComplete"
+     * @param orderData The fields of the order line
+     * @param dishName The name of the dish ordered
+     * @param dishDictionary The dictionary that the dish of the order is shared from
+     * @param messageUi The Ui that shows the user if the order is invalid
+     * @return the decoded order, null if the order is invalid
+     * @throws Exception if the dish name is invalid
+     */
+    private static Order decodeTextOrder(String orderLine, String[] orderData, String dishName,
+            DishDictionary dishDictionary, Ui messageUi) throws Exception {
+        int quantity = Integer.parseInt(orderData[QTY_INDEX_SALES].trim());
+        long decodedDishPriceInCents = Money.parseCents(orderData[DISH_PRICE_INDEX_SALES]);
+        String completeStatus = orderData[STATUS_INDEX_SALES].trim();
+        long totalOrderCostInCents = quantity * decodedDishPriceInCents;
+
+        checkNameValidity(dishName);
+        boolean isDataAccurate = isCompleteStatusAccurate(orderLine, completeStatus, messageUi)
+                && isValidQty(orderLine, quantity, messageUi)
+                && isValidPrice(orderLine, decodedDishPriceInCents, messageUi);
+        if (!isDataAccurate) {
+            return null;
+        }
+
+        Dish dishToAdd = dishDictionary.intern(dishName, decodedDishPriceInCents);
+        boolean isComplete = Boolean.parseBoolean(completeStatus.toLowerCase());
+        return new Order(dishToAdd, quantity, totalOrderCostInCents, isComplete);
+    }
+
+    /**
+     * Decodes an entry of the dish dictionary and adds the dish to the dictionary.
+     * A rejected dish still takes up its id, so that the orders of the dishes after it are not decoded
+     * into the wrong dish, while its own orders are rejected.
+     *
+     * @param dishLine The line in the format "dish|dishId|dishName|dishPrice"
+     * @param dishData The fields of the line
+     * @param dishDictionary The dictionary of the dishes decoded so far
+     * @param messageUi The Ui that shows the user if the dish is invalid
+     * @throws Exception if the dish is invalid or its id does not follow the dishes before it
+     */
+    private static void decodeDishRecord(String dishLine, String[] dishData, DishDictionary dishDictionary,
+            Ui messageUi) throws Exception {
+        int expectedDishId = dishDictionary.getSize();
+        try {
+            int dishId = Integer.parseInt(dishData[DISH_ID_INDEX_DISH_RECORD].trim());
+            String dishName = dishData[DISH_NAME_INDEX_DISH_RECORD].trim().toLowerCase();
+            long dishPriceInCents = Money.parseCents(dishData[DISH_PRICE_INDEX_DISH_RECORD]);
             checkNameValidity(dishName);
-            boolean isDataAccurate = isCompleteStatusAccurate(orderLine, completeStatus)
-                    && isValidQty(orderLine, quantity)
-                    && isValidPrice(orderLine, decodedDishPrice);
-            if (!isDataAccurate) {
+            if (dishId != expectedDishId) {
+                throw new Exception("Dish id " + dishId + " is out of order");
+            }
+            if (!isValidPrice(dishLine, dishPriceInCents, messageUi)) {
+                dishDictionary.reserveRejectedDishId();
                 return;
             }
-
-            Dish dishToAdd = new Dish(dishName, decodedDishPrice);
-            //creates new order and adds to orderList for specific day
-            boolean isComplete = Boolean.parseBoolean(completeStatus.toLowerCase());
-            Order orderedDish = new Order(dishToAdd, quantity, totalOrderCost, isComplete);
-            fillOrderListSize(orderLists, day);
-            orderLists.get(day).addOrder(orderedDish);
+            if (dishDictionary.getDishId(dishName, dishPriceInCents) != dishId) {
+                throw new Exception("Dish " + dishName + " is already in the dictionary");
+            }
         } catch (Exception e) {
-            logger.log(Level.WARNING, "Line corrupted: " + e.getMessage(), e);
-            ui.showToUser(ErrorMessages.INVALID_SALES_DATA + orderLine);
+            if (dishDictionary.getSize() == expectedDishId) {
+                dishDictionary.reserveRejectedDishId();
+            }
+            throw e;
         }
     }
 
-    private static boolean isCompleteStatusAccurate(String orderLine, String completeStatus) {
+    /**
+     * Checks if a line of orders.txt is the record of the segments in the sales archive
+     *
+     * @param line line of orders.txt
+     * @return true if the line is the archive record, false otherwise
+     */
+    public static boolean isArchiveRecord(String line) {
+        return line.split(DIVIDER)[DAY_INDEX_SALES].trim().equals(Encoder.ARCHIVE_RECORD);
+    }
+
+    /**
+     * Decodes the record of the segments in the sales archive
+     *
+     * @param archiveLine The line in the format "archive|segmentCount|orderCount,orderCount,..."
+     * @param daysPerSegment The number of days in every segment
+     * @return number of orders in the archive of every day of the recorded segments
+     * @throws Exception if the record is invalid or does not hold a number of orders for every archived day
+     */
+    public static ArrayList<Integer> decodeArchiveRecord(String archiveLine, int daysPerSegment) throws Exception {
+        String[] archiveData = archiveLine.split(DIVIDER);
+        int segmentCount = Integer.parseInt(archiveData[SEGMENT_COUNT_INDEX_ARCHIVE_RECORD].trim());
+        ArrayList<Integer> segmentOrderCounts = new ArrayList<>();
+        if (archiveData.length > ORDER_COUNTS_INDEX_ARCHIVE_RECORD
+                && !archiveData[ORDER_COUNTS_INDEX_ARCHIVE_RECORD].isBlank()) {
+            for (String orderCount : archiveData[ORDER_COUNTS_INDEX_ARCHIVE_RECORD]
+                    .split(Encoder.ARCHIVED_ORDER_COUNT_DIVIDER)) {
+                segmentOrderCounts.add(Integer.parseInt(orderCount.trim()));
+            }
+        }
+        if (segmentCount < 0 || segmentOrderCounts.size() != segmentCount * daysPerSegment) {
+            throw new Exception("Archive record does not match its " + segmentCount + " segments");
+        }
+        return segmentOrderCounts;
+    }
+
+    /**
+     * Checks if a line of orders.txt or of the order journal is a position in the order journal
+     *
+     * @param line line of orders.txt or of the order journal
+     * @return true if the line is a journal position, false otherwise
+     */
+    public static boolean isJournalRecord(String line) {
+        return line.split(DIVIDER)[DAY_INDEX_SALES].trim().equals(Encoder.JOURNAL_RECORD);
+    }
+
+    /**
+     * Decodes a position in the order journal
+     *
+     * @param journalLine The line in the format "journal|journalId|recordCount"
+     * @return the decoded journal position
+     * @throws Exception if the record is invalid
+     */
+    public static JournalPosition decodeJournalPosition(String journalLine) throws Exception {
+        String[] journalData = journalLine.split(DIVIDER);
+        long journalId = Long.parseLong(journalData[JOURNAL_ID_INDEX_JOURNAL_RECORD].trim());
+        int recordCount = Integer.parseInt(journalData[RECORD_COUNT_INDEX_JOURNAL_RECORD].trim());
+        if (journalId < 0 || recordCount < 0) {
+            throw new Exception("Journal position " + journalId + ", " + recordCount + " is invalid");
+        }
+        return new JournalPosition(journalId, recordCount);
+    }
+
+    private static boolean isCompleteStatusAccurate(String orderLine, String completeStatus, Ui messageUi) {
         if (completeStatus.equalsIgnoreCase(TRUE_STRING)
                 || completeStatus.equalsIgnoreCase(FALSE_STRING)) {
             return true;
         }
-        ui.showToUser(ErrorMessages.INVALID_ORDER_STATUS + orderLine);
+        messageUi.showToUser(ErrorMessages.INVALID_ORDER_STATUS + orderLine);
         return false;
     }
 
-    private static boolean isValidPrice(String orderLine, Float decodedDishPrice) {
-        if (decodedDishPrice >= MIN_DISH_PRICE) {
+    private static boolean isValidPrice(String orderLine, long decodedDishPriceInCents, Ui messageUi) {
+        if (decodedDishPriceInCents >= MIN_DISH_PRICE) {
             return true;
         }
-        ui.showToUser(ErrorMessages.INVALID_DISH_PRICE + orderLine);
+        messageUi.showToUser(ErrorMessages.INVALID_DISH_PRICE + orderLine);
         return false;
     }
 
-    private static boolean isValidQty(String orderLine, int quantity) {
+    private static boolean isValidQty(String orderLine, int quantity, Ui messageUi) {
         if (quantity > 0) {
             return true;
         }
-        ui.showToUser(ErrorMessages.INVALID_ORDER_QTY + orderLine);
+        messageUi.showToUser(ErrorMessages.INVALID_ORDER_QTY + orderLine);
         return false;
     }
-
-    //@@author Cazh1
-    /**
-     * Increases the size of the orderlist when there is gap between the previous order and the next
-     *
-     * @param orderLists The current partially filled ArrayList of OrderList
-     * @param day The day of the next order
-     */
-    private static void fillOrderListSize(ArrayList<OrderList> orderLists, int day) {
-        while (orderLists.size() <= day) {
-            orderLists.add(new OrderList());
-        }
-    }
 }
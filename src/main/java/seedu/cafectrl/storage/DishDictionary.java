@@ -0,0 +1,69 @@
+package seedu.cafectrl.storage;
+
+import seedu.cafectrl.data.dish.Dish;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Dictionary of the dishes ordered in the sales, identified by their name and price.
+ * Orders in orders.txt refer to a dish by its id in the dictionary instead of repeating the dish,
+ * and every decoded order of the same dish name and price shares a single Dish.
+ */
+public class DishDictionary {
+    private static final String KEY_DIVIDER = " | ";
+    private final HashMap<String, Integer> dishIds = new HashMap<>();
+    private final ArrayList<Dish> dishes = new ArrayList<>();
+
+    /**
+     * Gets the id of a dish, adding the dish to the dictionary if it is not in it yet
+     *
+     * @param dishName name of the dish
+     * @param priceInCents price of the dish in cents
+     * @return id of the dish in the dictionary
+     */
+    public int getDishId(String dishName, long priceInCents) {
+        String key = dishName + KEY_DIVIDER + priceInCents;
+        Integer dishId = dishIds.get(key);
+        if (dishId == null) {
+            dishId = dishes.size();
+            dishIds.put(key, dishId);
+            dishes.add(new Dish(dishName, priceInCents));
+        }
+        return dishId;
+    }
+
+    /**
+     * Takes up the next id for a dish that is rejected when the dictionary is decoded,
+     * so that the dishes after it keep the ids the orders refer to them by
+     */
+    public void reserveRejectedDishId() {
+        dishes.add(null);
+    }
+
+    /**
+     * Gets the dish in the dictionary with the given id
+     *
+     * @param dishId id of the dish
+     * @return the dish, null if the dish with the id was rejected
+     * @throws IndexOutOfBoundsException if there is no dish with the id
+     */
+    public Dish getDish(int dishId) {
+        return dishes.get(dishId);
+    }
+
+    /**
+     * Gets the single Dish shared by every order of the given dish name and price
+     *
+     * @param dishName name of the dish
+     * @param priceInCents price of the dish in cents
+     * @return the dish in the dictionary
+     */
+    public Dish intern(String dishName, long priceInCents) {
+        return getDish(getDishId(dishName, priceInCents));
+    }
+
+    public int getSize() {
+        return dishes.size();
+    }
+}
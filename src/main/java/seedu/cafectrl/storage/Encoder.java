@@ -10,6 +10,8 @@ import seedu.cafectrl.data.dish.Ingredient;
 import seedu.cafectrl.data.Menu;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
 import java.util.logging.Logger;
 
 /**
@@ -20,36 +22,37 @@ import java.util.logging.Logger;
  */
 public class Encoder {
     public static final String NULL_ORDER_DAY = "the last day has no orders but please account for it";
+    public static final String DISH_RECORD = "dish";
+    public static final String ARCHIVE_RECORD = "archive";
+    public static final String JOURNAL_RECORD = "journal";
+    public static final String ARCHIVED_ORDER_COUNT_DIVIDER = ",";
     private static final String DIVIDER = " | ";
     private static final String INGREDIENT_DIVIDER = " - ";
     private static final Logger logger = Logger.getLogger(CafeCtrl.class.getName());
-    private static final String LINE_BREAK = "\n";
-    private static final String EMPTY_STRING = "";
-    private static final String CARRIAGE_RETURN = "\r";
-    private static final String TWO_DECIMAL_PLACE_FORMAT = "%.2f";
 
     //@@author Cazh1
     /**
-     * Generates a hash for the content to be saved into text save file
+     * Adds a record to the content to be saved into text save file and updates the checksum of the content
      *
-     * @param stringArrayList The arraylist of String to be saved into text save file
-     * @return arraylist of String with the generated hash
+     * @param encodedList The arraylist of String to be saved into text save file
+     * @param checksum The running checksum of the records in encodedList
+     * @param record The record to be added
      */
-    private static ArrayList<String> hashEncoding(ArrayList<String> stringArrayList) {
-        String stringArrayListAsString = String.join(", ", stringArrayList).trim();
-
-        //The generated String has line breaks, this removes line breaks
-        String stringArrayListAsStringInOneLine = stringArrayListAsString
-                .replace(LINE_BREAK, EMPTY_STRING)
-                .replace(CARRIAGE_RETURN, EMPTY_STRING);
-
-        //Generate Hash from content
-        int stringArrayListHash = stringArrayListAsStringInOneLine.hashCode();
-        String stringArrayListHashAsString = String.valueOf(stringArrayListHash);
+    private static void addRecord(ArrayList<String> encodedList, RecordChecksum checksum, String record) {
+        encodedList.add(record);
+        checksum.update(record);
+    }
 
-        //Adds generated Hash into the original ArrayList<String>
-        stringArrayList.add(stringArrayListHashAsString);
-        return stringArrayList;
+    /**
+     * Adds the checksum of the content to be saved into text save file as its last line
+     *
+     * @param encodedList The arraylist of String to be saved into text save file
+     * @param checksum The running checksum of the records in encodedList
+     * @return arraylist of String with the checksum
+     */
+    private static ArrayList<String> addChecksum(ArrayList<String> encodedList, RecordChecksum checksum) {
+        encodedList.add(checksum.toString());
+        return encodedList;
     }
 
     //@@author ShaniceTang
@@ -62,18 +65,18 @@ public class Encoder {
     public static ArrayList<String> encodeMenu(Menu menu) {
         logger.info("Encoding Menu to menu.txt...");
         ArrayList<String> menuStringList = new ArrayList<>();
+        RecordChecksum checksum = new RecordChecksum();
         ArrayList<Dish> menuDishList = menu.getMenuItemsList();
         for(Dish dish : menuDishList) {
             StringBuilder dishString = new StringBuilder();
             dishString.append(dish.getName() + DIVIDER);
-            dishString.append(dish.getPrice());
+            dishString.append(dish.getPriceString());
             dishString.append(encodeIngredientList(dish.getIngredients()));
             dishString.append(System.lineSeparator());
-            menuStringList.add(String.valueOf(dishString));
+            addRecord(menuStringList, checksum, String.valueOf(dishString));
             logger.info("Encoded dish: " + dishString);
         }
-        ArrayList<String> menuStringListHashed = hashEncoding(menuStringList);
-        return menuStringListHashed;
+        return addChecksum(menuStringList, checksum);
     }
 
     /**
@@ -103,6 +106,7 @@ public class Encoder {
     public static ArrayList<String> encodePantryStock(Pantry pantry) {
         // Convert pantry stock to a list of String
         ArrayList<String> pantryStockInString = new ArrayList<>();
+        RecordChecksum checksum = new RecordChecksum();
         ArrayList<Ingredient> pantryStock = pantry.getPantryStock();
 
         for (Ingredient ingredient : pantryStock) {
@@ -113,56 +117,174 @@ public class Encoder {
             encodedIngredient.append(DIVIDER);
             encodedIngredient.append(ingredient.getUnit());
             encodedIngredient.append(System.lineSeparator());
-            pantryStockInString.add(encodedIngredient.toString());
+            addRecord(pantryStockInString, checksum, encodedIngredient.toString());
             logger.info("Encoded ingredient: " + ingredient.getName());
         }
-        ArrayList<String> pantryStockInStringHashed = hashEncoding(pantryStockInString);
-        return pantryStockInStringHashed;
+        return addChecksum(pantryStockInString, checksum);
     }
 
     //@@author NaychiMin
     /**
      * Encodes a Sales object into a list of strings for storage.
-     * Each string represents an order, including day, dish name, quantity, and total cost.
+     * The dishes ordered are listed first as a dictionary in the format dish | dish id | dish name | dish price,
+     * followed by every order in the format day | dish id | quantity | complete status.
      *
      * @param sales The Sales object to be encoded.
      * @return An ArrayList of strings representing the encoded sales data.
      */
     public static ArrayList<String> encodeSales(Sales sales) {
+        return encodeSales(sales, day -> 0);
+    }
+
+    /**
+     * Encodes the orders of a Sales object that are not in the sales archive yet into a list of strings
+     * for storage, preceded by records about the saved orders, such as the record of the segments
+     * in the sales archive.
+     *
+     * @param sales The Sales object to be encoded.
+     * @param firstOrderOfDay Gives the index of the first order of a day that is not archived yet.
+     * @param headerRecords The encoded records to be saved before the dishes and orders.
+     * @return An ArrayList of strings representing the encoded sales data.
+     */
+    public static ArrayList<String> encodeSales(Sales sales, IntUnaryOperator firstOrderOfDay,
+            String... headerRecords) {
         logger.info("Encoding Sales to orders.txt...");
-        ArrayList<String> encodedList = new ArrayList<>();
-        ArrayList<OrderList> orderLists = sales.getOrderLists();
+        return encodeSales(sales, 0, sales.getDayCount(), firstOrderOfDay, headerRecords);
+    }
 
-        for (int day = 0; day < orderLists.size(); day++) {
+    private static ArrayList<String> encodeSales(Sales sales, int firstDay, int endDay,
+            IntUnaryOperator firstOrderOfDay, String... headerRecords) {
+        ArrayList<String> orderRecords = new ArrayList<>();
+        DishDictionary dishDictionary = new DishDictionary();
+
+        for (int day = firstDay; day < endDay; day++) {
             logger.info("Encoding sales of day " + day);
 
-            //get orderList for each day from list of sales
-            OrderList orderList = sales.getOrderList(day);
+            //get orderList for each day from list of sales, a day without orders has none
+            OrderList orderList = sales.findOrderList(day);
+            int orderCount = orderList == null ? 0 : orderList.getSize();
 
             //get order from each orderList obtained
-            for (Order order : orderList.getOrderList()) {
-                StringBuilder orderString = new StringBuilder();
-
-                //day of each orderList is index + 1
-                float orderedDishPrice = order.getOrderedDish().getPrice();
-                String orderedDishPriceString = String.format(TWO_DECIMAL_PLACE_FORMAT, orderedDishPrice);
-
-                orderString.append((day + 1) + DIVIDER);
-                orderString.append(order.getDishName() + DIVIDER);
-                orderString.append(order.getQuantity() + DIVIDER);
-                orderString.append(orderedDishPriceString + DIVIDER);
-                orderString.append(order.getIsComplete());
-                orderString.append(System.lineSeparator());
-                encodedList.add(String.valueOf(orderString));
+            for (int i = firstOrderOfDay.applyAsInt(day); i < orderCount; i++) {
+                String orderString = encodeOrder(day, orderList.getOrderList().get(i), dishDictionary);
+                orderRecords.add(orderString);
                 logger.info("Encoded order: " + orderString);
             }
 
             if (day == sales.getDaysAccounted()) {
-                encodedList = encodeLastSalesDay(encodedList, orderList, day);
+                encodeLastSalesDay(orderRecords, orderCount, day);
             }
         }
-        ArrayList<String> encodedListHashed = hashEncoding(encodedList);
-        return encodedListHashed;
+
+        ArrayList<String> encodedList = new ArrayList<>();
+        RecordChecksum checksum = new RecordChecksum();
+        for (String headerRecord : headerRecords) {
+            addRecord(encodedList, checksum, headerRecord);
+        }
+        for (int dishId = 0; dishId < dishDictionary.getSize(); dishId++) {
+            addRecord(encodedList, checksum, encodeDishRecord(dishId, dishDictionary.getDish(dishId)));
+        }
+        for (String orderRecord : orderRecords) {
+            addRecord(encodedList, checksum, orderRecord);
+        }
+        return addChecksum(encodedList, checksum);
+    }
+
+    /**
+     * Encodes every order of a range of closed days into a list of strings to be frozen into a segment
+     * of the sales archive, in the same format as encodeSales.
+     *
+     * @param sales The Sales object containing the days to be encoded.
+     * @param firstDay The index of the first day of the segment.
+     * @param endDay The index of the day after the last day of the segment.
+     * @return An ArrayList of strings representing the encoded segment.
+     */
+    public static ArrayList<String> encodeSalesSegment(Sales sales, int firstDay, int endDay) {
+        logger.info("Encoding days " + firstDay + " to " + (endDay - 1) + " to the sales archive...");
+        return encodeSales(sales, firstDay, endDay, day -> 0);
+    }
+
+    /**
+     * Encodes the record that orders.txt starts with, of the segments in the sales archive, into the format
+     * archive | segment count | number of orders of every archived day in the segments, if there are any.
+     * Only the segments in the record are part of the archive, as orders.txt is written after the segments.
+     *
+     * @param segmentCount The number of segments in the sales archive.
+     * @param segmentOrderCounts The number of orders of every archived day that are in its segment.
+     * @return The encoded record, terminated by a line separator.
+     */
+    public static String encodeArchiveRecord(int segmentCount, List<Integer> segmentOrderCounts) {
+        StringBuilder archiveRecord = new StringBuilder(ARCHIVE_RECORD + DIVIDER + segmentCount);
+        for (int day = 0; day < segmentOrderCounts.size(); day++) {
+            archiveRecord.append(day == 0 ? DIVIDER : ARCHIVED_ORDER_COUNT_DIVIDER);
+            archiveRecord.append(segmentOrderCounts.get(day));
+        }
+        return archiveRecord.append(System.lineSeparator()).toString();
+    }
+
+    /**
+     * Encodes a position in the order journal into the format journal | journal id | record count.
+     * The record starts every journal with the position of its start, and follows the archive record
+     * in orders.txt with the position up to which the journal has been compacted into orders.txt.
+     *
+     * @param journalPosition The position in the order journal.
+     * @return The encoded record, terminated by a line separator.
+     */
+    public static String encodeJournalPosition(JournalPosition journalPosition) {
+        return JOURNAL_RECORD + DIVIDER + journalPosition.getJournalId() + DIVIDER
+                + journalPosition.getRecordCount() + System.lineSeparator();
+    }
+
+    /**
+     * Encodes an entry of the dish dictionary into the format dish | dish id | dish name | dish price
+     *
+     * @param dishId The id the orders use to refer to the dish.
+     * @param dish The dish to be encoded.
+     * @return The encoded dish, terminated by a line separator.
+     */
+    private static String encodeDishRecord(int dishId, Dish dish) {
+        return DISH_RECORD + DIVIDER + dishId + DIVIDER + dish.getName() + DIVIDER
+                + dish.getPriceString() + System.lineSeparator();
+    }
+
+    /**
+     * Encodes a single order of orders.txt into the format day | dish id | quantity | complete status.
+     *
+     * @param day The index of the day the order belongs to.
+     * @param order The order to be encoded.
+     * @param dishDictionary The dictionary of the dishes in orders.txt, the dish is added if it is not in it yet.
+     * @return The encoded order, terminated by a line separator.
+     */
+    private static String encodeOrder(int day, Order order, DishDictionary dishDictionary) {
+        Dish orderedDish = order.getOrderedDish();
+        int dishId = dishDictionary.getDishId(orderedDish.getName(), orderedDish.getPriceInCents());
+
+        //day of each orderList is index + 1
+        return (day + 1) + DIVIDER + dishId + DIVIDER + order.getQuantity() + DIVIDER + order.getIsComplete()
+                + System.lineSeparator();
+    }
+
+    /**
+     * Encodes a single order into the format day | dish name | quantity | dish price | complete status.
+     * Used for the order journal, which is appended to without knowing the dish dictionary of orders.txt.
+     *
+     * @param day The index of the day the order belongs to.
+     * @param order The order to be encoded.
+     * @return The encoded order, terminated by a line separator.
+     */
+    public static String encodeOrder(int day, Order order) {
+        StringBuilder orderString = new StringBuilder();
+
+        //day of each orderList is index + 1
+        String orderedDishPriceString = order.getOrderedDish().getPriceString();
+
+        orderString.append((day + 1) + DIVIDER);
+        orderString.append(order.getDishName() + DIVIDER);
+        orderString.append(order.getQuantity() + DIVIDER);
+        orderString.append(orderedDishPriceString + DIVIDER);
+        orderString.append(order.getIsComplete());
+        orderString.append(System.lineSeparator());
+        return String.valueOf(orderString);
     }
 
     //@@author Cazh1
@@ -170,20 +292,28 @@ public class Encoder {
      * Checks if the last day accessed has valid orders added
      *
      * @param encodedList An ArrayList of strings representing the encoded sales data.
-     * @param orderList An ArrayList of Orders of the last day accessed
+     * @param orderCount The number of Orders of the last day accessed
      * @param day The last day accessed
-     * @return encodedList with specific String added at the end if no valid orders were detected
      */
-    private static ArrayList<String> encodeLastSalesDay(ArrayList<String> encodedList, OrderList orderList, int day) {
-        if (orderList.getSize() == 0) {
-            StringBuilder orderString = new StringBuilder();
-
-            //day of each orderList is index + 1
-            orderString.append((day + 1) + DIVIDER);
-            orderString.append(NULL_ORDER_DAY);
-            orderString.append(System.lineSeparator());
-            encodedList.add(String.valueOf(orderString));
+    private static void encodeLastSalesDay(ArrayList<String> encodedList, int orderCount, int day) {
+        if (orderCount == 0) {
+            encodedList.add(encodeDayMarker(day));
         }
-        return encodedList;
+    }
+
+    /**
+     * Encodes a record that accounts for a day without any orders
+     *
+     * @param day The index of the day to be accounted for
+     * @return The encoded record, terminated by a line separator
+     */
+    public static String encodeDayMarker(int day) {
+        StringBuilder orderString = new StringBuilder();
+
+        //day of each orderList is index + 1
+        orderString.append((day + 1) + DIVIDER);
+        orderString.append(NULL_ORDER_DAY);
+        orderString.append(System.lineSeparator());
+        return String.valueOf(orderString);
     }
 }
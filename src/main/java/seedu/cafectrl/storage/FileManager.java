@@ -4,15 +4,30 @@ import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.ui.ErrorMessages;
 import seedu.cafectrl.ui.Ui;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileReader;
 import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 //@@author DextheChik3n
 /**
@@ -21,6 +36,8 @@ import java.util.logging.Logger;
 public class FileManager {
 
     public static final String USER_BASE_DIRECTORY = "user.dir";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String GENERATION_PLACEHOLDER = "%d";
     private static Logger logger = Logger.getLogger(CafeCtrl.class.getName());
     private final Ui ui;
 
@@ -35,21 +52,72 @@ public class FileManager {
      * @throws FileNotFoundException if text file at the specified file path does not exist
      */
     public ArrayList<String> readTextFile(String filePath) throws FileNotFoundException {
-        logger.info("Reading text file...");
+        ArrayList<String> textLines = new ArrayList<>();
+        try (RecordReader records = openTextFile(filePath, new RecordChecksum(), false)) {
+            for (String line : records) {
+                textLines.add(line);
+            }
+        }
+        return textLines;
+    }
+
+    /**
+     * Opens the text save file at the specified file path so that its records can be read one at a time.
+     * The last line of the file is taken as the checksum of the file rather than as a record.
+     *
+     * @param filePath file path of the text save file
+     * @param checksum checksum to be updated with every record read
+     * @return reader of the records in the text save file, to be closed once the records are read
+     * @throws FileNotFoundException if text file at the specified file path does not exist
+     */
+    public RecordReader readRecords(String filePath, RecordChecksum checksum) throws FileNotFoundException {
+        return openTextFile(filePath, checksum, true);
+    }
+
+    private RecordReader openTextFile(String filePath, RecordChecksum checksum, boolean hasChecksumLine)
+            throws FileNotFoundException {
+        logger.info("Reading text file " + filePath + "...");
         String userWorkingDirectory = System.getProperty(USER_BASE_DIRECTORY);
         Path dataFilePath = Paths.get(userWorkingDirectory, filePath);
         File textFile = new File(String.valueOf(dataFilePath));
-        ArrayList<String> textLines = new ArrayList<>();
 
-        Scanner s = new Scanner(textFile);
+        BufferedReader reader = new BufferedReader(new FileReader(textFile));
+        return new RecordReader(reader, checksum, hasChecksumLine);
+    }
 
-        while (s.hasNext()) {
-            textLines.add(s.nextLine());
+    /**
+     * Opens the GZIP compressed text save file at the specified file path so that its records can be read
+     * one at a time, decompressing the file as it is read.
+     * The last line of the file is taken as the checksum of the file rather than as a record.
+     *
+     * @param filePath file path of the compressed text save file
+     * @param checksum checksum to be updated with every record read
+     * @return reader of the records in the compressed file, to be closed once the records are read
+     * @throws FileNotFoundException if compressed file at the specified file path does not exist
+     * @throws IOException if the compressed file cannot be read
+     */
+    public RecordReader readCompressedRecords(String filePath, RecordChecksum checksum) throws IOException {
+        logger.info("Reading compressed file " + filePath + "...");
+        String userWorkingDirectory = System.getProperty(USER_BASE_DIRECTORY);
+        Path dataFilePath = Paths.get(userWorkingDirectory, filePath);
+        if (!Files.exists(dataFilePath)) {
+            throw new FileNotFoundException(dataFilePath + " does not exist");
         }
 
-        s.close();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(dataFilePath)), Charset.defaultCharset()));
+        return new RecordReader(reader, checksum, true);
+    }
 
-        return textLines;
+    /**
+     * Checks if there is a file at the specified file path
+     *
+     * @param filePath the specified path location of the file
+     * @return true if the file exists, false otherwise
+     */
+    public boolean isFileFound(String filePath) {
+        String userWorkingDirectory = System.getProperty(USER_BASE_DIRECTORY);
+        return Files.exists(Paths.get(userWorkingDirectory, filePath));
     }
 
     /**
@@ -86,22 +154,260 @@ public class FileManager {
     /**
      * Writes a list of texts to the text file at the specified file path.
      * Will overwrite all text in text file.
+     * The texts are written to a temporary file which then replaces the text file, so the text file is never
+     * left half written.
      *
      * @param filePath file path of the text file.
      * @param listOfTextToAdd text to be written to the text file.
+     * @throws IOException if the text file cannot be written, the text file is then left as it was
      */
-    public void overwriteFile(String filePath, ArrayList<String> listOfTextToAdd) {
+    public void overwriteFile(String filePath, ArrayList<String> listOfTextToAdd) throws IOException {
+        Path tempFilePath = null;
         try {
             checkFileExists(filePath);
-            FileWriter fw = new FileWriter(filePath);
-            for (String line : listOfTextToAdd) {
-                logger.info("Overwriting " + filePath + " with " + line + "...");
-                fw.write(line);
+            Path textFilePath = Paths.get(filePath);
+            tempFilePath = getTempFilePath(textFilePath);
+
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFilePath, Charset.defaultCharset())) {
+                for (String line : listOfTextToAdd) {
+                    writer.write(line);
+                }
             }
+            replaceFile(tempFilePath, textFilePath);
+            logger.info("Overwrote " + filePath + " with " + listOfTextToAdd.size() + " lines");
+        } catch (IOException e) {
+            deleteTempFile(tempFilePath);
+            throw e;
+        } catch (Exception e) {
+            deleteTempFile(tempFilePath);
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes a list of texts to the GZIP compressed text file at the specified file path,
+     * through a temporary file like uncompressed text files.
+     *
+     * @param filePath file path of the compressed text file.
+     * @param listOfTextToAdd text to be compressed into the file.
+     * @throws IOException if the compressed file cannot be written
+     */
+    public void writeCompressedFile(String filePath, ArrayList<String> listOfTextToAdd) throws IOException {
+        Path tempFilePath = null;
+        try {
+            checkFileExists(filePath);
+            Path compressedFilePath = Paths.get(filePath);
+            tempFilePath = getTempFilePath(compressedFilePath);
 
-            fw.close();
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(tempFilePath)), Charset.defaultCharset()))) {
+                for (String line : listOfTextToAdd) {
+                    writer.write(line);
+                }
+            }
+            replaceFile(tempFilePath, compressedFilePath);
+            logger.info("Wrote " + filePath + " with " + listOfTextToAdd.size() + " lines");
+        } catch (IOException e) {
+            deleteTempFile(tempFilePath);
+            throw e;
         } catch (Exception e) {
-            ui.showToUser(e.getMessage());
+            deleteTempFile(tempFilePath);
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the content of a buffer to the binary file at the specified file path.
+     * Will overwrite all content in the binary file, through a temporary file like text files.
+     *
+     * @param filePath file path of the binary file.
+     * @param content buffer holding the content to be written, from its position to its limit.
+     * @throws IOException if the binary file cannot be written, the binary file is then left as it was
+     */
+    public void overwriteFile(String filePath, ByteBuffer content) throws IOException {
+        Path tempFilePath = null;
+        try {
+            checkFileExists(filePath);
+            Path binaryFilePath = Paths.get(filePath);
+            tempFilePath = getTempFilePath(binaryFilePath);
+
+            int contentSize = content.remaining();
+            try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+            }
+            replaceFile(tempFilePath, binaryFilePath);
+            logger.info("Overwrote " + filePath + " with " + contentSize + " bytes");
+        } catch (IOException e) {
+            deleteTempFile(tempFilePath);
+            throw e;
+        } catch (Exception e) {
+            deleteTempFile(tempFilePath);
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Maps the binary file at the specified file path into memory.
+     * The content of the file is only read from disk when the part of the buffer holding it is accessed.
+     *
+     * @param filePath file path of the binary file
+     * @return read-only buffer mapped to the content of the binary file
+     * @throws FileNotFoundException if binary file at the specified file path does not exist
+     * @throws IOException if the binary file cannot be mapped
+     */
+    public ByteBuffer mapBinaryFile(String filePath) throws IOException {
+        logger.info("Mapping binary file " + filePath + "...");
+        String userWorkingDirectory = System.getProperty(USER_BASE_DIRECTORY);
+        Path dataFilePath = Paths.get(userWorkingDirectory, filePath);
+        if (!Files.exists(dataFilePath)) {
+            throw new FileNotFoundException(dataFilePath + " does not exist");
+        }
+        try (FileChannel channel = FileChannel.open(dataFilePath, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Finds the latest generation of a file that is written under a new file path every time it is saved,
+     * so that a file still mapped into memory is never replaced.
+     *
+     * @param filePathFormat format of the file paths, with %d in place of the generation
+     * @return the highest generation of the file, 0 if no generation of the file exists
+     * @throws IOException if the folder of the file cannot be listed
+     */
+    public int findLatestGeneration(String filePathFormat) throws IOException {
+        Path folderPath = getGenerationFolderPath(filePathFormat);
+        if (!Files.isDirectory(folderPath)) {
+            return 0;
+        }
+        int latestGeneration = 0;
+        try (DirectoryStream<Path> filePaths = Files.newDirectoryStream(folderPath)) {
+            for (Path filePath : filePaths) {
+                latestGeneration = Math.max(latestGeneration, parseGeneration(filePathFormat, filePath));
+            }
+        }
+        return latestGeneration;
+    }
+
+    /**
+     * Deletes every generation of a file older than the specified generation.
+     * A generation that cannot be deleted yet, such as one still mapped into memory, is left to be deleted
+     * the next time a newer generation is saved.
+     *
+     * @param filePathFormat format of the file paths, with %d in place of the generation
+     * @param generation the generation to be kept
+     */
+    public void deleteOlderGenerations(String filePathFormat, int generation) {
+        Path folderPath = getGenerationFolderPath(filePathFormat);
+        try (DirectoryStream<Path> filePaths = Files.newDirectoryStream(folderPath)) {
+            for (Path filePath : filePaths) {
+                int fileGeneration = parseGeneration(filePathFormat, filePath);
+                if (fileGeneration > 0 && fileGeneration < generation) {
+                    deleteOlderGeneration(filePath);
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Unable to list " + folderPath, e);
+        }
+    }
+
+    private void deleteOlderGeneration(Path filePath) {
+        try {
+            Files.deleteIfExists(filePath);
+            logger.info("Deleted " + filePath);
+        } catch (IOException e) {
+            logger.log(Level.INFO, "Unable to delete " + filePath + " yet", e);
+        }
+    }
+
+    private Path getGenerationFolderPath(String filePathFormat) {
+        String userWorkingDirectory = System.getProperty(USER_BASE_DIRECTORY);
+        return Paths.get(userWorkingDirectory, filePathFormat).getParent();
+    }
+
+    /**
+     * Parses the generation out of the name of a file written under the specified file path format
+     *
+     * @param filePathFormat format of the file paths, with %d in place of the generation
+     * @param filePath path of a file in the folder of the file path format
+     * @return generation of the file, 0 if the file is not a generation of the file path format
+     */
+    private static int parseGeneration(String filePathFormat, Path filePath) {
+        String fileNameFormat = Paths.get(filePathFormat).getFileName().toString();
+        int generationStart = fileNameFormat.indexOf(GENERATION_PLACEHOLDER);
+        String prefix = fileNameFormat.substring(0, generationStart);
+        String suffix = fileNameFormat.substring(generationStart + GENERATION_PLACEHOLDER.length());
+        String fileName = filePath.getFileName().toString();
+        if (fileName.length() <= prefix.length() + suffix.length()
+                || !fileName.startsWith(prefix) || !fileName.endsWith(suffix)) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(fileName.substring(prefix.length(), fileName.length() - suffix.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private Path getTempFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Replaces the text file with the temporary file, atomically if the file system allows it
+     *
+     * @param tempFilePath path of the fully written temporary file
+     * @param textFilePath path of the text file to be replaced
+     * @throws IOException if the temporary file cannot be moved
+     */
+    private void replaceFile(Path tempFilePath, Path textFilePath) throws IOException {
+        try {
+            Files.move(tempFilePath, textFilePath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.info("Atomic move not supported, replacing " + textFilePath + " instead");
+            Files.move(tempFilePath, textFilePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Removes the temporary file left behind by a failed write, if any
+     *
+     * @param tempFilePath path of the temporary file, null if it was not created
+     */
+    private void deleteTempFile(Path tempFilePath) {
+        if (tempFilePath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFilePath);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Unable to delete " + tempFilePath, e);
+        }
+    }
+
+    /**
+     * Appends a text to the end of the text file at the specified file path.
+     * Existing text in the text file is left untouched.
+     *
+     * @param filePath file path of the text file.
+     * @param textToAppend text to be appended to the text file.
+     * @throws IOException if the text cannot be appended to the text file
+     */
+    public void appendToFile(String filePath, String textToAppend) throws IOException {
+        try {
+            checkFileExists(filePath);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        try (FileWriter fw = new FileWriter(filePath, true)) {
+            fw.write(textToAppend);
         }
+        //appended on every order, so only logged in detail
+        logger.fine(() -> "Appended " + textToAppend.length() + " characters to " + filePath);
     }
 }
@@ -5,4 +5,7 @@ public class FilePath {
     public static final String MENU_FILE_PATH = "data/menu.txt";
     public static final String PANTRY_STOCK_FILE_PATH = "data/pantry_stock.txt";
     public static final String ORDERS_FILE_PATH = "data/orders.txt";
+    public static final String ORDERS_JOURNAL_FILE_PATH = "data/orders_journal.txt";
+    public static final String ORDERS_SNAPSHOT_FILE_PATH_FORMAT = "data/orders_%d.bin";
+    public static final String ORDERS_ARCHIVE_FILE_PATH_FORMAT = "data/orders_week_%d.txt.gz";
 }
@@ -0,0 +1,29 @@
+package seedu.cafectrl.storage;
+
+/**
+ * Position in the order journal, given by the id of the journal and the number of records before the position.
+ * Every journal starts with a record of its id, so that a cleared journal is never mistaken for the one before it.
+ * orders.txt and the binary sales snapshot hold the position up to which the journal has been compacted into them,
+ * so the compacted records are not replayed again if the journal is not cleared after the save.
+ */
+public class JournalPosition {
+    private final long journalId;
+    private final int recordCount;
+
+    /**
+     * @param journalId id of the journal, 0 for a journal written without a record of its id
+     * @param recordCount number of records of the journal before the position
+     */
+    public JournalPosition(long journalId, int recordCount) {
+        this.journalId = journalId;
+        this.recordCount = recordCount;
+    }
+
+    public long getJournalId() {
+        return journalId;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.cafectrl.storage;
+
+import seedu.cafectrl.ui.BufferedUi;
+
+/**
+ * Data decoded from a save file, possibly off the main thread, held together with the messages about the save file
+ * until it is the save file's turn to be shown to the user
+ *
+ * @param <T> type of the data decoded from the save file
+ */
+public class LoadedFile<T> {
+    private final BufferedUi messages = new BufferedUi();
+    private final RecordChecksum checksum = new RecordChecksum();
+    private T data;
+    private RecordReader records;
+    private boolean isTampered = false;
+    private boolean isShown = false;
+
+    public T getData() {
+        return data;
+    }
+
+    public void setData(T data) {
+        this.data = data;
+    }
+
+    public BufferedUi getMessages() {
+        return messages;
+    }
+
+    public RecordChecksum getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Gets the records read from the text save file
+     *
+     * @return the records read, null if the data was not read from a text save file
+     */
+    public RecordReader getRecords() {
+        return records;
+    }
+
+    public void setRecords(RecordReader records) {
+        this.records = records;
+    }
+
+    public boolean isTampered() {
+        return isTampered;
+    }
+
+    public void setTampered() {
+        this.isTampered = true;
+    }
+
+    public boolean isShown() {
+        return isShown;
+    }
+
+    public void setShown() {
+        this.isShown = true;
+    }
+}
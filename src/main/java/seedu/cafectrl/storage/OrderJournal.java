@@ -0,0 +1,234 @@
+package seedu.cafectrl.storage;
+
+import seedu.cafectrl.CafeCtrl;
+import seedu.cafectrl.data.Order;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Write-ahead journal for orders.
+ * Every order is appended to orders_journal.txt as soon as it is processed, so saving an order only costs
+ * the order itself and a crash does not lose the orders made since orders.txt was last written.
+ * The journal is replayed on top of orders.txt on startup and is cleared whenever the orders are compacted
+ * into orders.txt. Every journal starts with a record of its id, and orders.txt records the position in the journal
+ * that it holds the orders up to, so a journal left behind by a crash right after a compaction is not replayed twice.
+ */
+public class OrderJournal {
+    private static final int COMPACTION_THRESHOLD = 1000;
+    private static final int NO_MARKED_DAY = -1;
+    private static final long NO_JOURNAL_ID = 0;
+    private static final Logger logger = Logger.getLogger(CafeCtrl.class.getName());
+    private final FileManager fileManager;
+    private long journalId = NO_JOURNAL_ID;
+    //true if there is no journal yet, so the first write starts the journal with the record of its id
+    private boolean isNewJournal = false;
+    private int recordCount = 0;
+    private int batchedRecordCount = 0;
+    private int lastMarkedDay = NO_MARKED_DAY;
+    //records held back until the batch is ended, null when records are appended as they come
+    private StringBuilder batchedRecords = null;
+
+    public OrderJournal(FileManager fileManager) {
+        this.fileManager = fileManager;
+    }
+
+    /**
+     * Appends the orders of a ticket to the journal in a single write.
+     *
+     * @param day index of the day the orders belong to
+     * @param ticket orders to be appended
+     * @throws IOException if the orders cannot be appended to the journal
+     */
+    public void appendOrders(int day, ArrayList<Order> ticket) throws IOException {
+        //a batch is logged once it is written instead
+        logger.fine(() -> "Journaling " + ticket.size() + " orders of day " + day + "...");
+        StringBuilder records = new StringBuilder();
+        for (Order order : ticket) {
+            records.append(Encoder.encodeOrder(day, order));
+        }
+        append(records.toString(), ticket.size());
+    }
+
+    /**
+     * Appends a record to the journal that accounts for a day without any orders,
+     * unless the day has already been accounted for by an earlier save
+     *
+     * @param day index of the day to be accounted for
+     * @throws IOException if the record cannot be appended to the journal
+     */
+    public void appendDayMarker(int day) throws IOException {
+        if (day == lastMarkedDay) {
+            return;
+        }
+        logger.info("Journaling empty day " + day + "...");
+        append(Encoder.encodeDayMarker(day), 1);
+        lastMarkedDay = day;
+    }
+
+    private synchronized void append(String records, int appendedRecordCount) throws IOException {
+        if (batchedRecords != null) {
+            batchedRecords.append(records);
+            batchedRecordCount += appendedRecordCount;
+        } else {
+            write(records);
+        }
+        recordCount += appendedRecordCount;
+    }
+
+    private void write(String records) throws IOException {
+        String recordsToWrite = records;
+        if (isNewJournal) {
+            recordsToWrite = Encoder.encodeJournalPosition(new JournalPosition(journalId, 0)) + records;
+        }
+        fileManager.appendToFile(FilePath.ORDERS_JOURNAL_FILE_PATH, recordsToWrite);
+        isNewJournal = false;
+    }
+
+    /**
+     * Holds back the records appended from now on until the batch is ended, so that a batch of records
+     * is written to the journal at once
+     */
+    public synchronized void startBatch() {
+        if (batchedRecords == null) {
+            batchedRecords = new StringBuilder();
+        }
+    }
+
+    /**
+     * Writes the records held back since the batch was started to the journal,
+     * and appends records as they come again
+     *
+     * @throws IOException if the records cannot be written, they are then held back until the batch is ended again
+     */
+    public synchronized void endBatch() throws IOException {
+        if (batchedRecords == null) {
+            return;
+        }
+        flushBatch();
+        batchedRecords = null;
+    }
+
+    /**
+     * Writes the records held back so far to the journal while the batch goes on,
+     * so that data saved on top of the orders, such as the pantry stock, is never saved ahead of them
+     *
+     * @throws IOException if the records cannot be written, they are then held back until the next write
+     */
+    public synchronized void flushBatch() throws IOException {
+        if (batchedRecords == null || batchedRecords.length() == 0) {
+            return;
+        }
+        logger.info("Journaling batch of " + batchedRecordCount + " records...");
+        write(batchedRecords.toString());
+        batchedRecords.setLength(0);
+        batchedRecordCount = 0;
+    }
+
+    /**
+     * Reads every record in the journal, in the order they were appended
+     *
+     * @return list of journal records in the orders.txt format, empty if there is no journal
+     */
+    public synchronized ArrayList<String> readRecords() {
+        try {
+            ArrayList<String> records = fileManager.readTextFile(FilePath.ORDERS_JOURNAL_FILE_PATH);
+            //journals of older versions do not start with the record of their id
+            if (!records.isEmpty() && Decoder.isJournalRecord(records.get(0))) {
+                journalId = decodeJournalId(records.remove(0));
+            }
+            recordCount = records.size();
+            logger.info("Replaying " + recordCount + " journal records...");
+            return records;
+        } catch (FileNotFoundException e) {
+            logger.info("No order journal found");
+            journalId = getNextJournalId();
+            isNewJournal = true;
+            recordCount = 0;
+            return new ArrayList<>();
+        }
+    }
+
+    private static long decodeJournalId(String journalRecord) {
+        try {
+            return Decoder.decodeJournalPosition(journalRecord).getJournalId();
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Journal id corrupted: " + e.getMessage(), e);
+            return NO_JOURNAL_ID;
+        }
+    }
+
+    /**
+     * Gives a new journal an id that no journal before it has had
+     *
+     * @return id of the new journal
+     */
+    private long getNextJournalId() {
+        return Math.max(System.currentTimeMillis(), journalId + 1);
+    }
+
+    /**
+     * Gets the position of the end of the journal, to be saved with the orders that the journal is compacted into.
+     * Records held back in a batch are not in the journal yet, so they are not before the position.
+     *
+     * @return position of the end of the journal
+     */
+    public synchronized JournalPosition getPosition() {
+        return new JournalPosition(journalId, recordCount - batchedRecordCount);
+    }
+
+    /**
+     * Skips the records read from the journal that the saved orders already hold.
+     * Compacted records are only left in the journal if it was not cleared after the orders were saved.
+     *
+     * @param records records read from the journal
+     * @param compactedPosition position up to which the journal was compacted into the saved orders,
+     *         null if the saved orders do not record one
+     * @return records of the journal after the compacted position
+     */
+    public synchronized List<String> skipCompactedRecords(List<String> records, JournalPosition compactedPosition) {
+        if (compactedPosition == null || compactedPosition.getJournalId() != journalId) {
+            return records;
+        }
+        int compactedRecordCount = Math.min(compactedPosition.getRecordCount(), records.size());
+        logger.info("Skipping " + compactedRecordCount + " journal records already in the saved orders...");
+        return records.subList(compactedRecordCount, records.size());
+    }
+
+    /**
+     * Checks whether the journal has grown large enough to be compacted into orders.txt.
+     * The journal is not compacted while a batch is in progress, so a long import compacts it once
+     * at the end instead of rewriting orders.txt after every few batches.
+     *
+     * @return true if the journal should be compacted, false otherwise
+     */
+    public synchronized boolean isCompactionDue() {
+        return batchedRecords == null && recordCount >= COMPACTION_THRESHOLD;
+    }
+
+    /**
+     * Removes every record from the journal, to be called once the records are saved in orders.txt.
+     * The cleared journal is given a new id, so the position saved in orders.txt does not apply to it.
+     *
+     * @throws IOException if the journal cannot be cleared, its records are then kept
+     */
+    public synchronized void clear() throws IOException {
+        logger.info("Clearing order journal...");
+        long clearedJournalId = getNextJournalId();
+        ArrayList<String> journalStart = new ArrayList<>();
+        journalStart.add(Encoder.encodeJournalPosition(new JournalPosition(clearedJournalId, 0)));
+        fileManager.overwriteFile(FilePath.ORDERS_JOURNAL_FILE_PATH, journalStart);
+        journalId = clearedJournalId;
+        isNewJournal = false;
+        //records held back in a batch are already in orders.txt as well
+        if (batchedRecords != null) {
+            batchedRecords.setLength(0);
+        }
+        batchedRecordCount = 0;
+        recordCount = 0;
+    }
+}
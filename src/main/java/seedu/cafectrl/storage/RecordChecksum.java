@@ -0,0 +1,102 @@
+package seedu.cafectrl.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * Running CRC32C checksum over the records of a save file.
+ * The checksum is updated one record at a time, so the save file never has to be held as a single string
+ * to be checked for tampering.
+ * The hash that older versions saved instead, the hashCode of the records joined by ", ", is kept up to date
+ * alongside, so save files from before the upgrade are not taken as tampered with.
+ */
+public class RecordChecksum {
+    private static final char LINE_BREAK = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final String CHECKSUM_REGEX = "^-?[0-9]+$";
+    private static final String ABNORMAL_CHECKSUM_REGEX = "^0{2,}$";
+    private static final String LEGACY_RECORD_DELIMITER = ", ";
+    private static final int HASH_MULTIPLIER = 31;
+    private final CRC32C crc = new CRC32C();
+    //String.hashCode of the records joined so far, the joined records were trimmed by older versions
+    private int legacyHash = 0;
+    private final StringBuilder trailingWhitespace = new StringBuilder();
+    private boolean isFirstRecord = true;
+    private boolean isLegacyHashStarted = false;
+
+    /**
+     * Adds a record to the checksum. Line breaks at the end of the record are ignored
+     * so that a record gives the same checksum when it is written and when it is read back.
+     *
+     * @param record record of the save file
+     */
+    public void update(String record) {
+        int end = record.length();
+        while (end > 0 && (record.charAt(end - 1) == LINE_BREAK || record.charAt(end - 1) == CARRIAGE_RETURN)) {
+            end--;
+        }
+        crc.update(record.substring(0, end).getBytes(StandardCharsets.UTF_8));
+        crc.update(LINE_BREAK);
+
+        if (!isFirstRecord) {
+            updateLegacyHash(LEGACY_RECORD_DELIMITER, LEGACY_RECORD_DELIMITER.length());
+        }
+        updateLegacyHash(record, end);
+        isFirstRecord = false;
+    }
+
+    /**
+     * Adds characters to the legacy hash as String.hashCode would, leaving out whitespace at the start
+     * and holding back whitespace at the end until a character after it shows it is not trimmed
+     *
+     * @param text text holding the characters
+     * @param end index after the last character to be added
+     */
+    private void updateLegacyHash(String text, int end) {
+        for (int i = 0; i < end; i++) {
+            char character = text.charAt(i);
+            //String.trim removes every character up to the space character
+            if (character <= ' ') {
+                if (isLegacyHashStarted) {
+                    trailingWhitespace.append(character);
+                }
+                continue;
+            }
+            for (int j = 0; j < trailingWhitespace.length(); j++) {
+                legacyHash = HASH_MULTIPLIER * legacyHash + trailingWhitespace.charAt(j);
+            }
+            trailingWhitespace.setLength(0);
+            legacyHash = HASH_MULTIPLIER * legacyHash + character;
+            isLegacyHashStarted = true;
+        }
+    }
+
+    /**
+     * Checks if a line of a save file is in the format of a checksum, or of the hash saved by older versions
+     *
+     * @param line line of the save file
+     * @return true if the line can be a checksum, false otherwise
+     */
+    public static boolean isChecksumLine(String line) {
+        return line.matches(CHECKSUM_REGEX) && !line.matches(ABNORMAL_CHECKSUM_REGEX);
+    }
+
+    public long getValue() {
+        return crc.getValue();
+    }
+
+    /**
+     * Checks if a hash saved by an older version matches the records, to be called once every record is added
+     *
+     * @param savedHash the hash saved as the last line of the save file
+     * @return true if the saved hash is the hash of the records, false otherwise
+     */
+    public boolean isLegacyHash(long savedHash) {
+        return savedHash == legacyHash;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(getValue());
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.cafectrl.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams the records of a text save file one line at a time, so a save file is decoded as it is read
+ * instead of being held in memory as a whole.
+ * The last line of a save file holds its checksum, so the reader always stays one line ahead
+ * and hands the last line out as the checksum line instead of as a record.
+ */
+public class RecordReader implements Iterable<String>, AutoCloseable {
+    private final BufferedReader reader;
+    private final RecordChecksum checksum;
+    private final boolean hasChecksumLine;
+    private String nextRecord;
+    private String checksumLine;
+    private boolean isEmpty;
+    private boolean isIterated = false;
+
+    /**
+     * @param reader reader of the text save file
+     * @param checksum checksum to be updated with every record read
+     * @param hasChecksumLine true if the last line of the file holds its checksum
+     */
+    public RecordReader(BufferedReader reader, RecordChecksum checksum, boolean hasChecksumLine) {
+        this.reader = reader;
+        this.checksum = checksum;
+        this.hasChecksumLine = hasChecksumLine;
+        this.nextRecord = readLine();
+        this.isEmpty = nextRecord == null;
+    }
+
+    public boolean isEmpty() {
+        return isEmpty;
+    }
+
+    /**
+     * Returns the last line of the file if it looks like a checksum,
+     * only known once every record has been read
+     *
+     * @return the checksum line, null if the file has no proper checksum line
+     */
+    public String getChecksumLine() {
+        return checksumLine;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        if (isIterated) {
+            throw new IllegalStateException("Records of a save file can only be read once");
+        }
+        isIterated = true;
+        return new Iterator<>() {
+            private String followingLine;
+            private boolean isFollowingLineRead = false;
+
+            @Override
+            public boolean hasNext() {
+                if (nextRecord == null || !hasChecksumLine) {
+                    return nextRecord != null;
+                }
+                if (!isFollowingLineRead) {
+                    followingLine = readLine();
+                    isFollowingLineRead = true;
+                }
+                //a last line that does not look like a checksum is left to be decoded as a record
+                if (followingLine == null && RecordChecksum.isChecksumLine(nextRecord)) {
+                    checksumLine = nextRecord;
+                    nextRecord = null;
+                }
+                return nextRecord != null;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String record = nextRecord;
+                checksum.update(record);
+                nextRecord = hasChecksumLine ? followingLine : readLine();
+                isFollowingLineRead = false;
+                return record;
+            }
+        };
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.cafectrl.storage;
+
+import seedu.cafectrl.CafeCtrl;
+import seedu.cafectrl.data.Menu;
+import seedu.cafectrl.data.Sales;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Archive of the orders of closed weeks, so orders.txt only holds the orders of the weeks still open.
+ * Once every day of a week has passed, its orders are frozen into a GZIP compressed segment that is written
+ * once and never rewritten, in the same format as orders.txt.
+ * orders.txt is written after the segments and starts with a record of the segments in the archive,
+ * so a segment written right before a crash is only part of the archive once orders.txt records it.
+ * Orders added to an archived day afterwards are saved in orders.txt, after the orders in the archive.
+ */
+public class SalesArchive {
+    public static final int DAYS_PER_SEGMENT = 7;
+    private static final Logger logger = Logger.getLogger(CafeCtrl.class.getName());
+    private final FileManager fileManager;
+    //number of orders of every archived day in its segment, as recorded in orders.txt
+    private final ArrayList<Integer> segmentOrderCounts = new ArrayList<>();
+    //number of orders of every archived day in Sales that came from its segment
+    private final ArrayList<Integer> archivedOrderCounts = new ArrayList<>();
+    private int segmentCount = 0;
+
+    public SalesArchive(FileManager fileManager) {
+        this.fileManager = fileManager;
+    }
+
+    private static String getSegmentFilePath(int segment) {
+        //weeks are numbered from 1 like days
+        return String.format(FilePath.ORDERS_ARCHIVE_FILE_PATH_FORMAT, segment + Sales.DAY_DISPLAY_OFFSET);
+    }
+
+    /**
+     * Decodes every segment recorded in orders.txt, ignoring segments beyond them.
+     * A recorded segment that is missing or cannot be read marks the orders as tampered, but keeps its place
+     * in the archive so that it is never written over.
+     * orders.txt saved without an archive record is taken to record every segment up to the first missing one.
+     *
+     * @param menu Menu instance to retrieve Dish objects based on dishName.
+     * @param ordersFile the loaded file of the orders, marked as tampered if a segment has been tampered with
+     * @param sales the Sales object that every archived day is decoded into, for orders.txt to be decoded on top of
+     * @param archiveRecord the archive record at the start of orders.txt, null if orders.txt has none
+     */
+    public void load(Menu menu, LoadedFile<Sales> ordersFile, Sales sales, String archiveRecord) {
+        ArrayList<Integer> recordedOrderCounts = null;
+        if (archiveRecord != null) {
+            try {
+                recordedOrderCounts = Decoder.decodeArchiveRecord(archiveRecord, DAYS_PER_SEGMENT);
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "Archive record corrupted!\n" + e.getMessage(), e);
+                ordersFile.setTampered();
+            }
+        }
+
+        if (recordedOrderCounts != null) {
+            segmentCount = recordedOrderCounts.size() / DAYS_PER_SEGMENT;
+            for (int segment = 0; segment < segmentCount; segment++) {
+                if (!loadSegment(segment, menu, ordersFile, sales)) {
+                    ordersFile.setTampered();
+                }
+            }
+        } else {
+            while (loadSegment(segmentCount, menu, ordersFile, sales)
+                    || fileManager.isFileFound(getSegmentFilePath(segmentCount))) {
+                segmentCount++;
+            }
+        }
+        logger.info("Loaded " + segmentCount + " segments of the sales archive");
+
+        //days at the end of an archived week may have no orders
+        if (segmentCount > 0) {
+            sales.accountForDay(segmentCount * DAYS_PER_SEGMENT - 1);
+        }
+        for (int day = 0; day < segmentCount * DAYS_PER_SEGMENT; day++) {
+            archivedOrderCounts.add(sales.getOrderCount(day));
+        }
+        if (recordedOrderCounts == null) {
+            segmentOrderCounts.addAll(archivedOrderCounts);
+        } else {
+            segmentOrderCounts.addAll(recordedOrderCounts);
+            if (!segmentOrderCounts.equals(archivedOrderCounts)) {
+                ordersFile.setTampered();
+            }
+        }
+    }
+
+    /**
+     * Decodes a segment of the archive into Sales
+     *
+     * @param segment index of the segment
+     * @param menu Menu instance to retrieve Dish objects based on dishName.
+     * @param ordersFile the loaded file of the orders, marked as tampered if the segment has been tampered with
+     * @param sales the Sales object that the days of the segment are decoded into
+     * @return true if the segment is decoded, false if it is missing or cannot be read
+     */
+    private boolean loadSegment(int segment, Menu menu, LoadedFile<Sales> ordersFile, Sales sales) {
+        String segmentFilePath = getSegmentFilePath(segment);
+        RecordChecksum checksum = new RecordChecksum();
+        try (RecordReader records = fileManager.readCompressedRecords(segmentFilePath, checksum)) {
+            Decoder.decodeSales(records, menu, sales, ordersFile.getMessages());
+            if (!checksum.toString().equals(records.getChecksumLine())) {
+                ordersFile.setTampered();
+            }
+            return true;
+        } catch (FileNotFoundException e) {
+            logger.info(segmentFilePath + " not found");
+            return false;
+        } catch (IOException | UncheckedIOException e) {
+            logger.log(Level.WARNING, segmentFilePath + " cannot be read!\n" + e.getMessage(), e);
+            ordersFile.setTampered();
+            return false;
+        }
+    }
+
+    /**
+     * Freezes every week that has passed since the last archived week into a segment of the archive.
+     * Segments already recorded in orders.txt are never written again. A segment beyond them can only be left
+     * by a crash before orders.txt recorded it, so its week is still in orders.txt and the segment is replaced.
+     *
+     * @param sales The Sales object containing the orders of the current session
+     * @throws IOException if a segment cannot be written, the week is then left in orders.txt
+     */
+    public void archiveClosedWeeks(Sales sales) throws IOException {
+        //every day before the last day accounted for is closed
+        while ((segmentCount + 1) * DAYS_PER_SEGMENT <= sales.getDaysAccounted()) {
+            int firstDay = segmentCount * DAYS_PER_SEGMENT;
+            int endDay = firstDay + DAYS_PER_SEGMENT;
+            logger.info("Archiving days " + firstDay + " to " + (endDay - 1) + "...");
+            fileManager.writeCompressedFile(getSegmentFilePath(segmentCount),
+                    Encoder.encodeSalesSegment(sales, firstDay, endDay));
+            for (int day = firstDay; day < endDay; day++) {
+                segmentOrderCounts.add(sales.getOrderCount(day));
+                archivedOrderCounts.add(sales.getOrderCount(day));
+            }
+            segmentCount++;
+        }
+    }
+
+    /**
+     * Encodes the record of the segments in the archive, to be saved at the start of orders.txt
+     *
+     * @return the encoded archive record
+     */
+    public String encodeArchiveRecord() {
+        return Encoder.encodeArchiveRecord(segmentCount, segmentOrderCounts);
+    }
+
+    /**
+     * Gets the number of orders of a day in Sales that came from the archive, the orders after them are saved
+     * in orders.txt. A day of a segment that cannot be read has none of its archived orders in Sales.
+     *
+     * @param day index of the day
+     * @return number of orders of the day from the archive, 0 if the day has not been archived
+     */
+    public int getArchivedOrderCount(int day) {
+        return day < archivedOrderCounts.size() ? archivedOrderCounts.get(day) : 0;
+    }
+}
@@ -0,0 +1,355 @@
+package seedu.cafectrl.storage;
+
+import seedu.cafectrl.CafeCtrl;
+import seedu.cafectrl.data.Order;
+import seedu.cafectrl.data.OrderList;
+import seedu.cafectrl.data.OrderListLoader;
+import seedu.cafectrl.data.Sales;
+import seedu.cafectrl.data.dish.Dish;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+/**
+ * Encodes Sales into a binary snapshot, an alternative to orders.txt for large sales histories.
+ * The orders of each day are stored in columns: a dictionary of the dishes ordered that day with their price
+ * in cents, the dish id and quantity of every order, and a bitset of their complete status.
+ * Each column is written and read with a single bulk buffer copy instead of a text line per order.
+ * An index at the start of the snapshot holds the offset and checksum of every day, so an opened snapshot
+ * only decodes a day when its orders are needed. The header before the index holds the position in the order
+ * journal that the snapshot holds the orders up to.
+ */
+public class SalesSnapshot implements OrderListLoader {
+    private static final int MAGIC_NUMBER = 0x43414653;
+    private static final int FORMAT_VERSION = 3;
+    private static final int LEGACY_FORMAT_VERSION = 2;
+    private static final int DAY_COUNT_POSITION = 2 * Integer.BYTES;
+    private static final int JOURNAL_ID_POSITION = 3 * Integer.BYTES;
+    private static final int JOURNAL_RECORD_COUNT_POSITION = JOURNAL_ID_POSITION + Long.BYTES;
+    private static final int HEADER_SIZE = JOURNAL_RECORD_COUNT_POSITION + Integer.BYTES;
+    private static final int LEGACY_HEADER_SIZE = JOURNAL_ID_POSITION;
+    private static final int CHECKSUM_SIZE = Long.BYTES;
+    private static final int INDEX_ENTRY_SIZE = 2 * Long.BYTES;
+    private static final String DICTIONARY_KEY_DIVIDER = " | ";
+    private static final Logger logger = Logger.getLogger(CafeCtrl.class.getName());
+    private final ByteBuffer buffer;
+    private final long[] dayOffsets;
+    private final long[] dayChecksums;
+    private final JournalPosition journalPosition;
+
+    private SalesSnapshot(ByteBuffer buffer, long[] dayOffsets, long[] dayChecksums,
+            JournalPosition journalPosition) {
+        this.buffer = buffer;
+        this.dayOffsets = dayOffsets;
+        this.dayChecksums = dayChecksums;
+        this.journalPosition = journalPosition;
+    }
+
+    /**
+     * Encodes a Sales object into a binary snapshot
+     *
+     * @param sales The Sales object to be encoded
+     * @param journalPosition The position in the order journal that the orders in Sales are compacted up to
+     * @return buffer holding the snapshot, ready to be written
+     */
+    public static ByteBuffer encodeSales(Sales sales, JournalPosition journalPosition) {
+        return encodeSales(sales, journalPosition, null);
+    }
+
+    /**
+     * Encodes a Sales object opened from a previous snapshot into a new binary snapshot.
+     * Days that have not been loaded from the previous snapshot cannot have changed, so their bytes are copied
+     * over with their checksum instead of being decoded and encoded again.
+     *
+     * @param sales The Sales object to be encoded
+     * @param journalPosition The position in the order journal that the orders in Sales are compacted up to
+     * @param previousSnapshot The snapshot that the days of Sales are loaded from, null if there is none
+     * @return buffer holding the snapshot, ready to be written
+     */
+    public static ByteBuffer encodeSales(Sales sales, JournalPosition journalPosition,
+            SalesSnapshot previousSnapshot) {
+        logger.info("Encoding Sales to orders.bin...");
+        int dayCount = sales.getDayCount();
+        ArrayList<EncodedDay> days = new ArrayList<>();
+        int indexEnd = HEADER_SIZE + dayCount * INDEX_ENTRY_SIZE;
+        int snapshotSize = indexEnd + CHECKSUM_SIZE;
+        int copiedDayCount = 0;
+        for (int day = 0; day < dayCount; day++) {
+            EncodedDay encodedDay;
+            if (previousSnapshot != null && day < previousSnapshot.getDayCount() && !sales.isOrderListLoaded(day)) {
+                encodedDay = previousSnapshot.copyDay(day);
+                copiedDayCount++;
+            } else {
+                encodedDay = new DayColumns(sales.findOrderList(day));
+            }
+            days.add(encodedDay);
+            snapshotSize += encodedDay.getEncodedSize();
+        }
+        logger.info("Copying " + copiedDayCount + " unloaded days from the previous snapshot...");
+
+        ByteBuffer buffer = ByteBuffer.allocate(snapshotSize);
+        buffer.putInt(MAGIC_NUMBER);
+        buffer.putInt(FORMAT_VERSION);
+        buffer.putInt(dayCount);
+        buffer.putLong(journalPosition.getJournalId());
+        buffer.putInt(journalPosition.getRecordCount());
+        buffer.position(indexEnd + CHECKSUM_SIZE);
+        for (int day = 0; day < dayCount; day++) {
+            int dayStart = buffer.position();
+            long dayChecksum = days.get(day).writeTo(buffer);
+            int indexEntryPosition = HEADER_SIZE + day * INDEX_ENTRY_SIZE;
+            buffer.putLong(indexEntryPosition, dayStart);
+            buffer.putLong(indexEntryPosition + Long.BYTES, dayChecksum);
+        }
+        buffer.putLong(indexEnd, computeChecksum(buffer, 0, indexEnd));
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Opens a binary snapshot by reading its index only, the days are decoded when they are loaded.
+     * Snapshots of the previous format, without a journal position, can still be opened.
+     *
+     * @param buffer buffer holding the snapshot, usually mapped from orders.bin
+     * @return the opened snapshot
+     * @throws IllegalStateException if the snapshot is not in the expected format
+     *         or its index has been tampered with
+     */
+    public static SalesSnapshot open(ByteBuffer buffer) {
+        logger.info("Opening orders.bin...");
+        if (buffer.limit() < LEGACY_HEADER_SIZE + CHECKSUM_SIZE || buffer.getInt(0) != MAGIC_NUMBER) {
+            throw new IllegalStateException("Unknown sales snapshot format");
+        }
+        int formatVersion = buffer.getInt(Integer.BYTES);
+        boolean isLegacyFormat = formatVersion == LEGACY_FORMAT_VERSION;
+        if (formatVersion != FORMAT_VERSION && !isLegacyFormat) {
+            throw new IllegalStateException("Unknown sales snapshot format");
+        }
+        int headerSize = isLegacyFormat ? LEGACY_HEADER_SIZE : HEADER_SIZE;
+
+        int dayCount = buffer.getInt(DAY_COUNT_POSITION);
+        long indexEnd = headerSize + (long) dayCount * INDEX_ENTRY_SIZE;
+        if (dayCount < 0 || indexEnd + CHECKSUM_SIZE > buffer.limit()
+                || buffer.getLong((int) indexEnd) != computeChecksum(buffer, 0, (int) indexEnd)) {
+            throw new IllegalStateException("Index of sales snapshot has been tampered with");
+        }
+
+        long[] dayOffsets = new long[dayCount];
+        long[] dayChecksums = new long[dayCount];
+        long previousDayEnd = indexEnd + CHECKSUM_SIZE;
+        for (int day = 0; day < dayCount; day++) {
+            int indexEntryPosition = headerSize + day * INDEX_ENTRY_SIZE;
+            dayOffsets[day] = buffer.getLong(indexEntryPosition);
+            dayChecksums[day] = buffer.getLong(indexEntryPosition + Long.BYTES);
+            if (dayOffsets[day] < previousDayEnd || dayOffsets[day] > buffer.limit()) {
+                throw new IllegalStateException("Index of sales snapshot has been tampered with");
+            }
+            previousDayEnd = dayOffsets[day];
+        }
+        JournalPosition journalPosition = isLegacyFormat ? null : new JournalPosition(
+                buffer.getLong(JOURNAL_ID_POSITION), buffer.getInt(JOURNAL_RECORD_COUNT_POSITION));
+        return new SalesSnapshot(buffer, dayOffsets, dayChecksums, journalPosition);
+    }
+
+    public int getDayCount() {
+        return dayOffsets.length;
+    }
+
+    /**
+     * Gets the position in the order journal that the snapshot holds the orders up to
+     *
+     * @return the journal position, null if the snapshot was saved without one
+     */
+    public JournalPosition getJournalPosition() {
+        return journalPosition;
+    }
+
+    /**
+     * Decodes the order list of a day in the snapshot
+     *
+     * @param day index of the day
+     * @return order list of the day
+     * @throws IllegalStateException if the orders of the day have been tampered with
+     */
+    @Override
+    public OrderList loadOrderList(int day) {
+        logger.info("Decoding day " + day + " of orders.bin...");
+        int dayStart = (int) dayOffsets[day];
+        int dayEnd = getDayEnd(day);
+        if (computeChecksum(buffer, dayStart, dayEnd) != dayChecksums[day]) {
+            throw new IllegalStateException("Checksum of day " + day + " in sales snapshot does not match");
+        }
+
+        ByteBuffer dayBuffer = buffer.duplicate().limit(dayEnd).position(dayStart);
+        OrderList orderList = decodeDay(dayBuffer);
+        if (dayBuffer.hasRemaining()) {
+            throw new IllegalStateException("Unexpected data at the end of day " + day + " in sales snapshot");
+        }
+        return orderList;
+    }
+
+    private int getDayEnd(int day) {
+        return day + 1 < dayOffsets.length ? (int) dayOffsets[day + 1] : buffer.limit();
+    }
+
+    private CopiedDay copyDay(int day) {
+        ByteBuffer dayBytes = buffer.duplicate().limit(getDayEnd(day)).position((int) dayOffsets[day]);
+        return new CopiedDay(dayBytes, dayChecksums[day]);
+    }
+
+    private static OrderList decodeDay(ByteBuffer buffer) {
+        Dish[] dishes = new Dish[buffer.getInt()];
+        for (int dishId = 0; dishId < dishes.length; dishId++) {
+            byte[] name = new byte[buffer.getInt()];
+            buffer.get(name);
+            long priceInCents = buffer.getInt();
+            dishes[dishId] = new Dish(new String(name, StandardCharsets.UTF_8), priceInCents);
+        }
+
+        int orderCount = buffer.getInt();
+        int[] dishIds = getInts(buffer, orderCount);
+        int[] quantities = getInts(buffer, orderCount);
+        long[] statusWords = new long[buffer.getInt()];
+        buffer.asLongBuffer().get(statusWords);
+        buffer.position(buffer.position() + statusWords.length * Long.BYTES);
+        BitSet completeStatus = BitSet.valueOf(statusWords);
+
+        OrderList orderList = new OrderList();
+        for (int i = 0; i < orderCount; i++) {
+            Dish dish = dishes[dishIds[i]];
+            long totalOrderCostInCents = quantities[i] * dish.getPriceInCents();
+            orderList.addOrder(new Order(dish, quantities[i], totalOrderCostInCents, completeStatus.get(i)));
+        }
+        return orderList;
+    }
+
+    private static int[] getInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+
+    private static void putInts(ByteBuffer buffer, int[] values) {
+        buffer.asIntBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+    }
+
+    private static long computeChecksum(ByteBuffer buffer, int start, int end) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.duplicate().limit(end).position(start));
+        return checksum.getValue();
+    }
+
+    /**
+     * Orders of a single day, ready to be written into a snapshot
+     */
+    private interface EncodedDay {
+        int getEncodedSize();
+
+        /**
+         * Writes the orders of the day into the snapshot at the position of the buffer
+         *
+         * @param buffer buffer holding the snapshot
+         * @return checksum of the written day
+         */
+        long writeTo(ByteBuffer buffer);
+    }
+
+    /**
+     * Bytes of a day in a previous snapshot, copied into a new snapshot as they are.
+     * A day that has been tampered with keeps its checksum, so it is still found out once it is loaded.
+     */
+    private static class CopiedDay implements EncodedDay {
+        private final ByteBuffer dayBytes;
+        private final long dayChecksum;
+
+        private CopiedDay(ByteBuffer dayBytes, long dayChecksum) {
+            this.dayBytes = dayBytes;
+            this.dayChecksum = dayChecksum;
+        }
+
+        @Override
+        public int getEncodedSize() {
+            return dayBytes.remaining();
+        }
+
+        @Override
+        public long writeTo(ByteBuffer buffer) {
+            buffer.put(dayBytes.duplicate());
+            return dayChecksum;
+        }
+    }
+
+    /**
+     * Columns of the orders of a single day, ready to be written into a snapshot
+     */
+    private static class DayColumns implements EncodedDay {
+        private final ArrayList<byte[]> dishNames = new ArrayList<>();
+        private final ArrayList<Integer> dishPrices = new ArrayList<>();
+        private final int[] dishIds;
+        private final int[] quantities;
+        private final long[] statusWords;
+
+        private DayColumns(OrderList orderList) {
+            //a day without an order list has no orders
+            ArrayList<Order> orders = orderList == null ? new ArrayList<>() : orderList.getOrderList();
+            HashMap<String, Integer> dishDictionary = new HashMap<>();
+            BitSet completeStatus = new BitSet(orders.size());
+            dishIds = new int[orders.size()];
+            quantities = new int[orders.size()];
+
+            for (int i = 0; i < orders.size(); i++) {
+                Order order = orders.get(i);
+                //prices are at most 1000000.00, so the cents of a price fit in an int
+                int priceInCents = Math.toIntExact(order.getOrderedDish().getPriceInCents());
+                String dishKey = order.getDishName() + DICTIONARY_KEY_DIVIDER + priceInCents;
+                Integer dishId = dishDictionary.get(dishKey);
+                if (dishId == null) {
+                    dishId = dishNames.size();
+                    dishDictionary.put(dishKey, dishId);
+                    dishNames.add(order.getDishName().getBytes(StandardCharsets.UTF_8));
+                    dishPrices.add(priceInCents);
+                }
+                dishIds[i] = dishId;
+                quantities[i] = order.getQuantity();
+                completeStatus.set(i, order.getIsComplete());
+            }
+            statusWords = completeStatus.toLongArray();
+        }
+
+        @Override
+        public int getEncodedSize() {
+            int size = Integer.BYTES;
+            for (byte[] dishName : dishNames) {
+                size += Integer.BYTES + dishName.length + Integer.BYTES;
+            }
+            size += Integer.BYTES + (dishIds.length + quantities.length) * Integer.BYTES;
+            size += Integer.BYTES + statusWords.length * Long.BYTES;
+            return size;
+        }
+
+        @Override
+        public long writeTo(ByteBuffer buffer) {
+            int dayStart = buffer.position();
+            buffer.putInt(dishNames.size());
+            for (int dishId = 0; dishId < dishNames.size(); dishId++) {
+                buffer.putInt(dishNames.get(dishId).length);
+                buffer.put(dishNames.get(dishId));
+                buffer.putInt(dishPrices.get(dishId));
+            }
+            buffer.putInt(dishIds.length);
+            putInts(buffer, dishIds);
+            putInts(buffer, quantities);
+            buffer.putInt(statusWords.length);
+            buffer.asLongBuffer().put(statusWords);
+            buffer.position(buffer.position() + statusWords.length * Long.BYTES);
+            return computeChecksum(buffer, dayStart, buffer.position());
+        }
+    }
+}
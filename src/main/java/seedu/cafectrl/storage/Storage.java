@@ -2,6 +2,7 @@ package seedu.cafectrl.storage;
 
 import seedu.cafectrl.CafeCtrl;
 import seedu.cafectrl.data.Menu;
+import seedu.cafectrl.data.OrderList;
 import seedu.cafectrl.data.Pantry;
 import seedu.cafectrl.data.Sales;
 import seedu.cafectrl.ui.ErrorMessages;
@@ -10,23 +11,28 @@ import seedu.cafectrl.ui.Ui;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 //@@author ziyi105
 /**
  * Handles loading and saving data for menu, orderList, pantryStock
  */
 public class Storage {
-    private static final int INDEX_OFFSET_VALUE = 1;
-    private static final String HASH_REGEX_1 = "^[0-9]+$";
-    private static final String HASH_REGEX_2 = "^-[0-9]+$";
-    private static final String HASH_REGEX_3 = "^0{2,}$";
-    private static final String ENCODE_DELIMITER = ", ";
 
     private static final Logger logger = Logger.getLogger(CafeCtrl.class.getName());
     protected FileManager fileManager;
+    protected OrderJournal orderJournal;
+    protected SalesArchive salesArchive;
+    //snapshot that the unloaded days of the sales are in, null if the sales were not loaded from a snapshot
+    private SalesSnapshot salesSnapshot;
     protected Ui ui;
     private final boolean isHashingEnabled = true;
     private boolean isMenuTampered = false;
@@ -37,42 +43,38 @@ public class Storage {
 
     public Storage (Ui ui) {
         this.fileManager = new FileManager(ui);
+        this.orderJournal = new OrderJournal(fileManager);
+        this.salesArchive = new SalesArchive(fileManager);
         this.ui = ui;
     }
 
-    //@@author Cazh1
-    private boolean isFileEmpty(ArrayList<String> encodedStringArrayList) {
-        return encodedStringArrayList.isEmpty();
+    public OrderJournal getOrderJournal() {
+        return orderJournal;
     }
 
+    //@@author Cazh1
     /**
-     * Boolean to detect if the text save file has been tampered with
+     * Boolean to detect if the text save file has been tampered with, to be called once all its records are read
      *
-     * @param encodedStringArrayList The arraylist of string read from text save file
+     * @param records The records read from text save file
+     * @param checksum The checksum of the save file content, computed as the file was read
      * @return true is the file's hash is not normal or does not match the newly generated hash, false otherwise
      */
-    private boolean isFileCorrupted(ArrayList<String> encodedStringArrayList) {
-        //Hash string is stored as last in the ArrayList
-        int lastIndex = encodedStringArrayList.size() - INDEX_OFFSET_VALUE;
-        String hashString = encodedStringArrayList.get(lastIndex);
+    private boolean isFileCorrupted(RecordReader records, RecordChecksum checksum) {
+        //Hash string is stored as last line of the file
+        String hashString = records.getChecksumLine();
 
         //Checks if the saved Hash is abnormal
-        if (((!hashString.matches(HASH_REGEX_1)) && (!hashString.matches(HASH_REGEX_2))) ||
-                hashString.matches(HASH_REGEX_3)) {
+        if (hashString == null) {
             return true;
         }
 
         try {
-            int fileHash = Integer.parseInt(hashString);
-            //Removes the saved Hash String for decoding
-            encodedStringArrayList.remove(lastIndex);
-
-            //Prepares String in same format as when encoding, generates Hash from the save file content
-            String encodedMenuAsString = String.join(ENCODE_DELIMITER, encodedStringArrayList).trim();
-            int encodedMenuHash = encodedMenuAsString.hashCode();
+            long fileHash = Long.parseLong(hashString);
 
-            //Checks if the generated Hash matches the saved Hash
-            if (encodedMenuHash != fileHash) {
+            //Checks if the checksum of the save file content matches the saved Hash,
+            //save files of older versions are saved with a hash instead and are checked against it until resaved
+            if (checksum.getValue() != fileHash && !checksum.isLegacyHash(fileHash)) {
                 return true;
             }
         } catch (Exception e) {
@@ -114,30 +116,57 @@ public class Storage {
         ui.showToUser("");
     }
 
+    /**
+     * Checks if a loaded save file has been tampered with.
+     * To be called on the main thread, in the order the save files are shown, as it updates the tamper flags.
+     *
+     * @param loadedFile the loaded save file
+     * @return true if the save file has been tampered with, false otherwise
+     */
+    private boolean isLoadedFileTampered(LoadedFile<?> loadedFile) {
+        RecordReader records = loadedFile.getRecords();
+        boolean isTextFileCorrupted = records != null && !records.isEmpty()
+                && isFileCorrupted(records, loadedFile.getChecksum());
+        return (loadedFile.isTampered() || isTextFileCorrupted) && isHashingEnabled;
+    }
+
     //@@author ShaniceTang
     /**
-     * Loads menu data from a text file, decodes it, and returns it as a Menu object.
+     * Reads menu data from a text file and decodes it into a Menu object.
+     * Nothing is shown to the user yet, so this can be done off the main thread.
      *
-     * @return A Menu object containing data from the file.
+     * @return The decoded Menu object, with the messages to be shown about the file.
      */
-    public Menu loadMenu() {
+    public LoadedFile<Menu> decodeMenuFile() {
         logger.info("Loading menu...");
-        try {
-            ArrayList<String> encodedMenu = fileManager.readTextFile(FilePath.MENU_FILE_PATH);
-            if (!isFileEmpty(encodedMenu) && isFileCorrupted(encodedMenu) && isHashingEnabled) {
-                isMenuTampered = true;
-                logger.log(Level.INFO, "Tampered Menu file");
-                detectTamper();
-            }
-            return Decoder.decodeMenuData(encodedMenu);
+        LoadedFile<Menu> menuFile = new LoadedFile<>();
+        try (RecordReader encodedMenu = fileManager.readRecords(FilePath.MENU_FILE_PATH, menuFile.getChecksum())) {
+            menuFile.setRecords(encodedMenu);
+            menuFile.setData(Decoder.decodeMenuData(encodedMenu, menuFile.getMessages()));
         } catch (FileNotFoundException e) {
             logger.log(Level.WARNING, "menu.txt not found!\n" + e.getMessage(), e);
-            ui.showToUser(ErrorMessages.MENU_FILE_NOT_FOUND_MESSAGE, System.lineSeparator());
-            return new Menu();
-        } finally {
-            ui.showToUser(Messages.DONE_LOADING_MENU);
-            ui.printLine();
+            menuFile.getMessages().showToUser(ErrorMessages.MENU_FILE_NOT_FOUND_MESSAGE, System.lineSeparator());
+            menuFile.setData(new Menu());
         }
+        return menuFile;
+    }
+
+    /**
+     * Shows the user the messages about the decoded menu data and whether it has been tampered with.
+     *
+     * @param menuFile The decoded menu data.
+     * @return A Menu object containing data from the file.
+     */
+    public Menu showLoadedMenu(LoadedFile<Menu> menuFile) {
+        menuFile.getMessages().showBufferedMessages(ui);
+        if (isLoadedFileTampered(menuFile)) {
+            isMenuTampered = true;
+            logger.log(Level.INFO, "Tampered Menu file");
+            detectTamper();
+        }
+        ui.showToUser(Messages.DONE_LOADING_MENU);
+        ui.printLine();
+        return menuFile.getData();
     }
 
     /**
@@ -146,33 +175,48 @@ public class Storage {
      * @param menu The Menu object to be saved to the file.
      * @throws IOException if the file is not found in the specified file path.
      */
-    private void saveMenu(Menu menu) throws IOException {
+    void saveMenu(Menu menu) throws IOException {
         logger.info("Saving menu...");
         fileManager.overwriteFile(FilePath.MENU_FILE_PATH, Encoder.encodeMenu(menu));
     }
 
     //@@author ziyi105
     /**
-     * Read and decode pantryStock data from text file and pass it to the menu
+     * Read and decode pantryStock data from text file.
+     * Nothing is shown to the user yet, so this can be done off the main thread.
      *
-     * @return pantryStock with data from the file
+     * @return pantryStock with data from the file, with the messages to be shown about the file
      */
-    public Pantry loadPantryStock() {
-        try {
-            ArrayList<String> encodedPantryStock = fileManager.readTextFile(FilePath.PANTRY_STOCK_FILE_PATH);
-            if (!isFileEmpty(encodedPantryStock) && isFileCorrupted(encodedPantryStock) && isHashingEnabled) {
-                isPantryStockTampered = true;
-                logger.log(Level.INFO, "Tampered Pantry Stock file");
-                detectTamper();
-            }
-            return Decoder.decodePantryStockData(encodedPantryStock);
+    public LoadedFile<Pantry> decodePantryStockFile() {
+        logger.info("Loading pantry stock...");
+        LoadedFile<Pantry> pantryFile = new LoadedFile<>();
+        try (RecordReader encodedPantryStock = fileManager.readRecords(FilePath.PANTRY_STOCK_FILE_PATH,
+                pantryFile.getChecksum())) {
+            pantryFile.setRecords(encodedPantryStock);
+            pantryFile.setData(Decoder.decodePantryStockData(encodedPantryStock, pantryFile.getMessages()));
         } catch (FileNotFoundException e) {
-            ui.showToUser(ErrorMessages.PANTRY_FILE_NOT_FOUND_MESSAGE, System.lineSeparator());
-            return new Pantry(ui);
-        } finally {
-            ui.showToUser(Messages.DONE_LOADING_PANTRY_STOCK);
-            ui.printLine();
+            pantryFile.getMessages().showToUser(ErrorMessages.PANTRY_FILE_NOT_FOUND_MESSAGE, System.lineSeparator());
+            pantryFile.setData(new Pantry(ui));
         }
+        return pantryFile;
+    }
+
+    /**
+     * Shows the user the messages about the decoded pantryStock data and whether it has been tampered with
+     *
+     * @param pantryFile the decoded pantryStock data
+     * @return pantryStock with data from the file
+     */
+    public Pantry showLoadedPantryStock(LoadedFile<Pantry> pantryFile) {
+        pantryFile.getMessages().showBufferedMessages(ui);
+        if (isLoadedFileTampered(pantryFile)) {
+            isPantryStockTampered = true;
+            logger.log(Level.INFO, "Tampered Pantry Stock file");
+            detectTamper();
+        }
+        ui.showToUser(Messages.DONE_LOADING_PANTRY_STOCK);
+        ui.printLine();
+        return pantryFile.getData();
     }
 
     /**
@@ -181,45 +225,258 @@ public class Storage {
      * @param pantry pantry from current session
      * @throws IOException if the file is not found in the specified file path
      */
-    private void savePantryStock(Pantry pantry) throws IOException {
+    void savePantryStock(Pantry pantry) throws IOException {
         fileManager.overwriteFile(FilePath.PANTRY_STOCK_FILE_PATH, Encoder.encodePantryStock(pantry));
     }
 
     //@@author NaychiMin
     /**
-     * Loads order lists from a text file, decodes it, and returns it as a Sales object.
+     * Reads order lists from the binary snapshot if it is enabled, or from a text file otherwise,
+     * and decodes them with the order journal replayed on top into a Sales object.
+     * Nothing is shown to the user yet, so this can be done off the main thread.
+     * The menu is only waited for when the orders are about to be decoded.
      *
-     * @return An OrderList object containing data from the file.
+     * @param menu Menu instance to retrieve Dish objects based on dishName, once it is loaded.
+     * @return The decoded Sales object, with the messages to be shown about the file.
      */
-    public Sales loadOrderList(Menu menu) {
+    public LoadedFile<Sales> decodeOrderListFile(CompletableFuture<Menu> menu) {
         logger.info("Loading orders...");
+        LoadedFile<Sales> ordersFile = new LoadedFile<>();
+        //orders made after the orders were last saved are only found in the journal
+        ArrayList<String> journalRecords = orderJournal.readRecords();
+        if (StorageConfig.isBinarySalesEnabled()) {
+            try {
+                int generation = fileManager.findLatestGeneration(FilePath.ORDERS_SNAPSHOT_FILE_PATH_FORMAT);
+                if (generation > 0) {
+                    ByteBuffer snapshotBuffer = fileManager.mapBinaryFile(
+                            String.format(FilePath.ORDERS_SNAPSHOT_FILE_PATH_FORMAT, generation));
+                    ordersFile.setData(decodeSalesSnapshot(snapshotBuffer, menu.join(), journalRecords, ordersFile));
+                    return ordersFile;
+                }
+                logger.info("Sales snapshot not found, loading orders.txt instead");
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Sales snapshot cannot be read!\n" + e.getMessage(), e);
+                ordersFile.getMessages().showToUser(e.getMessage());
+                ordersFile.setData(Decoder.decodeSales(journalRecords, menu.join(), ordersFile.getMessages()));
+                return ordersFile;
+            }
+        }
+        decodeOrdersTextFile(menu, journalRecords, ordersFile);
+        return ordersFile;
+    }
+
+    /**
+     * Shows the user the messages about the decoded order lists and whether they have been tampered with.
+     *
+     * @param ordersFile The decoded order lists.
+     * @return Sales object containing data from the file.
+     */
+    public Sales showLoadedOrderList(LoadedFile<Sales> ordersFile) {
+        ordersFile.getMessages().showBufferedMessages(ui);
+        if (isLoadedFileTampered(ordersFile)) {
+            isOrdersTampered = true;
+            logger.log(Level.INFO, "Tampered Order file");
+            detectTamper();
+        }
+        ui.showToUser(Messages.DONE_LOADING_SALES);
+        ui.printLine();
+        ordersFile.setShown();
+        return ordersFile.getData();
+    }
+
+    /**
+     * Decodes order lists from the segments of the sales archive recorded at the start of orders.txt,
+     * then from orders.txt and the records of the order journal that are not in orders.txt yet
+     *
+     * @param menu Menu instance to retrieve Dish objects based on dishName, once it is loaded.
+     * @param journalRecords records of the order journal
+     * @param ordersFile the loaded file that the decoded Sales object is held in
+     */
+    private void decodeOrdersTextFile(CompletableFuture<Menu> menu, ArrayList<String> journalRecords,
+            LoadedFile<Sales> ordersFile) {
+        Sales sales = new Sales();
+        try (RecordReader encodedOrderList = fileManager.readRecords(FilePath.ORDERS_FILE_PATH,
+                ordersFile.getChecksum())) {
+            ordersFile.setRecords(encodedOrderList);
+            //the first records tell which segments of the archive to decode before the orders in orders.txt,
+            //and which records of the journal are already in orders.txt
+            Iterator<String> orderRecords = encodedOrderList.iterator();
+            ArrayList<String> firstRecords = new ArrayList<>();
+            String archiveRecord = null;
+            String journalRecord = null;
+            while (orderRecords.hasNext() && journalRecord == null) {
+                String record = orderRecords.next();
+                firstRecords.add(record);
+                if (Decoder.isArchiveRecord(record)) {
+                    archiveRecord = record;
+                } else if (Decoder.isJournalRecord(record)) {
+                    journalRecord = record;
+                } else {
+                    break;
+                }
+            }
+            salesArchive.load(menu.join(), ordersFile, sales, archiveRecord);
+
+            List<String> uncompactedRecords = orderJournal.skipCompactedRecords(journalRecords,
+                    decodeCompactedPosition(journalRecord, ordersFile));
+            Iterable<String> salesRecords = joinRecords(joinRecords(firstRecords, () -> orderRecords),
+                    uncompactedRecords);
+            ordersFile.setData(Decoder.decodeSales(salesRecords, menu.join(), sales, ordersFile.getMessages()));
+        } catch (FileNotFoundException e) {
+            logger.log(Level.WARNING, "orders.txt not found!\n" + e.getMessage(), e);
+            salesArchive.load(menu.join(), ordersFile, sales, null);
+            if (journalRecords.isEmpty() && sales.getDaysAccounted() == 0 && sales.isOrderListsEmpty()) {
+                ordersFile.getMessages().showToUser(ErrorMessages.ORDER_LIST_FILE_NOT_FOUND_MESSAGE,
+                        System.lineSeparator());
+            }
+            ordersFile.setData(Decoder.decodeSales(journalRecords, menu.join(), sales, ordersFile.getMessages()));
+        }
+    }
+
+    /**
+     * Decodes the position in the order journal that orders.txt holds the orders up to
+     *
+     * @param journalRecord the journal record of orders.txt, null if orders.txt has none
+     * @param ordersFile the loaded file of the orders, marked as tampered if the record is invalid
+     * @return the decoded journal position, null if there is none
+     */
+    private JournalPosition decodeCompactedPosition(String journalRecord, LoadedFile<Sales> ordersFile) {
+        if (journalRecord == null) {
+            return null;
+        }
+        try {
+            return Decoder.decodeJournalPosition(journalRecord);
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Journal record corrupted!\n" + e.getMessage(), e);
+            ordersFile.setTampered();
+            return null;
+        }
+    }
+
+    /**
+     * Opens the binary sales snapshot and decodes the records of the order journal that are not in it yet.
+     * Only the index of the snapshot is read, each past day is decoded the first time it is needed.
+     *
+     * @param snapshotBuffer buffer mapped to the latest generation of the snapshot
+     * @param menu Menu instance to retrieve Dish objects based on dishName.
+     * @param journalRecords records of the order journal
+     * @param ordersFile the loaded file that the decoded Sales object is held in
+     * @return Sales object containing the orders from the snapshot and the journal
+     */
+    private Sales decodeSalesSnapshot(ByteBuffer snapshotBuffer, Menu menu, List<String> journalRecords,
+            LoadedFile<Sales> ordersFile) {
+        SalesSnapshot snapshot;
+        try {
+            snapshot = SalesSnapshot.open(snapshotBuffer);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Sales snapshot corrupted!\n" + e.getMessage(), e);
+            ordersFile.setTampered();
+            return Decoder.decodeSales(journalRecords, menu, ordersFile.getMessages());
+        }
+        //every save writes a new generation of the snapshot, so the mapped file is never replaced while in use
+        salesSnapshot = snapshot;
+        Sales sales = new Sales(snapshot.getDayCount(), day -> loadSalesSnapshotDay(snapshot, day, ordersFile));
+        List<String> uncompactedRecords = orderJournal.skipCompactedRecords(journalRecords,
+                snapshot.getJournalPosition());
+        return Decoder.decodeSales(uncompactedRecords, menu, sales, ordersFile.getMessages());
+    }
+
+    /**
+     * Decodes a day from the binary sales snapshot when it is needed
+     *
+     * @param snapshot the opened binary sales snapshot
+     * @param day index of the day
+     * @param ordersFile the loaded file that the Sales object is held in
+     * @return order list of the day, empty if the day has been tampered with
+     */
+    private OrderList loadSalesSnapshotDay(SalesSnapshot snapshot, int day, LoadedFile<Sales> ordersFile) {
         try {
-            ArrayList<String> encodedOrderList = fileManager.readTextFile(FilePath.ORDERS_FILE_PATH);
-            if (!isFileEmpty(encodedOrderList) && isFileCorrupted(encodedOrderList) && isHashingEnabled) {
+            return snapshot.loadOrderList(day);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Sales snapshot corrupted!\n" + e.getMessage(), e);
+            //a day loaded while the orders are being decoded is shown together with the rest of the file
+            if (!ordersFile.isShown()) {
+                ordersFile.setTampered();
+            } else {
                 isOrdersTampered = true;
-                logger.log(Level.INFO, "Tampered Order file");
                 detectTamper();
             }
-            return Decoder.decodeSales(encodedOrderList, menu);
-        } catch (FileNotFoundException e) {
-            logger.log(Level.WARNING, "orders.txt not found!\n" + e.getMessage(), e);
-            ui.showToUser(ErrorMessages.ORDER_LIST_FILE_NOT_FOUND_MESSAGE, System.lineSeparator());
-            return new Sales();
-        } finally {
-            ui.showToUser(Messages.DONE_LOADING_SALES);
-            ui.printLine();
+            return new OrderList();
         }
     }
 
     /**
-     * Encodes the provided OrderList data from Sales object and writes it to a text file
+     * Joins the records of two sources so that they can be decoded as one, in order
+     *
+     * @param firstRecords records to be decoded first
+     * @param secondRecords records to be decoded after the first records
+     * @return records of both sources, read lazily
+     */
+    private static Iterable<String> joinRecords(Iterable<String> firstRecords, Iterable<String> secondRecords) {
+        return () -> Stream.concat(StreamSupport.stream(firstRecords.spliterator(), false),
+                StreamSupport.stream(secondRecords.spliterator(), false)).iterator();
+    }
+
+    /**
+     * Encodes the provided OrderList data from Sales object and writes it to a text file,
+     * or to a new generation of the binary sales snapshot if it is enabled.
+     * The snapshot may still be mapped into memory, so it is written under a new file path rather than
+     * replaced, and older generations are deleted once the journal is cleared. Days never loaded from the mapped
+     * snapshot are copied into the new generation as they are.
+     * Weeks that have passed are frozen into the sales archive first, so the text file only holds the orders
+     * that are not archived yet.
+     * The order journal is only cleared once all of its orders are in the saved file,
+     * so the journal is kept if the file cannot be written. The saved file records the end of the journal,
+     * so the journal is not replayed on top of it if the journal cannot be cleared afterwards.
      *
      * @param sales The Sales object containing the order to be saved to the file.
-     * @throws IOException if the file is not found in the specified file path.
+     * @throws IOException if the file cannot be written or the journal cannot be cleared.
      */
     private void saveOrderList(Sales sales) throws IOException {
         logger.info("Saving orders...");
-        fileManager.overwriteFile(FilePath.ORDERS_FILE_PATH, Encoder.encodeSales(sales));
+        JournalPosition journalPosition = orderJournal.getPosition();
+        if (StorageConfig.isBinarySalesEnabled()) {
+            int generation = fileManager.findLatestGeneration(FilePath.ORDERS_SNAPSHOT_FILE_PATH_FORMAT) + 1;
+            fileManager.overwriteFile(String.format(FilePath.ORDERS_SNAPSHOT_FILE_PATH_FORMAT, generation),
+                    SalesSnapshot.encodeSales(sales, journalPosition, salesSnapshot));
+            orderJournal.clear();
+            fileManager.deleteOlderGenerations(FilePath.ORDERS_SNAPSHOT_FILE_PATH_FORMAT, generation);
+            return;
+        }
+        salesArchive.archiveClosedWeeks(sales);
+        fileManager.overwriteFile(FilePath.ORDERS_FILE_PATH, Encoder.encodeSales(sales,
+                salesArchive::getArchivedOrderCount, salesArchive.encodeArchiveRecord(),
+                Encoder.encodeJournalPosition(journalPosition)));
+        orderJournal.clear();
+    }
+
+    /**
+     * Compacts the order journal into orders.txt once the journal has grown too large
+     *
+     * @param sales The Sales object containing the orders of the current session
+     * @throws IOException if the orders cannot be saved, the journal is then compacted on a later call
+     */
+    public void compactOrderJournalIfDue(Sales sales) throws IOException {
+        if (!orderJournal.isCompactionDue()) {
+            return;
+        }
+        logger.info("Compacting order journal...");
+        saveOrderList(sales);
+    }
+
+    /**
+     * Saves the days accounted for in Sales to the order journal.
+     * Orders are already in the journal, so only a day without any orders needs to be recorded.
+     *
+     * @param sales The Sales object containing the orders of the current session
+     * @throws IOException if the journal cannot be written or compacted
+     */
+    void saveOrderJournal(Sales sales) throws IOException {
+        int lastDay = sales.getDaysAccounted();
+        if (sales.getOrderCount(lastDay) == 0) {
+            orderJournal.appendDayMarker(lastDay);
+        }
+        compactOrderJournalIfDue(sales);
     }
 
     //@@author ziyi105
@@ -233,7 +490,7 @@ public class Storage {
     public void saveAll(Menu menu, Sales sales, Pantry pantry) {
         try {
             saveMenu(menu);
-            saveOrderList(sales);
+            saveOrderJournal(sales);
             savePantryStock(pantry);
         } catch (IOException e) {
             logger.log(Level.WARNING, "Saving unsuccessful!\n" + e.getMessage(), e);
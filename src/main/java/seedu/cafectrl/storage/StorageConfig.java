@@ -0,0 +1,41 @@
+package seedu.cafectrl.storage;
+
+/**
+ * Settings that choose how the data files are stored, read from system properties
+ * e.g. java -Dcafectrl.binarySales=true -Dcafectrl.autosaveIntervalSeconds=30 -jar CafeCtrl.jar
+ */
+public class StorageConfig {
+    public static final String BINARY_SALES_PROPERTY = "cafectrl.binarySales";
+    public static final String AUTOSAVE_INTERVAL_PROPERTY = "cafectrl.autosaveIntervalSeconds";
+    public static final String AUTOSAVE_COMMAND_COUNT_PROPERTY = "cafectrl.autosaveCommandCount";
+    private static final int DEFAULT_AUTOSAVE_INTERVAL_SECONDS = 60;
+    private static final int DEFAULT_AUTOSAVE_COMMAND_COUNT = 10;
+
+    /**
+     * Checks if sales are to be saved in the binary snapshot orders_<generation>.bin instead of orders.txt
+     *
+     * @return true if the binary snapshot is enabled, false otherwise
+     */
+    public static boolean isBinarySalesEnabled() {
+        return Boolean.getBoolean(BINARY_SALES_PROPERTY);
+    }
+
+    /**
+     * Gets how often modified data is saved in the background, 0 or less turns off saving on an interval
+     *
+     * @return number of seconds between autosaves
+     */
+    public static int getAutosaveIntervalSeconds() {
+        return Integer.getInteger(AUTOSAVE_INTERVAL_PROPERTY, DEFAULT_AUTOSAVE_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Gets how many commands are executed before modified data is saved in the background,
+     * 0 or less turns off saving after a number of commands
+     *
+     * @return number of commands between autosaves
+     */
+    public static int getAutosaveCommandCount() {
+        return Integer.getInteger(AUTOSAVE_COMMAND_COUNT_PROPERTY, DEFAULT_AUTOSAVE_COMMAND_COUNT);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.cafectrl.ui;
+
+import java.util.ArrayList;
+
+/**
+ * Ui that holds on to the messages shown to it until they are passed on to another Ui,
+ * so that messages produced off the main thread are still shown to the user in order.
+ */
+public class BufferedUi extends Ui {
+    private final ArrayList<String[]> bufferedMessages = new ArrayList<>();
+
+    @Override
+    public void showToUser(String... message) {
+        bufferedMessages.add(message);
+    }
+
+    /**
+     * Shows every message held so far to the user through the given Ui, in the order they were shown
+     *
+     * @param ui Ui that shows the messages to the user
+     */
+    public void showBufferedMessages(Ui ui) {
+        for (String[] message : bufferedMessages) {
+            ui.showToUser(message);
+        }
+        bufferedMessages.clear();
+    }
+}
@@ -43,10 +43,14 @@ public class ErrorMessages {
             + "Special characters such as $ are not allowed!";
     public static final String UNKNOWN_COMMAND_MESSAGE = "Error: Unknown command. "
             + "Type 'help' to view the accepted list of commands";
+    public static final String SUGGESTED_COMMAND_MESSAGE = "\nDid you mean: ";
     public static final String INVALID_DISH_INDEX = "Do we even have this dish? "
             + "Double check the index of the dish you wanna modify!";
     public static final String INVALID_ADD_ORDER_FORMAT_MESSAGE = "Error: Incorrect format "
             + "for the add order command.";
+    public static final String INVALID_ADD_ORDERS_FORMAT_MESSAGE = "Error: Incorrect format "
+            + "for the add orders command.\n";
+    public static final String INVALID_ORDER_IN_TICKET = "Error in order ";
     public static final String DATA_FOLDER_NOT_FOUND_MESSAGE = "Data Folder was not found!\nIt's ok... "
             + "a new data folder has been created.";
     public static final String DISH_NOT_FOUND = "I'm sorry, but it appears that dish is so exclusive "
@@ -91,7 +95,6 @@ public class ErrorMessages {
             + "I have poor memory and am unable to remember names with special characters, could you remove them?";
     public static final String REPEATED_INGREDIENT_NAME = "Error: there's a repeat in ingredient name "
             + "for the add command input";
-    public static final String NULL_STRING_IN_REPEAT_ARGUMENT = "Null string detected in isRepeatedArgument function";
     public static final String INVALID_SALES_DATA = "orders.txt: Invalid format, this order will be removed -> ";
     public static final String INVALID_ORDER_STATUS = "orders.txt: Invalid status, this order will be removed -> ";
     public static final String INVALID_ORDER_QTY = "orders.txt: Invalid quantity (order quantity has to be more than 0)"
@@ -110,4 +113,9 @@ public class ErrorMessages {
     public static final String MISSING_ORDER_QTY = "Seems like you forgot to add the order quantity";
     public static final String INVALID_INT_ORDER_QTY = "Order quantity is invalid! "
             + "(order quantity has to be between 1 - 10000)";
+    public static final String INVALID_IMPORT_RECORD = "Invalid import record! Each record needs a type, "
+            + "a name and a quantity";
+    public static final String UNKNOWN_IMPORT_RECORD_TYPE = "Unknown import record type: ";
+    public static final String MISSING_IMPORT_FILE = "Please give the file to import, e.g. --import orders.csv";
+    public static final String IMPORT_FILE_NOT_READ = "Unable to read the import file: ";
 }
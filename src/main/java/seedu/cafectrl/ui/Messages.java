@@ -91,7 +91,8 @@ public class Messages {
     public static final String SAVE_FILE_FORMAT_MENU = "Format for Menu.txt: \n"
             + "{Dish Name} | {Dish Price} | {Ingredient Name} - {Ingredient Qty} - {Ingredient Unit} |";
     public static final String SAVE_FILE_FORMAT_ORDERS = "Format for Orders.txt: \n"
-            + "{Order Day} | {Dish Name} | {Dish Order Qty} | {Dish Price} | {Order Complete Status}";
+            + "dish | {Dish Id} | {Dish Name} | {Dish Price}\n"
+            + "{Order Day} | {Dish Id} | {Dish Order Qty} | {Order Complete Status}";
     public static final String SAVE_FILE_FORMAT_PANTRY_STOCK = "Format for Pantry_stock.txt: \n"
             + "{Ingredient Name} | {Ingredient Qty} | {Ingredient Unit}";
 
@@ -105,4 +106,13 @@ public class Messages {
 
     /** Messages for buy ingredients command */
     public static final String BUY_INGREDIENT_HEADER = "Added to stock:";
+
+    /** Messages for importing records */
+    public static final String IMPORT_STARTED = "Importing records from ";
+    public static final String IMPORT_SUMMARY = "Imported %d of %d records in %.2f s (%.0f records/s)";
+    public static final String IMPORT_REJECTED_RECORDS = "Rejected %d records:";
+    public static final String IMPORT_REJECTED_RECORD = "Line %d: %s";
+    public static final String IMPORT_MORE_REJECTED_RECORDS = "...and %d more, see cafeCtrl.log";
+    public static final String IMPORT_INCOMPLETE_ORDERS = "%d imported orders could not be completed "
+            + "with the ingredients in stock, please restock ingredients :)";
 }
@@ -2,6 +2,7 @@ package seedu.cafectrl.ui;
 
 import seedu.cafectrl.command.AddDishCommand;
 import seedu.cafectrl.command.AddOrderCommand;
+import seedu.cafectrl.command.AddOrdersCommand;
 import seedu.cafectrl.command.BuyIngredientCommand;
 import seedu.cafectrl.command.DeleteDishCommand;
 import seedu.cafectrl.command.EditPriceCommand;
@@ -17,6 +18,8 @@ import seedu.cafectrl.command.ViewTotalStockCommand;
 import seedu.cafectrl.data.dish.Dish;
 import seedu.cafectrl.data.dish.Ingredient;
 
+import java.io.OutputStream;
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Scanner;
 
@@ -26,13 +29,32 @@ public class Ui {
     public static final String DOLLAR_SIGH_STRING = " $";
     public static final String DISH_LEFT_ALIGN_FORMAT = "|%-55s|";
     public static final String USER_INPUT_CHARACTER = "> ";
+    private static final PrintStream QUIET_OUTPUT = new PrintStream(OutputStream.nullOutputStream());
     private final Scanner scanner;
+    private final boolean isQuiet;
 
     /**
      * Constructs a UI instance with a Scanner for user input.
      */
     public Ui() {
+        this(false);
+    }
+
+    /**
+     * Constructs a UI instance with a Scanner for user input, that discards every message shown to it if quiet.
+     *
+     * @param isQuiet true if messages are not to be shown to the user, false otherwise
+     */
+    public Ui(boolean isQuiet) {
         scanner = new Scanner(System.in);
+        this.isQuiet = isQuiet;
+    }
+
+    /**
+     * Returns the stream messages are printed to, read on every call so that a replaced System.out is used
+     */
+    private PrintStream getOutput() {
+        return isQuiet ? QUIET_OUTPUT : System.out;
     }
 
     public void printLine() {
@@ -40,7 +62,7 @@ public class Ui {
     }
 
     public String receiveUserInput() {
-        System.out.print(USER_INPUT_CHARACTER);
+        getOutput().print(USER_INPUT_CHARACTER);
         return scanner.nextLine();
     }
 
@@ -120,7 +142,7 @@ public class Ui {
      */
     public void showToUser(String... message) {
         for (String m: message) {
-            System.out.println(m);
+            getOutput().println(m);
         }
     }
 
@@ -132,7 +154,7 @@ public class Ui {
      */
     public void formatListMenu(String dishName, String dishPrice) {
         String leftAlignFormat = "| %-38s | %-12s |%n";
-        System.out.format(leftAlignFormat, dishName, dishPrice);
+        getOutput().format(leftAlignFormat, dishName, dishPrice);
     }
 
     /**
@@ -159,6 +181,7 @@ public class Ui {
         usagesTexts.add(BuyIngredientCommand.MESSAGE_USAGE);
         usagesTexts.add(ViewTotalStockCommand.MESSAGE_USAGE);
         usagesTexts.add(AddOrderCommand.MESSAGE_USAGE);
+        usagesTexts.add(AddOrdersCommand.MESSAGE_USAGE);
         usagesTexts.add(ListTotalSalesCommand.MESSAGE_USAGE);
         usagesTexts.add(ListSaleByDayCommand.MESSAGE_USAGE);
         usagesTexts.add(NextDayCommand.MESSAGE_USAGE);
@@ -171,14 +194,14 @@ public class Ui {
 
     public void showToUserWithSpaceBetweenLines(String... message) {
         for (String m: message) {
-            System.out.println(m + "\n");
+            getOutput().println(m + "\n");
         }
     }
 
     public void showToUserWithSpaceBetweenLines(ArrayList<String> message) {
         for (String m: message) {
-            System.out.println(m);
-            System.out.println(Messages.LINE_STRING);
+            getOutput().println(m);
+            getOutput().println(Messages.LINE_STRING);
         }
     }
 
@@ -188,7 +211,7 @@ public class Ui {
 
     public void showNeededRestock(String ingredientName, int currentQuantity, String unit, int neededIngredient) {
         String rowFormat = "| %-38s | %-12s | %-12s |%n";
-        System.out.format(rowFormat, ingredientName, currentQuantity + unit, neededIngredient + unit);
+        getOutput().format(rowFormat, ingredientName, currentQuantity + unit, neededIngredient + unit);
         showToUser(Messages.RESTOCK_END_CAP);
     }
 
@@ -236,7 +259,7 @@ public class Ui {
 
     public void formatListIngredient(String ingredientName, String ingredientAmount) {
         String leftAlignFormat = "| %-38s | %-12s |%n";
-        System.out.format(leftAlignFormat, ingredientName, ingredientAmount);
+        getOutput().format(leftAlignFormat, ingredientName, ingredientAmount);
     }
 
     public void showSalesTop(int day) {
@@ -252,11 +275,11 @@ public class Ui {
 
     public void formatShowSales(String dishName, int dishQty, String dishPrice) {
         String leftAlignFormat = "| %-38s | %-12s | %-17s |%n";
-        System.out.format(leftAlignFormat, dishName, dishQty, dishPrice);
+        getOutput().format(leftAlignFormat, dishName, dishQty, dishPrice);
     }
     public void showSalesCost(String front, String back) {
         String leftAlignFormat = "| %-53s | %-17s |%n";
-        System.out.format(leftAlignFormat, front, back);
+        getOutput().format(leftAlignFormat, front, back);
     }
 
     public void showChefMessage() {
@@ -293,4 +316,47 @@ public class Ui {
     public void showNextDay() {
         showToUser(Messages.NEXT_DAY_COMMAND_MESSAGE);
     }
+
+    /**
+     * Shows how many records of an import file were imported, and how fast they were imported
+     *
+     * @param importedCount number of records imported
+     * @param recordCount number of records in the import file
+     * @param elapsedNanos time taken to import the records, in nanoseconds
+     */
+    public void showImportSummary(int importedCount, int recordCount, long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1e9;
+        double recordsPerSecond = elapsedSeconds > 0 ? recordCount / elapsedSeconds : recordCount;
+        showToUser(String.format(Messages.IMPORT_SUMMARY, importedCount, recordCount, elapsedSeconds,
+                recordsPerSecond));
+    }
+
+    /**
+     * Shows the records of an import file that were rejected, only the first few of them are listed
+     *
+     * @param rejectedCount number of records rejected
+     * @param listedRejects reasons of the first records rejected
+     */
+    public void showRejectedRecords(int rejectedCount, ArrayList<String> listedRejects) {
+        if (rejectedCount == 0) {
+            return;
+        }
+        showToUser(String.format(Messages.IMPORT_REJECTED_RECORDS, rejectedCount));
+        showToUser(listedRejects.toArray(new String[0]));
+        if (rejectedCount > listedRejects.size()) {
+            showToUser(String.format(Messages.IMPORT_MORE_REJECTED_RECORDS,
+                    rejectedCount - listedRejects.size()));
+        }
+    }
+
+    /**
+     * Shows the number of imported orders that could not be completed with the ingredients in stock
+     *
+     * @param incompleteOrderCount number of incomplete orders
+     */
+    public void showIncompleteImportedOrders(int incompleteOrderCount) {
+        if (incompleteOrderCount > 0) {
+            showToUser(String.format(Messages.IMPORT_INCOMPLETE_ORDERS, incompleteOrderCount));
+        }
+    }
 }
@@ -18,7 +18,7 @@ class AddDishCommandTest {
         Menu menu = new Menu(menuItems);
         //creating a dish
         ingredients.add(new Ingredient("chicken", 100, "g"));
-        Dish dish = new Dish("Chicken Rice", ingredients, (float) 1.00);
+        Dish dish = new Dish("Chicken Rice", ingredients, 100);
         Ui ui = new Ui();
 
         AddDishCommand addDishCommand = new AddDishCommand(dish, menu, ui);
@@ -28,8 +28,8 @@ class AddOrderCommandTest {
         ingredients2.add(new Ingredient("rice", 50, "g"));
 
         ArrayList<Dish> menuItems = new ArrayList<>();
-        Dish dishChickenRice = new Dish("chicken rice", ingredients, 2.50F);
-        Dish dishChickenCurry = new Dish("chicken curry", ingredients2, 4.30F);
+        Dish dishChickenRice = new Dish("chicken rice", ingredients, 250);
+        Dish dishChickenCurry = new Dish("chicken curry", ingredients2, 430);
         menuItems.add(dishChickenRice);
         menuItems.add(dishChickenCurry);
         Menu menu = new Menu(menuItems);
@@ -88,8 +88,8 @@ class AddOrderCommandTest {
         ingredients2.add(new Ingredient("rice", 50, "g"));
 
         ArrayList<Dish> menuItems = new ArrayList<>();
-        Dish dishChickenRice = new Dish("Chicken Rice", ingredients, 2.50F);
-        Dish dishChickenCurry = new Dish("Chicken Curry", ingredients2, 4.30F);
+        Dish dishChickenRice = new Dish("Chicken Rice", ingredients, 250);
+        Dish dishChickenCurry = new Dish("Chicken Curry", ingredients2, 430);
         menuItems.add(dishChickenRice);
         menuItems.add(dishChickenCurry);
         Menu menu = new Menu(menuItems);
@@ -0,0 +1,129 @@
+package seedu.cafectrl.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.cafectrl.data.Menu;
+import seedu.cafectrl.data.Order;
+import seedu.cafectrl.data.OrderList;
+import seedu.cafectrl.data.Pantry;
+import seedu.cafectrl.data.Sales;
+import seedu.cafectrl.data.dish.Dish;
+import seedu.cafectrl.data.dish.Ingredient;
+import seedu.cafectrl.ui.Messages;
+import seedu.cafectrl.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AddOrdersCommandTest {
+    @Test
+    public void execute_ticketShortOfSharedIngredient_expectOneRestockSummary() {
+        ArrayList<Ingredient> ingredients = new ArrayList<>();
+        ingredients.add(new Ingredient("chicken", 100, "g"));
+        ingredients.add(new Ingredient("rice", 50, "g"));
+
+        ArrayList<Ingredient> ingredients2 = new ArrayList<>();
+        ingredients2.add(new Ingredient("chicken", 200, "g"));
+        ingredients2.add(new Ingredient("rice", 50, "g"));
+
+        ArrayList<Dish> menuItems = new ArrayList<>();
+        Dish dishChickenRice = new Dish("chicken rice", ingredients, 250);
+        Dish dishChickenCurry = new Dish("chicken curry", ingredients2, 430);
+        menuItems.add(dishChickenRice);
+        menuItems.add(dishChickenCurry);
+        Menu menu = new Menu(menuItems);
+
+        ArrayList<Order> ticket = new ArrayList<>();
+        ticket.add(new Order(dishChickenRice, 2));
+        ticket.add(new Order(dishChickenCurry, 3));
+
+        Ui ui = new Ui();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PrintStream consoleStream = new PrintStream(baos);
+
+        PrintStream originalOut = System.out;
+        System.setOut(consoleStream);
+
+        //each order can be made on its own, but the ticket needs 800g of chicken
+        ArrayList<Ingredient> pantryStock = new ArrayList<>();
+        pantryStock.add(new Ingredient("chicken", 700, "g"));
+        pantryStock.add(new Ingredient("rice", 1000, "g"));
+        Pantry pantry = new Pantry(ui, pantryStock);
+
+        OrderList orderList = new OrderList();
+
+        Command addOrdersCommand = new AddOrdersCommand(ticket, ui, pantry, new Sales(orderList), menu, 0, null);
+        addOrdersCommand.execute();
+
+        String actualOutput = baos.toString().trim();
+        System.setOut(originalOut);
+
+        String expectedOutput = Messages.CHEF_MESSAGE
+                + Messages.RESTOCK_CORNER
+                + Messages.RESTOCK_TITLE
+                + Messages.RESTOCK_CORNER
+                + "| chicken                                | 700g         | 800g         |"
+                + Messages.RESTOCK_END_CAP
+                + Messages.INCOMPLETE_ORDER;
+
+        String normalizedExpected = expectedOutput.toLowerCase().replaceAll("\\s+", "").trim();
+        String normalizedActual = actualOutput.toLowerCase().replaceAll("\\s+", "").trim();
+
+        assertEquals(normalizedExpected, normalizedActual);
+        assertEquals(2, orderList.getSize());
+        assertEquals(700, pantry.getPantryStock().get(0).getQty());
+    }
+
+    @Test
+    public void execute_ticketInStock_expectOneOrderStatus() {
+        ArrayList<Ingredient> ingredients = new ArrayList<>();
+        ingredients.add(new Ingredient("chicken", 100, "g"));
+        ingredients.add(new Ingredient("rice", 50, "g"));
+
+        ArrayList<Dish> menuItems = new ArrayList<>();
+        Dish dishChickenRice = new Dish("chicken rice", ingredients, 250);
+        menuItems.add(dishChickenRice);
+        Menu menu = new Menu(menuItems);
+
+        ArrayList<Order> ticket = new ArrayList<>();
+        ticket.add(new Order(dishChickenRice, 2));
+        ticket.add(new Order(dishChickenRice, 1));
+
+        Ui ui = new Ui();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PrintStream consoleStream = new PrintStream(baos);
+
+        PrintStream originalOut = System.out;
+        System.setOut(consoleStream);
+
+        ArrayList<Ingredient> pantryStock = new ArrayList<>();
+        pantryStock.add(new Ingredient("chicken", 1000, "g"));
+        pantryStock.add(new Ingredient("rice", 1000, "g"));
+        Pantry pantry = new Pantry(ui, pantryStock);
+
+        OrderList orderList = new OrderList();
+
+        Command addOrdersCommand = new AddOrdersCommand(ticket, ui, pantry, new Sales(orderList), menu, 0, null);
+        addOrdersCommand.execute();
+
+        String actualOutput = baos.toString().trim();
+        System.setOut(originalOut);
+
+        String expectedOutput = Messages.CHEF_MESSAGE
+                + Messages.LINE_STRING
+                + Messages.COMPLETE_ORDER
+                + "Total order cost: $7.50"
+                + Messages.LINE_STRING
+                + Messages.AVAILABLE_DISHES
+                + Messages.EQUAL_LINE_STRING
+                + "Dish: chicken rice"
+                + "Available quantity: 7";
+
+        String normalizedExpected = expectedOutput.toLowerCase().replaceAll("\\s+", "").trim();
+        String normalizedActual = actualOutput.toLowerCase().replaceAll("\\s+", "").trim();
+
+        assertEquals(normalizedExpected, normalizedActual);
+    }
+}
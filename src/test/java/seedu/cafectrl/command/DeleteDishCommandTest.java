@@ -16,9 +16,9 @@ class DeleteDishCommandTest {
     @Test
     void execute_validInput() {
         Menu menu = new Menu();
-        menu.addDish(new Dish("Chicken Rice", 2.50F));
-        menu.addDish(new Dish("Chicken Curry", 4.30F));
-        menu.addDish(new Dish("Nasi Lemak", 5.60F));
+        menu.addDish(new Dish("Chicken Rice", 250));
+        menu.addDish(new Dish("Chicken Curry", 430));
+        menu.addDish(new Dish("Nasi Lemak", 560));
 
         ArrayList<String> actualOutput = new ArrayList<>();
         Ui ui = new Ui() {
@@ -40,9 +40,9 @@ class DeleteDishCommandTest {
     @Test
     void execute_invalidInput_throwIndexOutOfBoundsException() {
         Menu menu = new Menu();
-        menu.addDish(new Dish("Chicken Rice", 2.50F));
-        menu.addDish(new Dish("Chicken Curry", 4.30F));
-        menu.addDish(new Dish("Nasi Lemak", 5.60F));
+        menu.addDish(new Dish("Chicken Rice", 250));
+        menu.addDish(new Dish("Chicken Curry", 430));
+        menu.addDish(new Dish("Nasi Lemak", 560));
 
         Ui ui = new Ui();
         int testIndex = 5;
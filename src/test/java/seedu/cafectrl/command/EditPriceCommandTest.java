@@ -16,7 +16,7 @@ class EditPriceCommandTest {
     @Test
     void execute_validInput_editPrice() {
         Menu menu = new Menu();
-        Dish testDish = new Dish("Chicken Rice", 2.50F);
+        Dish testDish = new Dish("Chicken Rice", 250);
         menu.addDish(testDish);
 
         ArrayList<String> actualOutput = new ArrayList<>();
@@ -28,7 +28,7 @@ class EditPriceCommandTest {
         };
 
         int testDishIndex = 1;
-        float testNewPrice = 3;
+        long testNewPrice = 300;
         Command editPriceCommand = new EditPriceCommand(testDishIndex, testNewPrice, menu, ui);
         editPriceCommand.execute();
 
@@ -21,10 +21,10 @@ class ListIngredientCommandTest {
         ArrayList<Dish> menuItems = new ArrayList<>();
         menuItems.add(new Dish("Chicken Rice",
                 new ArrayList<>(Arrays.asList(new Ingredient("Rice", 100, "g"),
-                        new Ingredient("Chicken", 200, "g"))), 8.0F));
+                        new Ingredient("Chicken", 200, "g"))), 800));
         menuItems.add(new Dish("Chicken Sandwich",
                 new ArrayList<>(Arrays.asList(new Ingredient("Lettuce", 100, "g"),
-                        new Ingredient("Chicken", 50, "g"))), 5.0F));
+                        new Ingredient("Chicken", 50, "g"))), 500));
         Menu menu = new Menu(menuItems);
 
         Ui ui = new Ui();
@@ -62,10 +62,10 @@ class ListIngredientCommandTest {
         ArrayList<Dish> menuItems = new ArrayList<>();
         menuItems.add(new Dish("Chicken Rice",
                 new ArrayList<>(Arrays.asList(new Ingredient("Rice", 1, "cup"),
-                        new Ingredient("Chicken", 100, "g"))), 8.0F));
+                        new Ingredient("Chicken", 100, "g"))), 800));
         menuItems.add(new Dish("Chicken Sandwich",
                 new ArrayList<>(Arrays.asList(new Ingredient("Lettuce", 100, "g"),
-                        new Ingredient("Chicken", 50, "g"))), 5.0F));
+                        new Ingredient("Chicken", 50, "g"))), 500));
         Menu menu = new Menu(menuItems);
         Ui ui = new Ui();
         int invalidIndex = 3;
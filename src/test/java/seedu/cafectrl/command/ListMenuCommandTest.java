@@ -14,8 +14,8 @@ class ListMenuCommandTest {
     @Test
     public void execute_addTwoDishes_expectTwoDishes() {
         ArrayList<Dish> menuItems = new ArrayList<>();
-        menuItems.add(new Dish("Chicken Rice", 2.50F));
-        menuItems.add(new Dish("Chicken Curry", 4.30F));
+        menuItems.add(new Dish("Chicken Rice", 250));
+        menuItems.add(new Dish("Chicken Curry", 430));
         Menu menu = new Menu(menuItems);
         assertEquals(2, menu.getSize());
 
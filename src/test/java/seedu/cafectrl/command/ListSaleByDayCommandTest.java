@@ -27,8 +27,8 @@ public class ListSaleByDayCommandTest {
                 Arrays.asList(new Ingredient("Lettuce", 100, "g"),
                     new Ingredient("Chicken", 50, "g")));
 
-        Dish dishChickenRice = new Dish("Chicken Rice", ingredients, 2.50f);
-        Dish dishChickenChop = new Dish("Chicken Chop", ingredients, 5.00f);
+        Dish dishChickenRice = new Dish("Chicken Rice", ingredients, 250);
+        Dish dishChickenChop = new Dish("Chicken Chop", ingredients, 500);
         Menu menu = new Menu();
         menu.addDish(dishChickenRice);
         menu.addDish(dishChickenChop);
@@ -100,8 +100,8 @@ public class ListSaleByDayCommandTest {
         ArrayList<Ingredient> ingredients = new ArrayList<>(Arrays.asList(new Ingredient("Lettuce", 100, "g"),
                 new Ingredient("Chicken", 50, "g")));
 
-        Dish dishChickenRice = new Dish("Chicken Rice", ingredients, 2.50f);
-        Dish dishChickenChop = new Dish("Chicken Chop", ingredients, 5.00f);
+        Dish dishChickenRice = new Dish("Chicken Rice", ingredients, 250);
+        Dish dishChickenChop = new Dish("Chicken Chop", ingredients, 500);
         Menu menu = new Menu();
         menu.addDish(dishChickenRice);
         menu.addDish(dishChickenChop);
@@ -150,8 +150,8 @@ public class ListSaleByDayCommandTest {
         ArrayList<Ingredient> ingredients = new ArrayList<>(Arrays.asList(new Ingredient("Lettuce", 100, "g"),
                 new Ingredient("Chicken", 50, "g")));
 
-        Dish dishChickenRice = new Dish("Chicken Rice", ingredients, 2.50f);
-        Dish dishChickenChop = new Dish("Chicken Chop", ingredients, 5.00f);
+        Dish dishChickenRice = new Dish("Chicken Rice", ingredients, 250);
+        Dish dishChickenChop = new Dish("Chicken Chop", ingredients, 500);
         Menu menu = new Menu();
         menu.addDish(dishChickenRice);
         menu.addDish(dishChickenChop);
@@ -0,0 +1,35 @@
+package seedu.cafectrl.data;
+
+import org.junit.jupiter.api.Test;
+import seedu.cafectrl.data.dish.Dish;
+import seedu.cafectrl.data.dish.Ingredient;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class DishAvailabilityTest {
+    @Test
+    void clearIngredient_ingredientOfOneDish_onlyThatDishCleared() {
+        ArrayList<Ingredient> chickenRiceIngredients = new ArrayList<>();
+        chickenRiceIngredients.add(new Ingredient("chicken", 50, "g"));
+        chickenRiceIngredients.add(new Ingredient("rice", 100, "g"));
+        ArrayList<Ingredient> laksaIngredients = new ArrayList<>();
+        laksaIngredients.add(new Ingredient("noodle", 100, "g"));
+        Dish chickenRice = new Dish("chicken rice", chickenRiceIngredients, 310);
+        Dish laksa = new Dish("laksa", laksaIngredients, 500);
+        Menu menu = new Menu();
+        menu.addDish(chickenRice);
+        menu.addDish(laksa);
+
+        DishAvailability dishAvailability = new DishAvailability();
+        dishAvailability.indexMenu(menu);
+        dishAvailability.setMaxPortions(chickenRice, 4);
+        dishAvailability.setMaxPortions(laksa, 2);
+        dishAvailability.clearIngredient("rice");
+
+        assertNull(dishAvailability.getMaxPortions(chickenRice));
+        assertEquals(Integer.valueOf(2), dishAvailability.getMaxPortions(laksa));
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.cafectrl.data;
+
+import org.junit.jupiter.api.Test;
+import seedu.cafectrl.data.dish.Dish;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class MenuTest {
+    @Test
+    void getDishFromName_nameInDifferentCase_dishFound() {
+        Menu menu = new Menu();
+        Dish chickenRice = new Dish("chicken rice", 250);
+        menu.addDish(chickenRice);
+
+        assertEquals(chickenRice, menu.getDishFromName(" Chicken Rice "));
+        assertNull(menu.getDishFromName("laksa"));
+    }
+
+    @Test
+    void getDishFromName_dishRemoved_dishNotFound() {
+        Menu menu = new Menu();
+        menu.addDish(new Dish("chicken rice", 250));
+        menu.addDish(new Dish("laksa", 420));
+        menu.removeDish(0);
+
+        assertNull(menu.getDishFromName("chicken rice"));
+        assertEquals("laksa", menu.getDishFromName("laksa").getName());
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.cafectrl.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MoneyTest {
+    @Test
+    void format_variousAmounts_twoDecimalPlaces() {
+        assertEquals("0.00", Money.format(0));
+        assertEquals("0.05", Money.format(5));
+        assertEquals("3.10", Money.format(310));
+        assertEquals("3100.00", Money.format(310000));
+        assertEquals("-1.25", Money.format(-125));
+    }
+
+    @Test
+    void parseCents_variousDecimalPlaces_exactCents() {
+        assertEquals(500L, Money.parseCents("5"));
+        assertEquals(500L, Money.parseCents("5."));
+        assertEquals(310L, Money.parseCents(" 3.1 "));
+        assertEquals(99999999L, Money.parseCents("999999.99"));
+        assertEquals(-5L, Money.parseCents("-0.05"));
+    }
+
+    @Test
+    void parseCents_moreThanTwoDecimalPlaces_numberFormatExceptionThrown() {
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("1.999"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("1.2a"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents(""));
+    }
+}
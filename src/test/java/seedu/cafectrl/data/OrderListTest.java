@@ -0,0 +1,29 @@
+package seedu.cafectrl.data;
+
+import org.junit.jupiter.api.Test;
+import seedu.cafectrl.data.dish.Dish;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OrderListTest {
+    @Test
+    void setComplete_orderCompletedAfterBeingAdded_completedOrderCounted() {
+        Dish chickenRice = new Dish("chicken rice", 250);
+        Order order = new Order(chickenRice, 2);
+        OrderList orderList = new OrderList();
+        orderList.addOrder(order);
+        orderList.addOrder(new Order(chickenRice, 1));
+        assertFalse(orderList.hasCompletedOrders());
+
+        order.setComplete(true);
+        assertTrue(orderList.hasCompletedOrders());
+        assertEquals(Integer.valueOf(1), Integer.valueOf(orderList.getSalesAggregation().getCompletedOrderCount()));
+        assertEquals(500L, orderList.getSalesAggregation().getTotalCostInCents());
+
+        order.setComplete(false);
+        assertFalse(orderList.hasCompletedOrders());
+        assertEquals(0L, orderList.getSalesAggregation().getTotalCostInCents());
+    }
+}
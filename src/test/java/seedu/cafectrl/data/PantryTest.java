@@ -88,8 +88,8 @@ public class PantryTest {
         ArrayList<Ingredient> ingredients = new ArrayList<>(Arrays.asList(new Ingredient("Rice", 100, "g"),
                 new Ingredient("Chicken", 50, "g")));
 
-        Dish dishChickenRice = new Dish("Chicken Rice", ingredients, 2.50f);
-        Dish dishChickenChop = new Dish("Chicken Chop", ingredients, 5.00f);
+        Dish dishChickenRice = new Dish("Chicken Rice", ingredients, 250);
+        Dish dishChickenChop = new Dish("Chicken Chop", ingredients, 500);
         Menu menu = new Menu();
         menu.addDish(dishChickenRice);
         menu.addDish(dishChickenChop);
@@ -133,8 +133,8 @@ public class PantryTest {
                 new Ingredient("Chicken", 50, "g")));
         ArrayList<Ingredient> ingredientChickenChop = new ArrayList<>(List.of(new Ingredient("Chicken", 150, "g")));
 
-        Dish dishChickenRice = new Dish("Chicken Rice", ingredientChickenRice, 2.50f);
-        Dish dishChickenChop = new Dish("Chicken Chop", ingredientChickenChop, 5.00f);
+        Dish dishChickenRice = new Dish("Chicken Rice", ingredientChickenRice, 250);
+        Dish dishChickenChop = new Dish("Chicken Chop", ingredientChickenChop, 500);
         Menu menu = new Menu();
         menu.addDish(dishChickenRice);
         menu.addDish(dishChickenChop);
@@ -179,8 +179,8 @@ public class PantryTest {
                 new Ingredient("Chicken", 200, "g")));
         ArrayList<Ingredient> ingredientChickenChop = new ArrayList<>(List.of(new Ingredient("Chicken", 200, "g")));
 
-        Dish dishChickenRice = new Dish("Chicken Rice", ingredientChickenRice, 2.50f);
-        Dish dishChickenChop = new Dish("Chicken Chop", ingredientChickenChop, 5.00f);
+        Dish dishChickenRice = new Dish("Chicken Rice", ingredientChickenRice, 250);
+        Dish dishChickenChop = new Dish("Chicken Chop", ingredientChickenChop, 500);
         Menu menu = new Menu();
         menu.addDish(dishChickenRice);
         menu.addDish(dishChickenChop);
@@ -228,8 +228,8 @@ public class PantryTest {
                 new Ingredient("Chicken", 200, "g")));
         ArrayList<Ingredient> ingredientChickenChop = new ArrayList<>(List.of(new Ingredient("Chicken", 200, "g")));
 
-        Dish dishChickenRice = new Dish("Chicken Rice", ingredientChickenRice, 2.50f);
-        Dish dishChickenChop = new Dish("Chicken Chop", ingredientChickenChop, 5.00f);
+        Dish dishChickenRice = new Dish("Chicken Rice", ingredientChickenRice, 250);
+        Dish dishChickenChop = new Dish("Chicken Chop", ingredientChickenChop, 500);
         Menu menu = new Menu();
         menu.addDish(dishChickenRice);
         menu.addDish(dishChickenChop);
@@ -269,4 +269,74 @@ public class PantryTest {
 
         assertEquals(normalizedExpected, normalizedActual);
     }
+
+    @Test
+    void addIngredientToStock_sameNameInDifferentCase_quantityAddedToExistingIngredient() {
+        Pantry pantry = new Pantry(new Ui());
+        pantry.addIngredientToStock("Chicken", 300, "g");
+        pantry.addIngredientToStock(" chicken ", 200, "g");
+
+        assertEquals(1, pantry.getPantryStock().size());
+        assertEquals(500, pantry.getPantryStock().get(0).getQty());
+        assertEquals(true, pantry.isInStock("CHICKEN"));
+        assertEquals(false, pantry.isInStock("rice"));
+    }
+
+    @Test
+    void isDishCooked_lastIngredientShort_noStockDeducted() {
+        Pantry pantry = new Pantry(new Ui());
+        pantry.addIngredientToStock("chicken", 300, "g");
+        pantry.addIngredientToStock("rice", 50, "g");
+
+        ArrayList<Ingredient> dishIngredients = new ArrayList<>();
+        dishIngredients.add(new Ingredient("chicken", 200, "g"));
+        dishIngredients.add(new Ingredient("rice", 100, "g"));
+
+        assertEquals(false, pantry.isDishCooked(dishIngredients));
+        assertEquals(300, pantry.getPantryStock().get(0).getQty());
+        assertEquals(50, pantry.getPantryStock().get(1).getQty());
+    }
+
+    @Test
+    void isDishCooked_portionsOfRecipe_stockDeductedForEveryPortion() {
+        Pantry pantry = new Pantry(new Ui());
+        pantry.addIngredientToStock("chicken", 300, "g");
+        pantry.addIngredientToStock("rice", 500, "g");
+
+        ArrayList<Ingredient> recipeIngredients = new ArrayList<>();
+        recipeIngredients.add(new Ingredient("chicken", 50, "g"));
+        recipeIngredients.add(new Ingredient("rice", 100, "g"));
+
+        assertEquals(true, pantry.isDishCooked(recipeIngredients, 3));
+        assertEquals(150, pantry.getPantryStock().get(0).getQty());
+        assertEquals(200, pantry.getPantryStock().get(1).getQty());
+        assertEquals(50, recipeIngredients.get(0).getQty());
+    }
+
+    @Test
+    void isTicketCooked_sharedIngredientShortForTicket_noStockDeducted() {
+        Pantry pantry = new Pantry(new Ui());
+        pantry.addIngredientToStock("chicken", 300, "g");
+        pantry.addIngredientToStock("rice", 250, "g");
+
+        ArrayList<Ingredient> chickenRiceIngredients = new ArrayList<>();
+        chickenRiceIngredients.add(new Ingredient("chicken", 50, "g"));
+        chickenRiceIngredients.add(new Ingredient("rice", 100, "g"));
+        ArrayList<Ingredient> riceBowlIngredients = new ArrayList<>();
+        riceBowlIngredients.add(new Ingredient("rice", 100, "g"));
+
+        //each order can be cooked on its own, but the ticket needs 300g of rice
+        ArrayList<Order> ticket = new ArrayList<>();
+        ticket.add(new Order(new Dish("chicken rice", chickenRiceIngredients, 250), 2));
+        ticket.add(new Order(new Dish("rice bowl", riceBowlIngredients, 100), 1));
+
+        assertEquals(false, pantry.isTicketCooked(ticket));
+        assertEquals(300, pantry.getPantryStock().get(0).getQty());
+        assertEquals(250, pantry.getPantryStock().get(1).getQty());
+
+        pantry.addIngredientToStock("rice", 50, "g");
+        assertEquals(true, pantry.isTicketCooked(ticket));
+        assertEquals(200, pantry.getPantryStock().get(0).getQty());
+        assertEquals(0, pantry.getPantryStock().get(1).getQty());
+    }
 }
@@ -0,0 +1,69 @@
+package seedu.cafectrl.data;
+
+import org.junit.jupiter.api.Test;
+import seedu.cafectrl.data.dish.Dish;
+import seedu.cafectrl.ui.Ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SalesAggregationTest {
+    private static ArrayList<String> showAggregatedOrders(OrderList orderList) {
+        ArrayList<String> shownRows = new ArrayList<>();
+        Ui ui = new Ui() {
+            @Override
+            public void showSalesAll(String dishName, int dishQty, String dishPrice) {
+                shownRows.add(dishName + " | " + dishQty + " | " + dishPrice);
+            }
+
+            @Override
+            public void showSalesCost(String front, String back) {
+                shownRows.add(front + back);
+            }
+
+            @Override
+            public void showSalesBottom() {
+            }
+        };
+        orderList.getSalesAggregation().showAggregatedOrders(ui);
+        return shownRows;
+    }
+
+    @Test
+    void showAggregatedOrders_twoDaysSharingDishes_eachDayTotalledSeparately() {
+        Dish chickenRice = new Dish("chicken rice", 250);
+        Dish chickenRiceWithOtherCase = new Dish(" Chicken Rice", 250);
+        Dish laksa = new Dish("laksa", 420);
+
+        OrderList firstDay = new OrderList();
+        firstDay.addOrder(new Order(chickenRice, 2, 500, true));
+        firstDay.addOrder(new Order(laksa, 1, 420, false));
+        firstDay.addOrder(new Order(chickenRiceWithOtherCase, 1, 250, true));
+        OrderList secondDay = new OrderList();
+        secondDay.addOrder(new Order(laksa, 3, 1260, true));
+        secondDay.addOrder(new Order(chickenRice, 1, 250, true));
+
+        //dishes only differing in case or surrounding spaces are merged, incomplete orders are left out
+        assertEquals(List.of("chicken rice | 3 | 7.50", "Total for day: $7.50"), showAggregatedOrders(firstDay));
+        assertEquals(List.of("laksa | 3 | 12.60", "chicken rice | 1 | 2.50", "Total for day: $15.10"),
+                showAggregatedOrders(secondDay));
+        assertEquals(Integer.valueOf(2), Integer.valueOf(firstDay.getSalesAggregation().getCompletedOrderCount()));
+        assertEquals(1510L, secondDay.getSalesAggregation().getTotalCostInCents());
+    }
+
+    @Test
+    void showAggregatedOrders_orderNoLongerComplete_dishRowRemoved() {
+        Dish chickenRice = new Dish("chicken rice", 250);
+        Dish laksa = new Dish("laksa", 420);
+        Order laksaOrder = new Order(laksa, 1, 420, true);
+        OrderList orderList = new OrderList();
+        orderList.addOrder(laksaOrder);
+        orderList.addOrder(new Order(chickenRice, 2, 500, true));
+
+        laksaOrder.setComplete(false);
+
+        assertEquals(List.of("chicken rice | 2 | 5.00", "Total for day: $5.00"), showAggregatedOrders(orderList));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.cafectrl.data;
+
+import org.junit.jupiter.api.Test;
+import seedu.cafectrl.data.dish.Dish;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SalesTest {
+    @Test
+    void nextDay_daysWithoutOrders_noOrderListCreated() {
+        Sales sales = new Sales();
+        sales.nextDay();
+        sales.nextDay();
+
+        assertEquals(Integer.valueOf(2), Integer.valueOf(sales.getDaysAccounted()));
+        assertEquals(Integer.valueOf(3), Integer.valueOf(sales.getDayCount()));
+        assertNull(sales.findOrderList(1));
+        assertEquals(Integer.valueOf(0), Integer.valueOf(sales.getOrderCount(1)));
+        assertTrue(sales.isOrderListsEmpty());
+    }
+
+    @Test
+    void getOrderList_dayAfterDaysAccounted_dayAccountedFor() {
+        Sales sales = new Sales();
+        sales.getOrderList(4).addOrder(new Order(new Dish("chicken rice", 250), 1));
+
+        assertEquals(Integer.valueOf(4), Integer.valueOf(sales.getDaysAccounted()));
+        assertNull(sales.findOrderList(2));
+        assertEquals(Integer.valueOf(1), Integer.valueOf(sales.getOrderCount(4)));
+        assertFalse(sales.isOrderListsEmpty());
+    }
+
+    @Test
+    void findOrderList_dayLeftInStorage_loadedOnce() {
+        int[] loadCount = new int[1];
+        Sales sales = new Sales(3, day -> {
+            loadCount[0]++;
+            return new OrderList();
+        });
+
+        assertEquals(Integer.valueOf(2), Integer.valueOf(sales.getDaysAccounted()));
+        OrderList orderList = sales.findOrderList(1);
+        assertEquals(orderList, sales.findOrderList(1));
+        assertEquals(Integer.valueOf(1), Integer.valueOf(loadCount[0]));
+    }
+}
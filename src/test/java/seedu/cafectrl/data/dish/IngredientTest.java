@@ -0,0 +1,24 @@
+package seedu.cafectrl.data.dish;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class IngredientTest {
+    @Test
+    void of_equalIngredients_sameInstanceShared() {
+        Ingredient rice = Ingredient.of("rice", 100, "g");
+
+        assertSame(rice, Ingredient.of("rice", 100, "g"));
+        assertEquals(new Ingredient("rice", 100, "g"), rice);
+        assertEquals(new Ingredient("rice", 100, "g").hashCode(), rice.hashCode());
+        assertNotEquals(new Ingredient("rice", 200, "g"), rice);
+    }
+
+    @Test
+    void getNormalizedName_nameWithCaseAndSpaces_trimmedLowerCase() {
+        assertEquals("chicken", new Ingredient(" Chicken ", 50, "g").getNormalizedName());
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.cafectrl.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArgumentTokenizerTest {
+    @Test
+    void getValue_addDishArguments_valuesBetweenPrefixes() {
+        ArgumentTokenizer tokens = new ArgumentTokenizer("name/chicken rice price/2.50 "
+                + "ingredient/rice qty/100g, ingredient/chicken qty/50g", ',',
+                "name/", "price/", "ingredient/", "qty/");
+
+        assertEquals(Integer.valueOf(7), Integer.valueOf(tokens.getTokenCount()));
+        assertEquals("chicken rice ", tokens.getValue(0));
+        assertEquals("2.50 ", tokens.getValue(1));
+        assertEquals("100g", tokens.getValue(3));
+        assertEquals(Integer.valueOf(4), Integer.valueOf(tokens.findGroupEnd(2)));
+        assertTrue(tokens.isPrefixAt(5, "ingredient/"));
+        assertEquals("chicken ", tokens.getValue(5));
+    }
+
+    @Test
+    void findMismatch_textBeforeFirstPrefix_positionOfText() {
+        ArgumentTokenizer tokens = new ArgumentTokenizer("dish name/chicken rice qty/2", "name/", "qty/");
+
+        int mismatchedTokenIndex = tokens.findMismatch(0, tokens.getTokenCount(), "name/", "qty/");
+        assertEquals(Integer.valueOf(0), Integer.valueOf(mismatchedTokenIndex));
+        assertEquals(Integer.valueOf(0), Integer.valueOf(tokens.getPosition(mismatchedTokenIndex)));
+    }
+
+    @Test
+    void findMismatch_missingLastArgument_positionAtEndOfArguments() {
+        String arguments = "ingredient/rice qty/100g, ingredient/egg";
+        ArgumentTokenizer tokens = new ArgumentTokenizer(arguments, ',', "ingredient/", "qty/");
+
+        int mismatchedTokenIndex = tokens.findMismatch(3, tokens.getTokenCount(), "ingredient/", "qty/");
+        assertEquals(Integer.valueOf(arguments.length()),
+                Integer.valueOf(tokens.getPosition(mismatchedTokenIndex)));
+        assertEquals(Integer.valueOf(ArgumentTokenizer.NO_MISMATCH),
+                Integer.valueOf(tokens.findMismatch(0, 2, "ingredient/", "qty/")));
+    }
+
+    @Test
+    void countPrefix_repeatedArgument_everyOccurrenceCounted() {
+        ArgumentTokenizer tokens = new ArgumentTokenizer("ingredient/rice qty/100g qty/50g,", ',',
+                "ingredient/", "qty/");
+
+        //the separator after the last group is ignored
+        assertEquals(Integer.valueOf(3), Integer.valueOf(tokens.getTokenCount()));
+        assertEquals(Integer.valueOf(2), Integer.valueOf(tokens.countPrefix("qty/")));
+        assertEquals(Integer.valueOf(1), Integer.valueOf(tokens.countPrefix("qty/", 0, 2)));
+    }
+
+    @Test
+    void countPrefix_noRepeatedArgument_oneOccurrenceCounted() {
+        ArgumentTokenizer tokens = new ArgumentTokenizer("name/christmas Ham price/50.00 ingredient/Ham qty/1000g",
+                ',', "name/", "price/", "ingredient/", "qty/");
+
+        assertEquals(Integer.valueOf(1), Integer.valueOf(tokens.countPrefix("price/")));
+    }
+
+    @Test
+    void countPrefix_repeatedPriceArgument_bothOccurrencesCounted() {
+        ArgumentTokenizer tokens = new ArgumentTokenizer(
+                "name/christmas Ham price/50.00 price/12.00 ingredient/Ham qty/1000g", ',',
+                "name/", "price/", "ingredient/", "qty/");
+
+        assertEquals(Integer.valueOf(2), Integer.valueOf(tokens.countPrefix("price/")));
+        assertEquals(Integer.valueOf(1), Integer.valueOf(tokens.countPrefix("ingredient/")));
+    }
+
+    @Test
+    void countPrefix_emptyArguments_noOccurrenceCounted() {
+        ArgumentTokenizer tokens = new ArgumentTokenizer("", ',', "name/", "price/");
+
+        assertEquals(Integer.valueOf(0), Integer.valueOf(tokens.countPrefix("price/")));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.cafectrl.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandRegistryTest {
+    private final CommandFactory listMenuFactory = (arguments, context) -> null;
+    private final CommandFactory listIngredientsFactory = (arguments, context) -> null;
+    private final CommandFactory listSaleFactory = (arguments, context) -> null;
+
+    private CommandRegistry createRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("list_menu", listMenuFactory);
+        registry.register("list_ingredients", listIngredientsFactory);
+        registry.register("list_sale", listSaleFactory);
+        return registry;
+    }
+
+    @Test
+    void find_uniqueAbbreviation_factoryOfCommandWord() {
+        CommandRegistry registry = createRegistry();
+
+        assertEquals(listMenuFactory, registry.find("list_menu"));
+        assertEquals(listMenuFactory, registry.find("list_m"));
+        assertEquals(listSaleFactory, registry.find("list_s"));
+    }
+
+    @Test
+    void find_ambiguousAbbreviation_nullAndEveryCommandWordSuggested() {
+        CommandRegistry registry = createRegistry();
+
+        assertNull(registry.find("list_"));
+        assertEquals(new ArrayList<>(List.of("list_ingredients", "list_menu", "list_sale")),
+                registry.suggest("list_"));
+    }
+
+    @Test
+    void suggest_misspeltCommandWord_closestCommandWords() {
+        CommandRegistry registry = createRegistry();
+
+        assertNull(registry.find("lsit_menu"));
+        assertEquals(new ArrayList<>(List.of("list_menu")), registry.suggest("lsit_menu"));
+        assertTrue(registry.suggest("random").isEmpty());
+    }
+
+    @Test
+    void find_abbreviationOfFullWordCommand_nullAndCommandWordSuggested() {
+        CommandRegistry registry = createRegistry();
+        CommandFactory deleteFactory = (arguments, context) -> null;
+        CommandFactory exitFactory = (arguments, context) -> null;
+        registry.registerFullWord("delete", deleteFactory);
+        registry.registerFullWord("bye", exitFactory);
+
+        assertNull(registry.find("d"));
+        assertNull(registry.find("by"));
+        assertEquals(new ArrayList<>(List.of("delete")), registry.suggest("d"));
+        assertEquals(new ArrayList<>(List.of("bye")), registry.suggest("by"));
+        assertEquals(deleteFactory, registry.find("delete"));
+        assertEquals(exitFactory, registry.find("bye"));
+    }
+}
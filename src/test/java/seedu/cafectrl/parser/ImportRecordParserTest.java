@@ -0,0 +1,56 @@
+package seedu.cafectrl.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.cafectrl.parser.exception.ParserException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImportRecordParserTest {
+    @Test
+    void parseRecord_csvRecords_userInputOfCommands() throws ParserException {
+        ImportRecordParser recordParser = ImportRecordParser.forFile("orders.csv");
+
+        assertTrue(recordParser.isSkipped("type,name,qty"));
+        assertTrue(recordParser.isSkipped("   "));
+        assertFalse(recordParser.isSkipped("order,chicken rice,2"));
+        assertEquals("add_order name/chicken rice qty/2", recordParser.parseRecord("order, \"chicken rice\" ,2"));
+        assertEquals("buy_ingredient ingredient/rice qty/500g", recordParser.parseRecord("BUY_INGREDIENT,rice,500g"));
+    }
+
+    @Test
+    void parseRecord_csvRecordWithQuotedCommas_commasKeptInName() throws ParserException {
+        ImportRecordParser recordParser = new ImportRecordParser(false);
+
+        assertEquals("add_order name/rice, large qty/2", recordParser.parseRecord("order,\"rice, large\",2"));
+        assertEquals("add_order name/\"big\" rice qty/2",
+                recordParser.parseRecord("order,\"\"\"big\"\" rice\", 2"));
+        assertThrows(ParserException.class, () -> recordParser.parseRecord("order,\"rice, large,2"));
+        assertThrows(ParserException.class, () -> recordParser.parseRecord("order,\"rice\" large,2"));
+    }
+
+    @Test
+    void parseRecord_jsonLinesRecords_userInputOfCommands() throws ParserException {
+        ImportRecordParser recordParser = ImportRecordParser.forFile("orders.JSONL");
+
+        assertEquals("add_order name/chicken rice qty/2",
+                recordParser.parseRecord("{\"type\": \"order\", \"name\": \"chicken\\u0020rice\", \"qty\": 2}"));
+        assertEquals("buy_ingredient ingredient/rice qty/500g",
+                recordParser.parseRecord(" {\"qty\":\"500g\",\"name\":\"rice\",\"type\":\"buy_ingredient\"} "));
+    }
+
+    @Test
+    void parseRecord_malformedRecords_parserExceptionThrown() {
+        ImportRecordParser csvParser = new ImportRecordParser(false);
+        ImportRecordParser jsonLinesParser = new ImportRecordParser(true);
+
+        assertThrows(ParserException.class, () -> csvParser.parseRecord("order,chicken rice"));
+        assertThrows(ParserException.class, () -> csvParser.parseRecord("refund,chicken rice,2"));
+        assertThrows(ParserException.class, () -> jsonLinesParser.parseRecord("{\"type\": \"order\", \"qty\": 2}"));
+        assertThrows(ParserException.class, () -> jsonLinesParser.parseRecord("{\"type\": \"order\""));
+        assertThrows(ParserException.class,
+                () -> jsonLinesParser.parseRecord("{\"type\": \"order\", \"name\": \"rice\", \"qty\": 2} x"));
+    }
+}
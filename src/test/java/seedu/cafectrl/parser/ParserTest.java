@@ -2,6 +2,7 @@ package seedu.cafectrl.parser;
 
 import org.junit.jupiter.api.Test;
 import seedu.cafectrl.command.AddDishCommand;
+import seedu.cafectrl.command.AddOrderCommand;
 import seedu.cafectrl.command.DeleteDishCommand;
 import seedu.cafectrl.command.ListIngredientCommand;
 import seedu.cafectrl.command.ListSaleByDayCommand;
@@ -22,6 +23,10 @@ import seedu.cafectrl.ui.Ui;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -37,10 +42,10 @@ class ParserTest {
         ArrayList<Dish> menuItems = new ArrayList<>();
         menuItems.add(new Dish("Chicken Rice",
                 new ArrayList<>(Arrays.asList(new Ingredient("Rice", 50, "g"),
-                        new Ingredient("Chicken", 100, "g"))), 8.0F));
+                        new Ingredient("Chicken", 100, "g"))), 800));
         menuItems.add(new Dish("Chicken Sandwich",
                 new ArrayList<>(Arrays.asList(new Ingredient("Lettuce", 100, "g"),
-                        new Ingredient("Chicken", 50, "g"))), 5.0F));
+                        new Ingredient("Chicken", 50, "g"))), 500));
         Menu menu = new Menu(menuItems);
         Ui ui = new Ui();
         Pantry pantry = new Pantry(ui);
@@ -118,10 +123,10 @@ class ParserTest {
         ArrayList<Dish> menuItems = new ArrayList<>();
         menuItems.add(new Dish("Chicken Rice",
                 new ArrayList<>(Arrays.asList(new Ingredient("Rice", 50, "g"),
-                        new Ingredient("Chicken", 100, "g"))), 8.0F));
+                        new Ingredient("Chicken", 100, "g"))), 800));
         menuItems.add(new Dish("Chicken Sandwich",
                 new ArrayList<>(Arrays.asList(new Ingredient("Lettuce", 100, "g"),
-                        new Ingredient("Chicken", 50, "g"))), 5.0F));
+                        new Ingredient("Chicken", 50, "g"))), 500));
         Menu menu = new Menu(menuItems);
         Ui ui = new Ui();
         Pantry pantry = new Pantry(ui);
@@ -214,7 +219,7 @@ class ParserTest {
     @Test
     void parseCommand_unrecognisedInput_unknownCommand() {
         Menu menu = new Menu();
-        Dish testDish = new Dish("Chicken Rice", 2.50F);
+        Dish testDish = new Dish("Chicken Rice", 250);
         menu.addDish(testDish);
         String testUserInput = "random input";
 
@@ -238,7 +243,7 @@ class ParserTest {
     @Test
     void parseCommand_missingArgumentsForEditPrice_missingArgMsg() {
         Menu menu = new Menu();
-        Dish testDish = new Dish("Chicken Rice", 2.50F);
+        Dish testDish = new Dish("Chicken Rice", 250);
         menu.addDish(testDish);
         String testUserInput = "edit_price dish/1";
 
@@ -262,7 +267,7 @@ class ParserTest {
     @Test
     void parseCommand_missingArgumentsTypeForEditPrice_wrongArgMsg() {
         Menu menu = new Menu();
-        Dish testDish = new Dish("Chicken Rice", 2.50F);
+        Dish testDish = new Dish("Chicken Rice", 250);
         menu.addDish(testDish);
         String testUserInput = "edit_price dish/ price/4";
 
@@ -286,7 +291,7 @@ class ParserTest {
     @Test
     void parseCommand_outOfBoundDishIndexForEditPrice_invalidIndexForEditPrice() {
         Menu menu = new Menu();
-        Dish testDish = new Dish("Chicken Rice", 2.50F);
+        Dish testDish = new Dish("Chicken Rice", 250);
         menu.addDish(testDish);
         String testUserInput = "edit_price dish/2 price/3";
 
@@ -310,7 +315,7 @@ class ParserTest {
     @Test
     void parseCommand_nonDigitDishIndexForEditPrice_invalidIndexForEditPrice() {
         Menu menu = new Menu();
-        Dish testDish = new Dish("Chicken Rice", 2.50F);
+        Dish testDish = new Dish("Chicken Rice", 250);
         menu.addDish(testDish);
         String testUserInput = "edit_price dish/d price/3";
 
@@ -370,7 +375,7 @@ class ParserTest {
         Dish getOutputDish = menu.getDishFromId(0);
 
         assertEquals("christmas ham", getOutputDish.getName());
-        assertEquals((float) 50.0, getOutputDish.getPrice());
+        assertEquals(5000L, getOutputDish.getPriceInCents());
         assertEquals("[ham - 1000g]", getOutputDish.getIngredients().toString());
     }
 
@@ -395,7 +400,7 @@ class ParserTest {
         Dish getOutputDish = menu.getDishFromId(0);
 
         assertEquals("chicken rice", getOutputDish.getName());
-        assertEquals((float) 2.0, getOutputDish.getPrice());
+        assertEquals(200L, getOutputDish.getPriceInCents());
         assertEquals("[rice - 100g, chicken - 200g, water - 100ml]", getOutputDish.getIngredients().toString());
     }
 
@@ -573,7 +578,7 @@ class ParserTest {
         Ingredient ingredient = new Ingredient("rice");
         ArrayList<Ingredient> ingredients = new ArrayList<>();
         ingredients.add(ingredient);
-        menu.addDish(new Dish("chicken rice", ingredients, (float) 2.13));
+        menu.addDish(new Dish("chicken rice", ingredients, 213));
 
         String addDishTestInput = "add name/Chicken Rice price/2.50 ingredient/rice qty/100g";
         ParserUtil parserUtil = new Parser();
@@ -609,7 +614,7 @@ class ParserTest {
         Dish getOutputDish = menu.getDishFromId(0);
 
         assertEquals("christmas ham", getOutputDish.getName());
-        assertEquals((float) 50.0, getOutputDish.getPrice());
+        assertEquals(5000L, getOutputDish.getPriceInCents());
         assertEquals("[ham - 1000g]", getOutputDish.getIngredients().toString());
     }
 
@@ -791,87 +796,51 @@ class ParserTest {
     }
 
     @Test
-    void isRepeatedArgument_noRepeatArgument_false() {
-        String inputString = "name/christmas Ham price/50.00 ingredient/Ham qty/1000g";
-        String inputArgument = "price/";
-        assertFalse(Parser.isRepeatedArgument(inputString, inputArgument));
-    }
-
-    @Test
-    void isRepeatedArgument_repeatArgument_true() {
-        String inputString = "name/christmas Ham price/50.00 price/12.00 ingredient/Ham qty/1000g";
-        String inputArgument = "price/";
-        assertTrue(Parser.isRepeatedArgument(inputString, inputArgument));
-    }
-
-    @Test
-    void isRepeatedArgument_emptyString_true() {
-        String inputString = "";
-        String inputArgument = "price/";
-        assertFalse(Parser.isRepeatedArgument(inputString, inputArgument));
-    }
-
-    @Test
-    void isRepeatedArgument_emptyArgument_true() {
-        String inputString = "name/christmas Ham price/50.00 price/12.00 ingredient/Ham qty/1000g";
-        String inputArgument = "";
-        assertTrue(Parser.isRepeatedArgument(inputString, inputArgument));
-    }
-
-    @Test
-    void isRepeatedArgument_nullInput_true() throws NullPointerException {
-        String inputString = "name/christmas Ham price/50.00 price/12.00 ingredient/Ham qty/1000g";
-        String inputArgument = "price/";
-        assertThrows(NullPointerException.class, () -> Parser.isRepeatedArgument(null, inputArgument));
-        assertThrows(NullPointerException.class, () -> Parser.isRepeatedArgument(inputString, null));
-    }
-
-    @Test
-    void parsePriceToFloat_validPriceString_exactFloatValue() throws ParserException {
+    void parsePriceToCents_validPriceString_exactCentsValue() throws ParserException {
         String inputPriceString = "3.1";
 
-        assertEquals((float) 3.1, Parser.parsePriceToFloat(inputPriceString));
+        assertEquals(310L, Parser.parsePriceToCents(inputPriceString));
     }
 
     @Test
-    void parsePriceToFloat_largePriceString_parserExceptionThrown() {
+    void parsePriceToCents_largePriceString_parserExceptionThrown() {
         String inputPriceString = "99999999999.99";
 
-        assertThrows(ParserException.class, () -> Parser.parsePriceToFloat(inputPriceString));
+        assertThrows(ParserException.class, () -> Parser.parsePriceToCents(inputPriceString));
     }
 
     @Test
-    void parsePriceToFloat_moreThanTwoDPPriceString_parserExceptionThrown() {
+    void parsePriceToCents_moreThanTwoDPPriceString_parserExceptionThrown() {
         String inputPriceString = "1.9999";
 
-        assertThrows(ParserException.class, () -> Parser.parsePriceToFloat(inputPriceString));
+        assertThrows(ParserException.class, () -> Parser.parsePriceToCents(inputPriceString));
     }
 
     @Test
-    void parsePriceToFloat_whitespaceInPriceString_exactFloatValue() throws ParserException {
+    void parsePriceToCents_whitespaceInPriceString_exactCentsValue() throws ParserException {
         String inputPriceString = " 1.99 ";
 
-        assertEquals((float) 1.99, Parser.parsePriceToFloat(inputPriceString));
+        assertEquals(199L, Parser.parsePriceToCents(inputPriceString));
     }
 
     @Test
-    void parsePriceToFloat_negativePriceString_parserExceptionThrown() {
+    void parsePriceToCents_negativePriceString_parserExceptionThrown() {
         String inputPriceString = "-1.99";
 
-        assertThrows(ParserException.class, () -> Parser.parsePriceToFloat(inputPriceString));
+        assertThrows(ParserException.class, () -> Parser.parsePriceToCents(inputPriceString));
     }
 
     @Test
-    void parsePriceToFloat_emptyPriceString_parserExceptionThrown() {
+    void parsePriceToCents_emptyPriceString_parserExceptionThrown() {
         String inputPriceString = "";
 
-        assertThrows(ParserException.class, () -> Parser.parsePriceToFloat(inputPriceString));
+        assertThrows(ParserException.class, () -> Parser.parsePriceToCents(inputPriceString));
     }
 
     @Test
     void isRepeatedDishName_existingDishName_true() {
         Menu menu = new Menu();
-        Dish dish = new Dish("Chicken Rice", 2.50F);
+        Dish dish = new Dish("Chicken Rice", 250);
         menu.addDish(dish);
 
         String inputDishName = "chicken rice";
@@ -882,7 +851,7 @@ class ParserTest {
     @Test
     void isRepeatedDishName_nonExistingDishName_false() {
         Menu menu = new Menu();
-        Dish dish = new Dish("Chicken Rice", 2.50F);
+        Dish dish = new Dish("Chicken Rice", 250);
         menu.addDish(dish);
 
         String inputDishName = "chicken chop";
@@ -893,7 +862,7 @@ class ParserTest {
     @Test
     void isRepeatedDishName_nullString_nullPointerExceptionThrown() throws NullPointerException {
         Menu menu = new Menu();
-        Dish dish = new Dish("Chicken Rice", 2.50F);
+        Dish dish = new Dish("Chicken Rice", 250);
         menu.addDish(dish);
 
         assertThrows(NullPointerException.class, () -> Parser.isRepeatedDishName(null, menu));
@@ -902,7 +871,7 @@ class ParserTest {
     @Test
     void isRepeatedDishName_emptyDishName_false() {
         Menu menu = new Menu();
-        Dish dish = new Dish("Chicken Rice", 2.50F);
+        Dish dish = new Dish("Chicken Rice", 250);
         menu.addDish(dish);
 
         String inputDishName = "";
@@ -1021,7 +990,7 @@ class ParserTest {
         Menu menu = new Menu();
         ArrayList<Ingredient> ingredients = new ArrayList<>();
         ingredients.add(new Ingredient("chicken", 500, "g"));
-        Dish dish = new Dish("chicken rice", ingredients, 3.00F);
+        Dish dish = new Dish("chicken rice", ingredients, 300);
         menu.addDish(dish);
 
         Ingredient ingredient = new Ingredient("chicken", 500, "ml");
@@ -1121,4 +1090,88 @@ class ParserTest {
         assertEquals(ErrorMessages.INVALID_SHOW_SALE_DAY_FORMAT_MESSAGE
                 + ListSaleByDayCommand.MESSAGE_USAGE, feedbackToUser);
     }
+
+    /**
+     * Parses a price and checks a name for special characters many times, counting the wrong results
+     *
+     * @param startSignal signal for every thread to start parsing at the same time
+     * @param priceText text of the price to be parsed
+     * @param expectedPriceInCents price that the text is expected to be parsed to
+     * @param name name to be checked for special characters
+     * @param isSpecialCharExpected true if the name is expected to contain special characters
+     * @return number of wrong results
+     */
+    private static int countWrongParseResults(CountDownLatch startSignal, String priceText,
+            long expectedPriceInCents, String name, boolean isSpecialCharExpected) throws Exception {
+        startSignal.await();
+        int wrongResultCount = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (Parser.parsePriceToCents(priceText) != expectedPriceInCents) {
+                wrongResultCount++;
+            }
+            if (Parser.containsSpecialChar(name) != isSpecialCharExpected) {
+                wrongResultCount++;
+            }
+        }
+        return wrongResultCount;
+    }
+
+    @Test
+    void parsePriceToCents_parsedOnTwoThreads_independentResults() throws Exception {
+        CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> firstThreadResult = executor.submit(
+                    () -> countWrongParseResults(startSignal, "2.50", 250, "chicken rice", false));
+            Future<Integer> secondThreadResult = executor.submit(
+                    () -> countWrongParseResults(startSignal, "13.05", 1305, "laksa!", true));
+            startSignal.countDown();
+
+            assertEquals(Integer.valueOf(0), firstThreadResult.get());
+            assertEquals(Integer.valueOf(0), secondThreadResult.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void parseCommand_abbreviatedDeleteAndExit_notDispatched() {
+        ArrayList<Dish> menuItems = new ArrayList<>();
+        menuItems.add(new Dish("Chicken Rice", 250));
+        Menu menu = new Menu(menuItems);
+        Ui ui = new Ui();
+        Pantry pantry = new Pantry(ui);
+        Sales sales = new Sales();
+        CurrentDate currentDate = new CurrentDate();
+        ParserUtil parserUtil = new Parser();
+
+        Command deleteResult = parserUtil.parseCommand(menu, "d 1", ui, pantry, sales, currentDate);
+        Command exitResult = parserUtil.parseCommand(menu, "by", ui, pantry, sales, currentDate);
+
+        assertTrue(deleteResult instanceof IncorrectCommand);
+        assertTrue(((IncorrectCommand) deleteResult).feedbackToUser.contains(DeleteDishCommand.COMMAND_WORD));
+        assertTrue(exitResult instanceof IncorrectCommand);
+        assertFalse(exitResult.isExit());
+    }
+
+    @Test
+    void parseCommand_ordersOnDayNotAccountedFor_salesNotModified() {
+        ArrayList<Dish> menuItems = new ArrayList<>();
+        menuItems.add(new Dish("Chicken Rice", 250));
+        Menu menu = new Menu(menuItems);
+        Ui ui = new Ui();
+        Pantry pantry = new Pantry(ui);
+        Sales sales = new Sales();
+        CurrentDate currentDate = new CurrentDate(3);
+        ParserUtil parserUtil = new Parser();
+
+        Command invalidResult = parserUtil.parseCommand(menu, "add_order name/laksa qty/1", ui, pantry, sales,
+                currentDate);
+        Command validResult = parserUtil.parseCommand(menu, "add_order name/chicken rice qty/2", ui, pantry,
+                sales, currentDate);
+
+        assertTrue(invalidResult instanceof IncorrectCommand);
+        assertTrue(validResult instanceof AddOrderCommand);
+        assertEquals(0, sales.getDaysAccounted());
+    }
 }
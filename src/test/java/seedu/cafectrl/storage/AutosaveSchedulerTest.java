@@ -0,0 +1,161 @@
+package seedu.cafectrl.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.cafectrl.command.Command;
+import seedu.cafectrl.data.Menu;
+import seedu.cafectrl.data.Pantry;
+import seedu.cafectrl.data.Sales;
+import seedu.cafectrl.ui.Ui;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Junit test for AutosaveScheduler.java
+ */
+public class AutosaveSchedulerTest {
+    /**
+     * Storage that counts the saves of every kind of data instead of writing them to files,
+     * and records the order that the pantry stock and the order journal are written in
+     */
+    private static class StubStorage extends Storage {
+        private final ArrayList<String> writtenFiles = new ArrayList<>();
+        private int menuSaveCount = 0;
+        private int pantrySaveCount = 0;
+        private int ordersSaveCount = 0;
+        private boolean isPantrySaveFailing = false;
+
+        StubStorage() {
+            super(new Ui());
+            orderJournal = new OrderJournal(new FileManager(new Ui()) {
+                @Override
+                public void appendToFile(String filePath, String textToAppend) {
+                    writtenFiles.add(filePath);
+                }
+            });
+        }
+
+        @Override
+        void saveMenu(Menu menu) {
+            menuSaveCount++;
+        }
+
+        @Override
+        void savePantryStock(Pantry pantry) throws IOException {
+            pantrySaveCount++;
+            writtenFiles.add(FilePath.PANTRY_STOCK_FILE_PATH);
+            if (isPantrySaveFailing) {
+                throw new IOException("No space left on device");
+            }
+        }
+
+        @Override
+        void saveOrderJournal(Sales sales) {
+            ordersSaveCount++;
+        }
+
+        @Override
+        public void compactOrderJournalIfDue(Sales sales) {
+        }
+    }
+
+    private static Command createCommand(boolean isMenuModified, boolean isPantryModified, boolean isSalesModified) {
+        return new Command() {
+            @Override
+            public boolean isMenuModified() {
+                return isMenuModified;
+            }
+
+            @Override
+            public boolean isPantryModified() {
+                return isPantryModified;
+            }
+
+            @Override
+            public boolean isSalesModified() {
+                return isSalesModified;
+            }
+
+            @Override
+            public void execute() {
+            }
+        };
+    }
+
+    private static AutosaveScheduler createScheduler(StubStorage storage, int commandCount) {
+        Ui ui = new Ui();
+        return new AutosaveScheduler(storage, new Menu(), new Pantry(ui), new Sales(), 0, commandCount);
+    }
+
+    @Test
+    public void saveModifiedData_onlyPantryModified_onlyPantrySavedOnce() {
+        StubStorage storage = new StubStorage();
+        AutosaveScheduler autosaveScheduler = createScheduler(storage, 0);
+
+        autosaveScheduler.execute(createCommand(false, true, false));
+        autosaveScheduler.saveModifiedData();
+        autosaveScheduler.saveModifiedData();
+        autosaveScheduler.stop();
+
+        assertEquals(Integer.valueOf(0), Integer.valueOf(storage.menuSaveCount));
+        assertEquals(Integer.valueOf(1), Integer.valueOf(storage.pantrySaveCount));
+        assertEquals(Integer.valueOf(0), Integer.valueOf(storage.ordersSaveCount));
+    }
+
+    @Test
+    public void saveModifiedData_pantrySaveFails_pantrySavedAgainUntilSuccessful() {
+        StubStorage storage = new StubStorage();
+        AutosaveScheduler autosaveScheduler = createScheduler(storage, 0);
+        storage.isPantrySaveFailing = true;
+
+        autosaveScheduler.execute(createCommand(true, true, true));
+        autosaveScheduler.saveModifiedData();
+        autosaveScheduler.saveModifiedData();
+        storage.isPantrySaveFailing = false;
+        autosaveScheduler.saveModifiedData();
+        autosaveScheduler.saveModifiedData();
+        autosaveScheduler.stop();
+
+        //a failed pantry save neither stops the other data from being saved nor marks the pantry as saved
+        assertEquals(Integer.valueOf(1), Integer.valueOf(storage.menuSaveCount));
+        assertEquals(Integer.valueOf(3), Integer.valueOf(storage.pantrySaveCount));
+        assertEquals(Integer.valueOf(1), Integer.valueOf(storage.ordersSaveCount));
+    }
+
+    @Test
+    public void execute_modifyingCommandCountReached_modifiedDataSaved() {
+        StubStorage storage = new StubStorage();
+        AutosaveScheduler autosaveScheduler = createScheduler(storage, 2);
+
+        autosaveScheduler.execute(createCommand(false, false, true));
+        autosaveScheduler.execute(createCommand(false, false, false));
+        assertEquals(Integer.valueOf(0), Integer.valueOf(storage.ordersSaveCount));
+
+        autosaveScheduler.execute(createCommand(false, true, false));
+        //stopping waits for the autosave started by the second modifying command
+        autosaveScheduler.stop();
+
+        assertEquals(Integer.valueOf(0), Integer.valueOf(storage.menuSaveCount));
+        assertEquals(Integer.valueOf(1), Integer.valueOf(storage.pantrySaveCount));
+        assertEquals(Integer.valueOf(1), Integer.valueOf(storage.ordersSaveCount));
+    }
+
+    @Test
+    public void saveModifiedData_importBatchInProgress_batchJournaledBeforePantryStock() throws IOException {
+        StubStorage storage = new StubStorage();
+        AutosaveScheduler autosaveScheduler = createScheduler(storage, 0);
+        OrderJournal orderJournal = storage.getOrderJournal();
+        orderJournal.startBatch();
+        orderJournal.appendDayMarker(0);
+
+        autosaveScheduler.execute(createCommand(false, true, false));
+        autosaveScheduler.saveModifiedData();
+        autosaveScheduler.stop();
+
+        assertEquals(List.of(FilePath.ORDERS_JOURNAL_FILE_PATH, FilePath.PANTRY_STOCK_FILE_PATH),
+                storage.writtenFiles);
+    }
+}
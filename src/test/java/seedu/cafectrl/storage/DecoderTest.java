@@ -1,13 +1,22 @@
 package seedu.cafectrl.storage;
 
 import org.junit.jupiter.api.Test;
+import seedu.cafectrl.data.Menu;
+import seedu.cafectrl.data.Order;
+import seedu.cafectrl.data.OrderList;
 import seedu.cafectrl.data.Pantry;
+import seedu.cafectrl.data.Sales;
+import seedu.cafectrl.data.dish.Dish;
 import seedu.cafectrl.data.dish.Ingredient;
 import seedu.cafectrl.ui.Ui;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 //@@author ziyi105
 public class DecoderTest {
@@ -106,4 +115,132 @@ public class DecoderTest {
 
         assertEquals(samplePantry.getPantryStock(), testPantry.getPantryStock());
     }
+
+    @Test
+    void decodeSales_journalRecordsAfterOrdersFile_ordersAddedToTheirDays() {
+        Dish dish = new Dish("chicken rice", 250);
+        Order orderDayTwo = new Order(dish, 1);
+        orderDayTwo.setComplete(true);
+        Order orderDayThree = new Order(dish, 3);
+
+        ArrayList<String> fileDataList = new ArrayList<>();
+        fileDataList.add("1 | chicken rice | 2 | 2.50 | true");
+        fileDataList.add("2 | " + Encoder.NULL_ORDER_DAY);
+        //records appended to the order journal after orders.txt was written
+        fileDataList.add(Encoder.encodeOrder(1, orderDayTwo).trim());
+        fileDataList.add(Encoder.encodeOrder(2, orderDayThree).trim());
+        Sales sales = Decoder.decodeSales(fileDataList, new Menu());
+
+        assertEquals(3, sales.getDayCount());
+        assertEquals(2, sales.getDaysAccounted());
+        assertEquals(1, sales.getOrderList(1).getSize());
+        assertEquals(true, sales.getOrderList(1).getOrderList().get(0).getIsComplete());
+        assertEquals(3, sales.getOrderList(2).getOrderList().get(0).getQuantity());
+        assertEquals(false, sales.getOrderList(2).getOrderList().get(0).getIsComplete());
+    }
+
+    @Test
+    void decodeSales_encodedSales_ordersOfSameDishShareDish() {
+        OrderList firstDay = new OrderList();
+        firstDay.addOrder(new Order(new Dish("chicken rice", 250), 2, 500, true));
+        firstDay.addOrder(new Order(new Dish("laksa", 420), 1, 420, false));
+        OrderList secondDay = new OrderList();
+        secondDay.addOrder(new Order(new Dish("chicken rice", 250), 3, 750, true));
+        ArrayList<OrderList> orderLists = new ArrayList<>();
+        orderLists.add(firstDay);
+        orderLists.add(secondDay);
+
+        ArrayList<String> fileDataList = Encoder.encodeSales(new Sales(orderLists));
+        //the dish dictionary is followed by the orders and the checksum
+        assertEquals(2 + 3 + 1, fileDataList.size());
+        fileDataList.remove(fileDataList.size() - 1);
+        Sales sales = Decoder.decodeSales(fileDataList, new Menu());
+
+        Order firstOrder = sales.getOrderList(0).getOrderList().get(0);
+        Order lastOrder = sales.getOrderList(1).getOrderList().get(0);
+        assertEquals("laksa", sales.getOrderList(0).getOrderList().get(1).getDishName());
+        assertEquals(750L, lastOrder.getTotalOrderCostInCents());
+        assertSame(firstOrder.getOrderedDish(), lastOrder.getOrderedDish());
+    }
+
+    @Test
+    void decodeSales_archivedSegmentThenUnarchivedOrders_ordersInOriginalOrder() {
+        Dish dish = new Dish("chicken rice", 250);
+        ArrayList<OrderList> orderLists = new ArrayList<>();
+        for (int day = 0; day < SalesArchive.DAYS_PER_SEGMENT + 1; day++) {
+            OrderList orderList = new OrderList();
+            orderList.addOrder(new Order(dish, day + 1, (day + 1) * 250, true));
+            orderLists.add(orderList);
+        }
+        Sales sales = new Sales(orderLists);
+        ArrayList<String> segment = Encoder.encodeSalesSegment(sales, 0, SalesArchive.DAYS_PER_SEGMENT);
+        //an order added to the first day after it was archived
+        orderLists.get(0).addOrder(new Order(dish, 9, 2250, false));
+        ArrayList<String> unarchivedOrders = Encoder.encodeSales(sales,
+                day -> day < SalesArchive.DAYS_PER_SEGMENT ? 1 : 0);
+        segment.remove(segment.size() - 1);
+        unarchivedOrders.remove(unarchivedOrders.size() - 1);
+
+        Sales decodedSales = Decoder.decodeSales(segment, new Menu(), new Sales(), new Ui());
+        Decoder.decodeSales(unarchivedOrders, new Menu(), decodedSales, new Ui());
+
+        assertEquals(SalesArchive.DAYS_PER_SEGMENT + 1, decodedSales.getDayCount());
+        assertEquals(2, decodedSales.getOrderList(0).getSize());
+        assertEquals(1, decodedSales.getOrderList(0).getOrderList().get(0).getQuantity());
+        assertEquals(9, decodedSales.getOrderList(0).getOrderList().get(1).getQuantity());
+        assertEquals(8, decodedSales.getOrderList(7).getOrderList().get(0).getQuantity());
+    }
+
+    @Test
+    void decodeSales_dishWithInvalidPrice_ordersOfLaterDishesKeepTheirDish() {
+        ArrayList<String> fileDataList = new ArrayList<>();
+        fileDataList.add(Encoder.DISH_RECORD + " | 0 | chicken rice | -2.50");
+        fileDataList.add(Encoder.DISH_RECORD + " | 1 | laksa | 4.20");
+        fileDataList.add("1 | 0 | 2 | true");
+        fileDataList.add("1 | 1 | 3 | true");
+        Sales sales = Decoder.decodeSales(fileDataList, new Menu());
+
+        //the order of the rejected dish is rejected instead of being decoded into laksa
+        assertEquals(1, sales.getOrderList(0).getSize());
+        Order order = sales.getOrderList(0).getOrderList().get(0);
+        assertEquals("laksa", order.getDishName());
+        assertEquals(3, order.getQuantity());
+        assertEquals(1260L, order.getTotalOrderCostInCents());
+    }
+
+    @Test
+    void decodeArchiveRecord_encodedArchiveRecord_orderCountOfEveryArchivedDay() throws Exception {
+        ArrayList<Integer> segmentOrderCounts = new ArrayList<>(List.of(3, 0, 5, 1, 0, 0, 2));
+        String archiveRecord = Encoder.encodeArchiveRecord(1, segmentOrderCounts).trim();
+
+        assertTrue(Decoder.isArchiveRecord(archiveRecord));
+        assertEquals(segmentOrderCounts, Decoder.decodeArchiveRecord(archiveRecord, SalesArchive.DAYS_PER_SEGMENT));
+        assertEquals(List.of(), Decoder.decodeArchiveRecord(Encoder.encodeArchiveRecord(0, List.of()).trim(),
+                SalesArchive.DAYS_PER_SEGMENT));
+        //a record that does not hold the orders of every day of its segments has been tampered with
+        assertThrows(Exception.class, () -> Decoder.decodeArchiveRecord(
+                Encoder.encodeArchiveRecord(2, segmentOrderCounts).trim(), SalesArchive.DAYS_PER_SEGMENT));
+    }
+
+    @Test
+    void decodeSales_ordersAfterArchiveRecord_archiveRecordSkipped() {
+        ArrayList<String> fileDataList = new ArrayList<>();
+        fileDataList.add(Encoder.encodeArchiveRecord(0, List.of()).trim());
+        fileDataList.add("1 | chicken rice | 2 | 2.50 | true");
+        Sales sales = Decoder.decodeSales(fileDataList, new Menu());
+
+        assertEquals(1, sales.getDayCount());
+        assertEquals(1, sales.getOrderList(0).getSize());
+    }
+
+    @Test
+    void decodeJournalPosition_encodedJournalPosition_samePositionDecoded() throws Exception {
+        String journalRecord = Encoder.encodeJournalPosition(new JournalPosition(1700000000000L, 42)).trim();
+
+        assertTrue(Decoder.isJournalRecord(journalRecord));
+        JournalPosition journalPosition = Decoder.decodeJournalPosition(journalRecord);
+        assertEquals(1700000000000L, journalPosition.getJournalId());
+        assertEquals(42, journalPosition.getRecordCount());
+        assertThrows(Exception.class, () -> Decoder.decodeJournalPosition(Encoder.JOURNAL_RECORD + " | 5 | -1"));
+    }
 }
@@ -5,8 +5,12 @@ import seedu.cafectrl.ui.ErrorMessages;
 import seedu.cafectrl.ui.Ui;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -45,20 +49,37 @@ public class FileManagerTest {
     }
 
     @Test
-    public void overwriteFile_emptyFilePath_emptyFileInputMessage() {
-        ArrayList<String> actualOutput = new ArrayList<>();
-        Ui ui = new Ui() {
-            @Override
-            public void showToUser(String... message) {
-                actualOutput.addAll(Arrays.asList(message));
-            }
-        };
-        FileManager fileManager = new FileManager(ui);
+    public void overwriteFile_emptyFilePath_ioExceptionWithEmptyFileInputMessageThrown() {
+        FileManager fileManager = new FileManager(new Ui());
 
         String inputFilePath = "";
         ArrayList<String> inputTextList = new ArrayList<>();
 
-        fileManager.overwriteFile(inputFilePath, inputTextList);
-        assertEquals(ErrorMessages.MISSING_FILEPATH, actualOutput.get(0));
+        IOException exception = assertThrows(IOException.class,
+                () -> fileManager.overwriteFile(inputFilePath, inputTextList));
+        assertEquals(ErrorMessages.MISSING_FILEPATH, exception.getMessage());
+    }
+
+    @Test
+    public void overwriteFile_tempFileCannotBeWritten_originalFileKept() throws IOException {
+        FileManager fileManager = new FileManager(new Ui());
+        String inputFilePath = "build/fileManagerTest.txt";
+        //a directory in place of the temporary file makes the write fail before the text file is replaced
+        Path blockedTempFilePath = Paths.get(inputFilePath + ".tmp");
+        Path blockingFilePath = blockedTempFilePath.resolve("blocking.txt");
+
+        try {
+            fileManager.overwriteFile(inputFilePath, new ArrayList<>(List.of("original" + System.lineSeparator())));
+            Files.createDirectories(blockedTempFilePath);
+            Files.createFile(blockingFilePath);
+
+            ArrayList<String> inputTextList = new ArrayList<>(List.of("replacement" + System.lineSeparator()));
+            assertThrows(IOException.class, () -> fileManager.overwriteFile(inputFilePath, inputTextList));
+            assertEquals(List.of("original"), fileManager.readTextFile(inputFilePath));
+        } finally {
+            Files.deleteIfExists(blockingFilePath);
+            Files.deleteIfExists(blockedTempFilePath);
+            Files.deleteIfExists(Paths.get(inputFilePath));
+        }
     }
 }
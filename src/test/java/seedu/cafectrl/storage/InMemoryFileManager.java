@@ -0,0 +1,106 @@
+package seedu.cafectrl.storage;
+
+import seedu.cafectrl.ui.Ui;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+/**
+ * FileManager that keeps the text save files in memory instead of on disk, for storage tests.
+ * Writing to a file can be made to fail, to test how storage recovers from a crash between two writes.
+ */
+class InMemoryFileManager extends FileManager {
+    private final HashMap<String, String> files = new HashMap<>();
+    private final HashSet<String> failingFilePaths = new HashSet<>();
+
+    InMemoryFileManager() {
+        super(new Ui());
+    }
+
+    /**
+     * Makes every write to the file at the specified file path fail, or succeed again
+     *
+     * @param filePath file path of the file
+     * @param isFailing true if writes to the file are to fail, false otherwise
+     */
+    void setWriteFailing(String filePath, boolean isFailing) {
+        if (isFailing) {
+            failingFilePaths.add(filePath);
+        } else {
+            failingFilePaths.remove(filePath);
+        }
+    }
+
+    String getFileContent(String filePath) {
+        return files.get(filePath);
+    }
+
+    void setFileContent(String filePath, String content) {
+        files.put(filePath, content);
+    }
+
+    void deleteFile(String filePath) {
+        files.remove(filePath);
+    }
+
+    private void checkWritable(String filePath) throws IOException {
+        if (failingFilePaths.contains(filePath)) {
+            throw new IOException("No space left on device");
+        }
+    }
+
+    private RecordReader openFile(String filePath, RecordChecksum checksum, boolean hasChecksumLine)
+            throws FileNotFoundException {
+        if (!files.containsKey(filePath)) {
+            throw new FileNotFoundException(filePath + " does not exist");
+        }
+        return new RecordReader(new BufferedReader(new StringReader(files.get(filePath))), checksum,
+                hasChecksumLine);
+    }
+
+    @Override
+    public ArrayList<String> readTextFile(String filePath) throws FileNotFoundException {
+        ArrayList<String> textLines = new ArrayList<>();
+        for (String line : openFile(filePath, new RecordChecksum(), false)) {
+            textLines.add(line);
+        }
+        return textLines;
+    }
+
+    @Override
+    public RecordReader readRecords(String filePath, RecordChecksum checksum) throws FileNotFoundException {
+        return openFile(filePath, checksum, true);
+    }
+
+    @Override
+    public RecordReader readCompressedRecords(String filePath, RecordChecksum checksum) throws IOException {
+        return openFile(filePath, checksum, true);
+    }
+
+    @Override
+    public boolean isFileFound(String filePath) {
+        return files.containsKey(filePath);
+    }
+
+    @Override
+    public void overwriteFile(String filePath, ArrayList<String> listOfTextToAdd) throws IOException {
+        checkWritable(filePath);
+        files.put(filePath, String.join("", listOfTextToAdd));
+    }
+
+    @Override
+    public void writeCompressedFile(String filePath, ArrayList<String> listOfTextToAdd) throws IOException {
+        overwriteFile(filePath, listOfTextToAdd);
+    }
+
+    @Override
+    public void appendToFile(String filePath, String textToAppend) throws IOException {
+        checkWritable(filePath);
+        files.merge(filePath, textToAppend, String::concat);
+    }
+}
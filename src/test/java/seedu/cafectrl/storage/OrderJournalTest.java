@@ -0,0 +1,136 @@
+package seedu.cafectrl.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.cafectrl.data.Order;
+import seedu.cafectrl.data.dish.Dish;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Junit test for OrderJournal.java
+ */
+public class OrderJournalTest {
+    private static final int COMPACTION_THRESHOLD = 1000;
+
+    static ArrayList<Order> createTicket(int orderCount) {
+        Dish chickenRice = new Dish("chicken rice", 250);
+        ArrayList<Order> ticket = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            ticket.add(new Order(chickenRice, 2, 500, true));
+        }
+        return ticket;
+    }
+
+    private static int countJournalRecords(InMemoryFileManager fileManager) {
+        return new OrderJournal(fileManager).readRecords().size();
+    }
+
+    @Test
+    public void appendOrders_batchStarted_recordsHeldBackUntilFlushed() throws IOException {
+        InMemoryFileManager fileManager = new InMemoryFileManager();
+        OrderJournal orderJournal = new OrderJournal(fileManager);
+
+        orderJournal.startBatch();
+        orderJournal.appendOrders(0, createTicket(2));
+        assertNull(fileManager.getFileContent(FilePath.ORDERS_JOURNAL_FILE_PATH));
+
+        orderJournal.flushBatch();
+        assertEquals(2, countJournalRecords(fileManager));
+
+        //the batch goes on after it is flushed
+        orderJournal.appendOrders(0, createTicket(1));
+        assertEquals(2, countJournalRecords(fileManager));
+        orderJournal.endBatch();
+        assertEquals(3, countJournalRecords(fileManager));
+    }
+
+    @Test
+    public void appendDayMarker_sameDayMarkedTwice_markerAppendedOnce() throws IOException {
+        InMemoryFileManager fileManager = new InMemoryFileManager();
+        OrderJournal orderJournal = new OrderJournal(fileManager);
+
+        orderJournal.appendDayMarker(0);
+        orderJournal.appendDayMarker(0);
+        orderJournal.appendDayMarker(1);
+
+        List<String> records = new OrderJournal(fileManager).readRecords();
+        assertEquals(List.of(Encoder.encodeDayMarker(0).trim(), Encoder.encodeDayMarker(1).trim()), records);
+    }
+
+    @Test
+    public void isCompactionDue_thresholdReachedDuringBatch_dueOnceBatchEnds() throws IOException {
+        OrderJournal orderJournal = new OrderJournal(new InMemoryFileManager());
+
+        orderJournal.startBatch();
+        orderJournal.appendOrders(0, createTicket(COMPACTION_THRESHOLD));
+        assertFalse(orderJournal.isCompactionDue());
+
+        orderJournal.endBatch();
+        assertTrue(orderJournal.isCompactionDue());
+    }
+
+    @Test
+    public void clear_journalCannotBeWritten_recordsAndCountKept() throws IOException {
+        InMemoryFileManager fileManager = new InMemoryFileManager();
+        OrderJournal orderJournal = new OrderJournal(fileManager);
+        orderJournal.appendOrders(0, createTicket(COMPACTION_THRESHOLD));
+
+        fileManager.setWriteFailing(FilePath.ORDERS_JOURNAL_FILE_PATH, true);
+        assertThrows(IOException.class, orderJournal::clear);
+
+        assertTrue(orderJournal.isCompactionDue());
+        assertEquals(COMPACTION_THRESHOLD, countJournalRecords(fileManager));
+    }
+
+    @Test
+    public void skipCompactedRecords_positionInSameJournal_recordsBeforePositionSkipped() throws IOException {
+        InMemoryFileManager fileManager = new InMemoryFileManager();
+        OrderJournal orderJournal = new OrderJournal(fileManager);
+        orderJournal.readRecords();
+        orderJournal.appendOrders(0, createTicket(3));
+        JournalPosition compactedPosition = orderJournal.getPosition();
+        orderJournal.appendDayMarker(1);
+
+        OrderJournal reopenedJournal = new OrderJournal(fileManager);
+        List<String> records = reopenedJournal.readRecords();
+
+        assertEquals(4, records.size());
+        assertEquals(List.of(Encoder.encodeDayMarker(1).trim()),
+                reopenedJournal.skipCompactedRecords(records, compactedPosition));
+    }
+
+    @Test
+    public void skipCompactedRecords_positionInClearedJournal_noRecordsSkipped() throws IOException {
+        InMemoryFileManager fileManager = new InMemoryFileManager();
+        OrderJournal orderJournal = new OrderJournal(fileManager);
+        orderJournal.appendOrders(0, createTicket(3));
+        JournalPosition compactedPosition = orderJournal.getPosition();
+        orderJournal.clear();
+        orderJournal.appendOrders(1, createTicket(2));
+
+        OrderJournal reopenedJournal = new OrderJournal(fileManager);
+        List<String> records = reopenedJournal.readRecords();
+
+        assertEquals(2, records.size());
+        assertEquals(records, reopenedJournal.skipCompactedRecords(records, compactedPosition));
+    }
+
+    @Test
+    public void getPosition_recordsHeldBackInBatch_positionBeforeHeldBackRecords() throws IOException {
+        OrderJournal orderJournal = new OrderJournal(new InMemoryFileManager());
+        orderJournal.appendOrders(0, createTicket(2));
+
+        orderJournal.startBatch();
+        orderJournal.appendOrders(0, createTicket(3));
+
+        assertEquals(2, orderJournal.getPosition().getRecordCount());
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.cafectrl.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Junit test for RecordChecksum.java
+ */
+public class RecordChecksumTest {
+    @Test
+    public void update_encodedAndReadRecords_sameChecksum() {
+        RecordChecksum encodedChecksum = new RecordChecksum();
+        encodedChecksum.update("chicken rice | 3.0 | rice - 50 - g" + System.lineSeparator());
+        encodedChecksum.update("1 | chicken rice | 2 | 3.00 | true\r\n");
+
+        RecordChecksum readChecksum = new RecordChecksum();
+        readChecksum.update("chicken rice | 3.0 | rice - 50 - g");
+        readChecksum.update("1 | chicken rice | 2 | 3.00 | true");
+
+        assertEquals(encodedChecksum.getValue(), readChecksum.getValue());
+    }
+
+    @Test
+    public void update_recordsSplitDifferently_differentChecksum() {
+        RecordChecksum checksum = new RecordChecksum();
+        checksum.update("rice | 400 | g");
+
+        RecordChecksum tamperedChecksum = new RecordChecksum();
+        tamperedChecksum.update("rice | 40");
+        tamperedChecksum.update("0 | g");
+
+        assertNotEquals(checksum.getValue(), tamperedChecksum.getValue());
+    }
+
+    @Test
+    public void isLegacyHash_hashSavedByOlderVersions_legacyHashMatches() {
+        List<String> records = List.of("  chicken rice | 3.00 | rice - 50 - g", "", "laksa | 4.20 | noodle - 1 - g  ");
+        RecordChecksum checksum = new RecordChecksum();
+        for (String record : records) {
+            checksum.update(record + System.lineSeparator());
+        }
+
+        //older versions saved the hashCode of the records joined by ", " and trimmed
+        assertTrue(checksum.isLegacyHash(String.join(", ", records).trim().hashCode()));
+        assertFalse(checksum.isLegacyHash(String.join(", ", records).hashCode()));
+        assertTrue(RecordChecksum.isChecksumLine(String.valueOf(-123456789)));
+    }
+}
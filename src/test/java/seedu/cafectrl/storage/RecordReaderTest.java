@@ -0,0 +1,50 @@
+package seedu.cafectrl.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Junit test for RecordReader.java
+ */
+public class RecordReaderTest {
+    private static ArrayList<String> readAll(RecordReader records) {
+        ArrayList<String> lines = new ArrayList<>();
+        for (String line : records) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    @Test
+    public void iterator_fileWithChecksumLine_checksumLineNotReadAsRecord() {
+        RecordChecksum expectedChecksum = new RecordChecksum();
+        expectedChecksum.update("rice | 400 | g");
+        expectedChecksum.update("egg | 3 | g");
+        String fileContent = "rice | 400 | g\negg | 3 | g\n" + expectedChecksum;
+
+        RecordChecksum checksum = new RecordChecksum();
+        RecordReader records = new RecordReader(new BufferedReader(new StringReader(fileContent)), checksum, true);
+
+        assertEquals(List.of("rice | 400 | g", "egg | 3 | g"), readAll(records));
+        assertEquals(expectedChecksum.toString(), records.getChecksumLine());
+        assertEquals(expectedChecksum.getValue(), checksum.getValue());
+    }
+
+    @Test
+    public void iterator_lastLineNotChecksum_lastLineReadAsRecord() {
+        String fileContent = "rice | 400 | g\negg | 3 | g";
+
+        RecordReader records = new RecordReader(new BufferedReader(new StringReader(fileContent)),
+                new RecordChecksum(), true);
+
+        assertEquals(List.of("rice | 400 | g", "egg | 3 | g"), readAll(records));
+        assertNull(records.getChecksumLine());
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.cafectrl.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.cafectrl.data.Order;
+import seedu.cafectrl.data.Sales;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Junit test for SalesArchive.java
+ */
+public class SalesArchiveTest {
+    private static final String FIRST_SEGMENT_FILE_PATH =
+            String.format(FilePath.ORDERS_ARCHIVE_FILE_PATH_FORMAT, 1);
+    private static final String SECOND_SEGMENT_FILE_PATH =
+            String.format(FilePath.ORDERS_ARCHIVE_FILE_PATH_FORMAT, 2);
+
+    private static void addOrders(Sales sales, int day, int orderCount) {
+        for (Order order : OrderJournalTest.createTicket(orderCount)) {
+            sales.getOrderList(day).addOrder(order);
+        }
+    }
+
+    /**
+     * Creates sales with orders on the first and last day of the first week, and the first week closed
+     */
+    private static Sales createSalesWithClosedWeek() {
+        Sales sales = new Sales();
+        addOrders(sales, 0, 3);
+        addOrders(sales, SalesArchive.DAYS_PER_SEGMENT - 1, 2);
+        sales.accountForDay(SalesArchive.DAYS_PER_SEGMENT);
+        return sales;
+    }
+
+    /**
+     * Saves orders.txt the way Storage does, after the closed weeks are archived
+     */
+    private static void saveOrders(InMemoryFileManager fileManager, SalesArchive salesArchive, Sales sales)
+            throws IOException {
+        salesArchive.archiveClosedWeeks(sales);
+        fileManager.overwriteFile(FilePath.ORDERS_FILE_PATH, Encoder.encodeSales(sales,
+                salesArchive::getArchivedOrderCount, salesArchive.encodeArchiveRecord()));
+    }
+
+    @Test
+    public void archiveClosedWeeks_weekClosed_weekFrozenIntoSegment() throws IOException {
+        InMemoryFileManager fileManager = new InMemoryFileManager();
+        SalesArchive salesArchive = new SalesArchive(fileManager);
+        Sales sales = createSalesWithClosedWeek();
+
+        salesArchive.archiveClosedWeeks(sales);
+        String segment = fileManager.getFileContent(FIRST_SEGMENT_FILE_PATH);
+        addOrders(sales, 0, 1);
+        sales.accountForDay(SalesArchive.DAYS_PER_SEGMENT + 1);
+        salesArchive.archiveClosedWeeks(sales);
+
+        assertNotNull(segment);
+        assertEquals(segment, fileManager.getFileContent(FIRST_SEGMENT_FILE_PATH));
+        assertFalse(fileManager.isFileFound(SECOND_SEGMENT_FILE_PATH));
+        assertEquals(3, salesArchive.getArchivedOrderCount(0));
+        assertEquals(2, salesArchive.getArchivedOrderCount(SalesArchive.DAYS_PER_SEGMENT - 1));
+        assertEquals(0, salesArchive.getArchivedOrderCount(SalesArchive.DAYS_PER_SEGMENT));
+    }
+
+    @Test
+    public void decodeOrderListFile_ordersAddedToArchivedDay_everyOrderOfDayLoaded() throws IOException {
+        InMemoryFileManager fileManager = new InMemoryFileManager();
+        SalesArchive salesArchive = new SalesArchive(fileManager);
+        Sales sales = createSalesWithClosedWeek();
+        saveOrders(fileManager, salesArchive, sales);
+        String segment = fileManager.getFileContent(FIRST_SEGMENT_FILE_PATH);
+
+        //orders added to the first day after going back to it with previous_day
+        addOrders(sales, 0, 2);
+        saveOrders(fileManager, salesArchive, sales);
+        LoadedFile<Sales> ordersFile = StorageTest.loadOrders(fileManager);
+
+        assertEquals(segment, fileManager.getFileContent(FIRST_SEGMENT_FILE_PATH));
+        assertFalse(ordersFile.isTampered());
+        assertEquals(5, ordersFile.getData().getOrderCount(0));
+        assertEquals(2, ordersFile.getData().getOrderCount(SalesArchive.DAYS_PER_SEGMENT - 1));
+        assertEquals(SalesArchive.DAYS_PER_SEGMENT, ordersFile.getData().getDaysAccounted());
+    }
+
+    @Test
+    public void decodeOrderListFile_segmentNotRecordedInOrdersFile_segmentIgnored() throws IOException {
+        InMemoryFileManager fileManager = new InMemoryFileManager();
+        Sales sales = createSalesWithClosedWeek();
+        saveOrders(fileManager, new SalesArchive(fileManager), sales);
+
+        //a segment written right before a crash, before orders.txt recorded it
+        fileManager.setFileContent(SECOND_SEGMENT_FILE_PATH, fileManager.getFileContent(FIRST_SEGMENT_FILE_PATH));
+        LoadedFile<Sales> ordersFile = StorageTest.loadOrders(fileManager);
+
+        assertFalse(ordersFile.isTampered());
+        assertEquals(3, ordersFile.getData().getOrderCount(0));
+        assertEquals(0, ordersFile.getData().getOrderCount(SalesArchive.DAYS_PER_SEGMENT));
+        assertEquals(SalesArchive.DAYS_PER_SEGMENT, ordersFile.getData().getDaysAccounted());
+    }
+
+    @Test
+    public void decodeOrderListFile_recordedSegmentMissing_ordersTampered() throws IOException {
+        InMemoryFileManager fileManager = new InMemoryFileManager();
+        Sales sales = createSalesWithClosedWeek();
+        saveOrders(fileManager, new SalesArchive(fileManager), sales);
+
+        fileManager.deleteFile(FIRST_SEGMENT_FILE_PATH);
+        LoadedFile<Sales> ordersFile = StorageTest.loadOrders(fileManager);
+
+        assertTrue(ordersFile.isTampered());
+        assertEquals(0, ordersFile.getData().getOrderCount(0));
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.cafectrl.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.cafectrl.data.Order;
+import seedu.cafectrl.data.OrderList;
+import seedu.cafectrl.data.Sales;
+import seedu.cafectrl.data.dish.Dish;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Junit test for SalesSnapshot.java
+ */
+public class SalesSnapshotTest {
+    private static ByteBuffer encodeSales() {
+        return SalesSnapshot.encodeSales(createSales(), new JournalPosition(0, 0));
+    }
+
+    private static Sales createSales() {
+        Dish chickenRice = new Dish("chicken rice", 250);
+        OrderList firstDay = new OrderList();
+        firstDay.addOrder(new Order(chickenRice, 2, 500, true));
+        firstDay.addOrder(new Order(new Dish("laksa", 420), 1, 420, false));
+        firstDay.addOrder(new Order(chickenRice, 3, 750, true));
+
+        ArrayList<OrderList> orderLists = new ArrayList<>();
+        orderLists.add(firstDay);
+        orderLists.add(new OrderList());
+        return new Sales(orderLists);
+    }
+
+    @Test
+    public void loadOrderList_encodedSales_sameOrdersDecoded() {
+        SalesSnapshot snapshot = SalesSnapshot.open(encodeSales());
+
+        assertEquals(2, snapshot.getDayCount());
+        assertEquals(0, snapshot.loadOrderList(1).getSize());
+        ArrayList<Order> orders = snapshot.loadOrderList(0).getOrderList();
+        assertEquals(3, orders.size());
+        assertEquals("laksa", orders.get(1).getDishName());
+        assertEquals(420L, orders.get(1).getOrderedDish().getPriceInCents());
+        assertEquals(3, orders.get(2).getQuantity());
+        assertTrue(orders.get(0).getIsComplete());
+        assertFalse(orders.get(1).getIsComplete());
+    }
+
+    @Test
+    public void open_encodedWithJournalPosition_journalPositionKept() {
+        SalesSnapshot snapshot = SalesSnapshot.open(SalesSnapshot.encodeSales(createSales(),
+                new JournalPosition(1700000000000L, 42)));
+
+        assertEquals(1700000000000L, snapshot.getJournalPosition().getJournalId());
+        assertEquals(42, snapshot.getJournalPosition().getRecordCount());
+    }
+
+    @Test
+    public void encodeSales_salesOpenedFromSnapshot_onlyLoadedDaysDecoded() {
+        SalesSnapshot previousSnapshot = SalesSnapshot.open(encodeSales());
+        ArrayList<Integer> loadedDays = new ArrayList<>();
+        Sales sales = new Sales(previousSnapshot.getDayCount(), day -> {
+            loadedDays.add(day);
+            return previousSnapshot.loadOrderList(day);
+        });
+        sales.getOrderList(1).addOrder(new Order(new Dish("laksa", 420), 2, 840, true));
+
+        SalesSnapshot snapshot = SalesSnapshot.open(SalesSnapshot.encodeSales(sales, new JournalPosition(0, 0),
+                previousSnapshot));
+
+        //the first day is copied over from the previous snapshot without being loaded
+        assertEquals(List.of(1), loadedDays);
+        ArrayList<Order> firstDayOrders = snapshot.loadOrderList(0).getOrderList();
+        assertEquals(3, firstDayOrders.size());
+        assertEquals("laksa", firstDayOrders.get(1).getDishName());
+        assertEquals(2, snapshot.loadOrderList(1).getOrderList().get(0).getQuantity());
+    }
+
+    @Test
+    public void open_tamperedIndex_illegalStateExceptionThrown() {
+        ByteBuffer buffer = encodeSales();
+        buffer.put(20, (byte) (buffer.get(20) + 1));
+
+        assertThrows(IllegalStateException.class, () -> SalesSnapshot.open(buffer));
+    }
+
+    @Test
+    public void loadOrderList_tamperedDay_illegalStateExceptionThrown() {
+        ByteBuffer buffer = encodeSales();
+        int lastByte = buffer.limit() - 1;
+        buffer.put(lastByte, (byte) (buffer.get(lastByte) + 1));
+        SalesSnapshot snapshot = SalesSnapshot.open(buffer);
+
+        assertEquals(3, snapshot.loadOrderList(0).getSize());
+        assertThrows(IllegalStateException.class, () -> snapshot.loadOrderList(1));
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.cafectrl.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.cafectrl.data.Menu;
+import seedu.cafectrl.data.Order;
+import seedu.cafectrl.data.Sales;
+import seedu.cafectrl.ui.Messages;
+import seedu.cafectrl.ui.Ui;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Junit test for Storage.java
+ */
+public class StorageTest {
+    private static final int COMPACTION_THRESHOLD = 1000;
+
+    static Storage createStorage(InMemoryFileManager fileManager) {
+        Storage storage = new Storage(new Ui());
+        storage.fileManager = fileManager;
+        storage.orderJournal = new OrderJournal(fileManager);
+        storage.salesArchive = new SalesArchive(fileManager);
+        return storage;
+    }
+
+    static LoadedFile<Sales> loadOrders(InMemoryFileManager fileManager) {
+        return createStorage(fileManager).decodeOrderListFile(CompletableFuture.completedFuture(new Menu()));
+    }
+
+    private static void addOrders(Storage storage, Sales sales, int day, int orderCount) throws IOException {
+        ArrayList<Order> ticket = OrderJournalTest.createTicket(orderCount);
+        for (Order order : ticket) {
+            sales.getOrderList(day).addOrder(order);
+        }
+        storage.getOrderJournal().appendOrders(day, ticket);
+    }
+
+    @Test
+    public void decodeOrderListFile_ordersJournaledAfterCompaction_everyOrderLoadedOnce() throws IOException {
+        InMemoryFileManager fileManager = new InMemoryFileManager();
+        Storage storage = createStorage(fileManager);
+        Sales sales = storage.decodeOrderListFile(CompletableFuture.completedFuture(new Menu())).getData();
+        addOrders(storage, sales, 0, COMPACTION_THRESHOLD);
+        storage.compactOrderJournalIfDue(sales);
+        addOrders(storage, sales, 1, 2);
+
+        LoadedFile<Sales> ordersFile = loadOrders(fileManager);
+
+        assertFalse(ordersFile.isTampered());
+        assertEquals(COMPACTION_THRESHOLD, ordersFile.getData().getOrderCount(0));
+        assertEquals(2, ordersFile.getData().getOrderCount(1));
+    }
+
+    @Test
+    public void decodeOrderListFile_journalNotClearedAfterCompaction_compactedOrdersNotReplayed()
+            throws IOException {
+        InMemoryFileManager fileManager = new InMemoryFileManager();
+        Storage storage = createStorage(fileManager);
+        Sales sales = storage.decodeOrderListFile(CompletableFuture.completedFuture(new Menu())).getData();
+        addOrders(storage, sales, 0, COMPACTION_THRESHOLD);
+
+        //orders.txt is written but the journal is left as it was, like after a crash between the two writes
+        fileManager.setWriteFailing(FilePath.ORDERS_JOURNAL_FILE_PATH, true);
+        assertThrows(IOException.class, () -> storage.compactOrderJournalIfDue(sales));
+        fileManager.setWriteFailing(FilePath.ORDERS_JOURNAL_FILE_PATH, false);
+        assertNotNull(fileManager.getFileContent(FilePath.ORDERS_FILE_PATH));
+
+        Sales reloadedSales = loadOrders(fileManager).getData();
+
+        assertEquals(COMPACTION_THRESHOLD, reloadedSales.getOrderCount(0));
+    }
+
+    @Test
+    public void showLoadedMenu_menuSavedWithHashOfOlderVersion_noTamperingShown() {
+        ArrayList<String> records = new ArrayList<>(List.of("chicken rice | 2.50 | rice - 50 - g",
+                "laksa | 4.20 | noodle - 100 - g"));
+        InMemoryFileManager fileManager = new InMemoryFileManager();
+        fileManager.setFileContent(FilePath.MENU_FILE_PATH, String.join(System.lineSeparator(), records)
+                + System.lineSeparator() + String.join(", ", records).trim().hashCode());
+        ArrayList<String> shownMessages = new ArrayList<>();
+        Storage storage = createStorage(fileManager);
+        storage.ui = new Ui() {
+            @Override
+            public void showToUser(String... message) {
+                shownMessages.addAll(List.of(message));
+            }
+        };
+
+        Menu menu = storage.showLoadedMenu(storage.decodeMenuFile());
+
+        assertEquals(2, menu.getSize());
+        assertFalse(shownMessages.contains(Messages.SAVE_FILE_TAMPER_DETECTED));
+    }
+}
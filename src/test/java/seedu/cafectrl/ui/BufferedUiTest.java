@@ -0,0 +1,70 @@
+package seedu.cafectrl.ui;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Junit test for BufferedUi.java
+ */
+public class BufferedUiTest {
+    private static Ui createRecordingUi(ArrayList<String> shownMessages) {
+        return new Ui() {
+            @Override
+            public void showToUser(String... message) {
+                shownMessages.addAll(Arrays.asList(message));
+            }
+        };
+    }
+
+    @Test
+    public void showBufferedMessages_messagesBuffered_messagesShownInOrderOnce() {
+        ArrayList<String> shownMessages = new ArrayList<>();
+        Ui ui = createRecordingUi(shownMessages);
+        BufferedUi bufferedUi = new BufferedUi();
+
+        bufferedUi.showToUser("first");
+        bufferedUi.showToUser("second", "third");
+        assertTrue(shownMessages.isEmpty());
+
+        bufferedUi.showBufferedMessages(ui);
+        bufferedUi.showBufferedMessages(ui);
+        assertEquals(List.of("first", "second", "third"), shownMessages);
+    }
+
+    @Test
+    public void showBufferedMessages_laterFileDecodedFirst_messagesShownInFileOrder() {
+        ArrayList<String> shownMessages = new ArrayList<>();
+        Ui ui = createRecordingUi(shownMessages);
+        BufferedUi pantryMessages = new BufferedUi();
+        BufferedUi menuMessages = new BufferedUi();
+        CountDownLatch menuDecoded = new CountDownLatch(1);
+
+        //the pantry file is only done decoding after the menu file, like a large pantry file would
+        CompletableFuture<Void> pantryDecoding = CompletableFuture.runAsync(() -> {
+            try {
+                menuDecoded.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            pantryMessages.showToUser("pantry loaded");
+        });
+        CompletableFuture<Void> menuDecoding = CompletableFuture.runAsync(() -> {
+            menuMessages.showToUser("menu loaded");
+            menuDecoded.countDown();
+        });
+
+        pantryDecoding.join();
+        pantryMessages.showBufferedMessages(ui);
+        menuDecoding.join();
+        menuMessages.showBufferedMessages(ui);
+        assertEquals(List.of("pantry loaded", "menu loaded"), shownMessages);
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.cafectrl.ui;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Junit test for Ui.java
+ */
+public class UiTest {
+    @Test
+    public void showToUser_quietUi_nothingPrinted() {
+        Ui quietUi = new Ui(true);
+        Ui ui = new Ui();
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(baos));
+
+        quietUi.showToUser("discarded");
+        quietUi.formatListMenu("Chicken Rice", "$2.50");
+        ui.showToUser("shown");
+
+        System.setOut(originalOut);
+        assertEquals("shown", baos.toString().trim());
+    }
+}